@@ -0,0 +1,52 @@
+package com.placement.expo;
+
+import com.placement.expo.repository.JobRepository;
+import com.placement.expo.service.JobSearchIndex;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Random;
+
+/**
+ * The application running against an in-memory H2 database seeded with generated jobs,
+ * started once per benchmark fork. Benchmarks that need Spring beans take it as a
+ * {@code @Setup} parameter.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkApplication {
+
+    @Param("20000")
+    public int jobs;
+
+    private ConfigurableApplicationContext context;
+
+    @Setup(Level.Trial)
+    public void start() {
+        // Command-line arguments, so they win over application.properties
+        context = new SpringApplicationBuilder(PlacementExpoApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.placement.expo=WARN",
+                "--sentry.dsn=");
+        BenchmarkData.seedJobs(context.getBean(JobRepository.class), jobs, new Random(42));
+        context.getBean(JobSearchIndex.class).rebuild();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+}
@@ -0,0 +1,179 @@
+package com.placement.expo;
+
+import com.placement.expo.domain.Job;
+import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.repository.JobRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Generated data shaped like production: campus job postings, student resumes, profiles in
+ * every state of completion and ATS results. Everything is drawn from a seeded {@link Random},
+ * so runs are comparable.
+ */
+public final class BenchmarkData {
+
+    private static final String[] TITLES = {
+        "Software Engineer", "Backend Developer", "Frontend Developer", "Full Stack Developer",
+        "Data Analyst", "Data Scientist", "DevOps Engineer", "Cloud Engineer", "Mobile Developer",
+        "QA Engineer", "Machine Learning Engineer", "Product Analyst", "Site Reliability Engineer"
+    };
+    private static final String[] LEVELS = {"", "Junior ", "Associate ", "Senior ", "Lead "};
+    private static final String[] COMPANY_PREFIXES = {
+        "Infi", "Tata", "Wipro", "Zen", "Quantum", "Blue", "Nova", "Pixel", "Cloud", "Data", "Hyper", "Bright"
+    };
+    private static final String[] COMPANY_SUFFIXES = {"soft", "tech", "labs", "systems", "works", "logic", "sys"};
+    private static final String[] LOCATIONS = {
+        "Bangalore", "Hyderabad", "Pune", "Chennai", "Mumbai", "Delhi NCR", "Kolkata", "Remote"
+    };
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "Python", "Django", "JavaScript", "TypeScript", "React", "Angular", "Node.js",
+        "SQL", "PostgreSQL", "MongoDB", "Redis", "Kafka", "Docker", "Kubernetes", "AWS", "Azure", "GCP",
+        "Terraform", "Git", "Linux", "REST", "GraphQL", "Microservices", "C++", "Go", "Kotlin", "Swift",
+        "Flutter", "Pandas", "NumPy", "TensorFlow", "PyTorch", "scikit-learn", "Tableau", "Power BI",
+        "Excel", "Selenium", "CI/CD"
+    };
+    private static final String[] ACTION_VERBS = {
+        "Developed", "Designed", "Implemented", "Optimized", "Led", "Built", "Automated", "Migrated", "Reduced", "Improved"
+    };
+    private static final String[] OUTCOMES = {
+        "reducing page load time by %d%%", "serving %d,000 daily users", "cutting infrastructure cost by %d%%",
+        "improving test coverage to %d%%", "processing %d million events a day", "shortening release cycles by %d days"
+    };
+
+    private BenchmarkData() {
+    }
+
+    /**
+     * Saves {@code count} open and closed job postings in batches
+     */
+    public static void seedJobs(JobRepository repository, int count, Random random) {
+        List<Job> batch = new ArrayList<>(1000);
+        for (int i = 0; i < count; i++) {
+            String title = pick(LEVELS, random) + pick(TITLES, random);
+            batch.add(Job.builder()
+                    .title(title)
+                    .company(pick(COMPANY_PREFIXES, random) + pick(COMPANY_SUFFIXES, random) + " " + (i % 97))
+                    .description("We are hiring a " + title + " to build and run " + skills(3, random)
+                            + " services for our customers. You will work with " + skills(2, random) + ".")
+                    .requirements(skills(5, random))
+                    .location(pick(LOCATIONS, random))
+                    .type(Job.JobType.values()[random.nextInt(Job.JobType.values().length)])
+                    .status(random.nextInt(10) < 7 ? Job.JobStatus.OPEN : Job.JobStatus.CLOSED)
+                    .salary(300_000d + random.nextInt(40) * 50_000d)
+                    .build());
+            if (batch.size() == 1000) {
+                repository.saveAll(batch);
+                batch.clear();
+            }
+        }
+        repository.saveAll(batch);
+    }
+
+    /**
+     * A plain-text resume with the usual sections, {@code roles} experience entries and
+     * around a page of text for every four roles
+     */
+    public static String resume(int roles, Random random) {
+        StringBuilder resume = new StringBuilder(4096);
+        resume.append("Aarav Sharma\n")
+                .append("aarav.sharma@example.com | +91 98").append(10_000_000 + random.nextInt(89_999_999))
+                .append(" | linkedin.com/in/aarav-sharma | github.com/aarav-sharma\n\n");
+        resume.append("Summary\n")
+                .append("Final year Computer Science student with hands-on experience in ")
+                .append(skills(4, random)).append(".\n\n");
+        resume.append("Education\n")
+                .append("B.Tech in Computer Science, National Institute of Technology, CGPA ")
+                .append(6 + random.nextInt(4)).append('.').append(random.nextInt(100)).append(" / 10, 2021 - 2025\n")
+                .append("Class XII, CBSE, ").append(80 + random.nextInt(20)).append("%, 2021\n\n");
+        resume.append("Experience\n");
+        for (int i = 0; i < roles; i++) {
+            resume.append(pick(TITLES, random)).append(" Intern, ")
+                    .append(pick(COMPANY_PREFIXES, random)).append(pick(COMPANY_SUFFIXES, random))
+                    .append(", ").append(pick(LOCATIONS, random)).append(", ")
+                    .append(2021 + i % 4).append('\n');
+            for (int j = 0; j < 4; j++) {
+                resume.append("- ").append(pick(ACTION_VERBS, random)).append(" a ")
+                        .append(skills(2, random)).append(" service, ")
+                        .append(String.format(pick(OUTCOMES, random), 5 + random.nextInt(90))).append('\n');
+            }
+        }
+        resume.append("\nProjects\n");
+        for (int i = 0; i < Math.max(2, roles / 2); i++) {
+            resume.append("Project ").append(i + 1).append(": ").append(pick(TITLES, random)).append(" toolkit\n")
+                    .append("- ").append(pick(ACTION_VERBS, random)).append(" with ").append(skills(3, random))
+                    .append(", ").append(String.format(pick(OUTCOMES, random), 5 + random.nextInt(90))).append('\n');
+        }
+        resume.append("\nSkills\n").append(skills(12, random)).append("\n\n");
+        resume.append("Certifications\n")
+                .append("AWS Certified Cloud Practitioner, 2024\n")
+                .append("Oracle Certified Java Programmer, 2023\n");
+        return resume.toString();
+    }
+
+    /**
+     * A profile with each optional field filled with probability {@code fillRate}
+     */
+    public static UserProfileSimple profile(double fillRate, Random random) {
+        return UserProfileSimple.builder()
+                .appwriteUserId("bench" + random.nextInt(1_000_000))
+                .firstName(random.nextDouble() < fillRate ? "Aarav" : " ")
+                .lastName(random.nextDouble() < fillRate ? "Sharma" : null)
+                .email(random.nextDouble() < fillRate ? "aarav.sharma@example.com" : "")
+                .phone(random.nextDouble() < fillRate ? "+91 9876543210" : null)
+                .department(random.nextDouble() < fillRate ? "Computer Science" : null)
+                .currentYear(random.nextDouble() < fillRate ? 1 + random.nextInt(4) : null)
+                .currentCgpa(random.nextDouble() < fillRate ? BigDecimal.valueOf(600 + random.nextInt(400), 2) : null)
+                .resumeUrl(random.nextDouble() < fillRate ? "/api/v1/resumes/resume.pdf" : null)
+                .linkedinUrl(random.nextDouble() < fillRate ? "https://linkedin.com/in/aarav-sharma" : null)
+                .githubUrl(random.nextDouble() < fillRate ? "https://github.com/aarav-sharma" : "  ")
+                .build();
+    }
+
+    /**
+     * An ATS result with {@code items} strengths, weaknesses and improvements
+     */
+    public static AtsScoreResult atsResult(int items, Random random) {
+        List<String> strengths = new ArrayList<>();
+        List<String> weaknesses = new ArrayList<>();
+        List<String> improvements = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            strengths.add("Relevant experience with " + skills(2, random) + " highlighted effectively");
+            weaknesses.add("Content lacks specific achievements for the " + pick(TITLES, random) + " role");
+            improvements.add("Add quantifiable results such as " + String.format(pick(OUTCOMES, random), 10 + i));
+        }
+        Map<String, Integer> categoryScores = new LinkedHashMap<>();
+        for (String category : new String[] {"format", "content", "keywords", "skills"}) {
+            categoryScores.put(category, 40 + random.nextInt(60));
+        }
+        return AtsScoreResult.builder()
+                .overallScore(40 + random.nextInt(60))
+                .categoryScores(categoryScores)
+                .strengths(strengths)
+                .weaknesses(weaknesses)
+                .improvements(improvements)
+                .detectedSkills(List.of(skills(10, random).split(", ")))
+                .build();
+    }
+
+    private static String skills(int count, Random random) {
+        StringBuilder skills = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                skills.append(", ");
+            }
+            skills.append(pick(SKILLS, random));
+        }
+        return skills.toString();
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,109 @@
+package com.placement.expo;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Runs the benchmarks, writes JMH's JSON results and fails when any benchmark is slower than
+ * its baseline by more than the threshold.
+ * <p>
+ * System properties:
+ * <ul>
+ *   <li>{@code benchmark.include}: regex of benchmarks to run, all by default</li>
+ *   <li>{@code benchmark.results}: where the JMH results go, {@code target/jmh-results.json}</li>
+ *   <li>{@code benchmark.baseline}: the baseline to compare against, {@code src/jmh/resources/benchmark-baseline.json}</li>
+ *   <li>{@code benchmark.threshold}: the allowed slowdown as a fraction, 0.25 by default</li>
+ *   <li>{@code benchmark.update-baseline}: when true, replace the baseline with this run's scores</li>
+ * </ul>
+ * Baselines are only comparable on the machine they were recorded on; record one there first.
+ * Without a baseline the run fails rather than silently recording the current scores as one.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Path results = Path.of(System.getProperty("benchmark.results", "target/jmh-results.json"));
+        Path baseline = Path.of(System.getProperty("benchmark.baseline", "src/jmh/resources/benchmark-baseline.json"));
+        double threshold = Double.parseDouble(System.getProperty("benchmark.threshold", "0.25"));
+        boolean updateBaseline = Boolean.getBoolean("benchmark.update-baseline");
+        if (!updateBaseline && !Files.exists(baseline)) {
+            System.err.println("No benchmark baseline at " + baseline + ", so regressions cannot be detected. "
+                    + "Record one on this machine with -Dbenchmark.update-baseline=true.");
+            System.exit(2);
+        }
+
+        Files.createDirectories(results.toAbsolutePath().getParent());
+        Options options = new OptionsBuilder()
+                .include(System.getProperty("benchmark.include", "com\\.placement\\.expo\\..*Benchmark"))
+                .resultFormat(ResultFormatType.JSON)
+                .result(results.toString())
+                .build();
+        new Runner(options).run();
+
+        TreeMap<String, Double> scores = scores(results);
+        if (updateBaseline) {
+            Files.createDirectories(baseline.toAbsolutePath().getParent());
+            Files.writeString(baseline, new JSONObject(scores).toString(2) + "\n", StandardCharsets.UTF_8);
+            System.out.println("Recorded a new baseline with " + scores.size() + " benchmarks in " + baseline);
+            return;
+        }
+
+        JSONObject expected = new JSONObject(Files.readString(baseline, StandardCharsets.UTF_8));
+        List<String> regressions = new ArrayList<>();
+        scores.forEach((key, score) -> {
+            if (!expected.has(key)) {
+                System.out.println("No baseline for " + key + ", not compared");
+                return;
+            }
+            double base = expected.getDouble(key);
+            double change = (score - base) / base;
+            String line = String.format("%-100s %12.3f -> %12.3f (%+.1f%%)", key, base, score, change * 100);
+            System.out.println(line);
+            if (change > threshold) {
+                regressions.add(line);
+            }
+        });
+        if (!regressions.isEmpty()) {
+            System.err.printf("%d benchmarks regressed by more than %.0f%%:%n", regressions.size(), threshold * 100);
+            regressions.forEach(System.err::println);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * @return Each benchmark's score in time per operation, keyed by name, mode, unit and
+     *         parameters; throughput is inverted so that higher always means slower
+     */
+    private static TreeMap<String, Double> scores(Path results) throws IOException {
+        TreeMap<String, Double> scores = new TreeMap<>();
+        JSONArray runs = new JSONArray(Files.readString(results, StandardCharsets.UTF_8));
+        for (int i = 0; i < runs.length(); i++) {
+            JSONObject run = runs.getJSONObject(i);
+            JSONObject metric = run.getJSONObject("primaryMetric");
+            StringBuilder key = new StringBuilder(run.getString("benchmark"))
+                    .append(' ').append(run.getString("mode"))
+                    .append(' ').append(metric.getString("scoreUnit"));
+            JSONObject params = run.optJSONObject("params");
+            if (params != null) {
+                new TreeMap<>(params.toMap()).forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+            }
+            double score = metric.getDouble("score");
+            scores.put(key.toString(), "thrpt".equals(run.getString("mode")) ? 1 / score : score);
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,46 @@
+package com.placement.expo.model;
+
+import com.placement.expo.BenchmarkData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the summary text stored with every ATS result
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AtsScoreResultBenchmark {
+
+    /** Strengths and weaknesses each; the engine produces up to five */
+    @Param({"2", "5"})
+    public int items;
+
+    private AtsScoreResult result;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        result = BenchmarkData.atsResult(items, new Random(42));
+    }
+
+    @Benchmark
+    public String getSummary() {
+        return result.getSummary();
+    }
+}
@@ -0,0 +1,63 @@
+package com.placement.expo.service;
+
+import com.placement.expo.BenchmarkApplication;
+import com.placement.expo.BenchmarkData;
+import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.model.ResumeDocument;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The scoring {@link AtsScoreService} runs on a cache miss: extracting and tokenizing the
+ * resume, then scoring it
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AtsScoringBenchmark {
+
+    /** Experience entries in the resume; four are about a page */
+    @Param({"2", "8"})
+    public int roles;
+
+    private AtsScoringEngine engine;
+    private byte[] resume;
+    private ResumeDocument document;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) throws IOException {
+        engine = application.getBean(AtsScoringEngine.class);
+        resume = BenchmarkData.resume(roles, new Random(42)).getBytes(StandardCharsets.UTF_8);
+        document = application.getBean(ResumeTextExtractor.class)
+                .extract(new ByteArrayInputStream(resume), "resume.txt");
+    }
+
+    @Benchmark
+    public AtsScoreResult extractAndScore() throws IOException {
+        return engine.score(new ByteArrayInputStream(resume), "resume.txt");
+    }
+
+    @Benchmark
+    public AtsScoreResult scoreTokenized() {
+        return engine.score(document);
+    }
+}
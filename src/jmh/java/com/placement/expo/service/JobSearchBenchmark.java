@@ -0,0 +1,53 @@
+package com.placement.expo.service;
+
+import com.placement.expo.BenchmarkApplication;
+import com.placement.expo.domain.Job;
+import com.placement.expo.model.JobSearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job search over the jobs seeded into the embedded H2 database, as served by
+ * {@code /api/v1/jobs/search}
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobSearchBenchmark {
+
+    /** A common word, a typed prefix and a multi-word query with a partial last word */
+    @Param({"java", "kube", "senior backend bang"})
+    public String query;
+
+    private JobSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkApplication application) {
+        index = application.getBean(JobSearchIndex.class);
+    }
+
+    @Benchmark
+    public JobSearchResult search() {
+        return index.search(query, null, null, 0, 20);
+    }
+
+    @Benchmark
+    public JobSearchResult searchOpenFullTime() {
+        return index.search(query, Job.JobType.FULL_TIME, Job.JobStatus.OPEN, 0, 20);
+    }
+}
@@ -0,0 +1,55 @@
+package com.placement.expo.service;
+
+import com.placement.expo.BenchmarkData;
+import com.placement.expo.entity.UserProfileSimple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Profile completion as computed on every profile save, over profiles in every state of
+ * completion so the branches are not all predicted the same way
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProfileCompletionBenchmark {
+
+    private static final int PROFILES = 1024;
+
+    private UserProfileSimple[] profiles;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        profiles = new UserProfileSimple[PROFILES];
+        for (int i = 0; i < PROFILES; i++) {
+            profiles[i] = BenchmarkData.profile(random.nextDouble(), random);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PROFILES)
+    public int calculateCompletionPercentage() {
+        int total = 0;
+        for (UserProfileSimple profile : profiles) {
+            total += UserProfileSimpleService.calculateCompletionPercentage(profile);
+        }
+        return total;
+    }
+}
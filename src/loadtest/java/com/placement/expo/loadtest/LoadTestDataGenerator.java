@@ -0,0 +1,242 @@
+package com.placement.expo.loadtest;
+
+import com.placement.expo.PlacementExpoApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Fills the H2 file database with a synthetic campus: students ({@code lt-0}, {@code lt-1}, ...),
+ * companies, job postings and the applications of roughly two in five students. The app is
+ * started once without traffic so Flyway creates the schema, then rows are written with batched
+ * JDBC inserts; stop the app before generating, since the file database allows one process.
+ * <p>
+ * Runs are additive: students, companies and jobs that already exist are kept, so growing
+ * from 10k to 100k students only writes the difference. Derived data (placement statistics,
+ * the search indexes) is rebuilt from these tables when the app next starts.
+ * <p>
+ * System properties:
+ * <ul>
+ *   <li>{@code loadtest.students}: total students, 10000 by default (10k to 1M is the intended range)</li>
+ *   <li>{@code loadtest.datasource-url}: the database, the app's default {@code jdbc:h2:file:./data/placement_expo}</li>
+ *   <li>{@code loadtest.seed}: the random seed, 42 by default</li>
+ * </ul>
+ */
+public final class LoadTestDataGenerator {
+
+    static final String STUDENT_PREFIX = "lt-";
+    private static final String COMPANY_PREFIX = "LoadTest Company ";
+    private static final int BATCH_SIZE = 5_000;
+
+    private static final String[] FIRST_NAMES = {
+        "Aarav", "Vivaan", "Aditya", "Ananya", "Diya", "Ishaan", "Kavya", "Meera", "Rohan", "Saanvi", "Arjun", "Priya"
+    };
+    private static final String[] LAST_NAMES = {
+        "Sharma", "Verma", "Iyer", "Reddy", "Nair", "Patel", "Gupta", "Singh", "Das", "Menon", "Kulkarni", "Joshi"
+    };
+    private static final String[] DEPARTMENTS = {
+        "Computer Science", "Information Technology", "Electronics", "Electrical", "Mechanical", "Civil"
+    };
+    private static final String[] INDUSTRIES = {"IT Services", "Product", "Fintech", "Consulting", "Manufacturing", "E-commerce"};
+    private static final String[] LOCATIONS = {"Bangalore", "Hyderabad", "Pune", "Chennai", "Mumbai", "Delhi NCR", "Remote"};
+    private static final String[] TITLES = {
+        "Software Engineer", "Backend Developer", "Frontend Developer", "Full Stack Developer", "Data Analyst",
+        "Data Scientist", "DevOps Engineer", "Cloud Engineer", "QA Engineer", "Machine Learning Engineer"
+    };
+    private static final String[] LEVELS = {"", "Junior ", "Associate ", "Senior "};
+    private static final String[] SKILLS = {
+        "Java", "Spring Boot", "Python", "React", "Node.js", "SQL", "AWS", "Docker", "Kubernetes", "Go",
+        "TypeScript", "Kafka", "MongoDB", "Pandas", "TensorFlow", "Selenium", "Azure", "Linux"
+    };
+    private static final String[] JOB_TYPES = {"FULL_TIME", "FULL_TIME", "FULL_TIME", "INTERNSHIP", "CONTRACT", "PART_TIME"};
+    private static final String[] COMPANY_SIZES = {"STARTUP", "SMALL", "MEDIUM", "LARGE", "ENTERPRISE"};
+    /** Weighted like a placement season in progress: most applications are still open */
+    private static final String[] APPLICATION_STATUSES = {
+        "APPLIED", "APPLIED", "APPLIED", "SCREENING", "SCREENING", "INTERVIEW", "INTERVIEW", "REJECTED", "REJECTED", "SELECTED"
+    };
+
+    private LoadTestDataGenerator() {
+    }
+
+    public static void main(String[] args) {
+        int students = Integer.getInteger("loadtest.students", 10_000);
+        String url = System.getProperty("loadtest.datasource-url", "jdbc:h2:file:./data/placement_expo");
+        Random random = new Random(Long.getLong("loadtest.seed", 42L));
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PlacementExpoApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.jpa.show-sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.level.root=WARN",
+                "--logging.level.com.placement.expo=WARN",
+                "--sentry.dsn=")) {
+            JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+            long start = System.currentTimeMillis();
+            List<String> companies = companies(jdbc, Math.max(50, students / 200), random);
+            jobs(jdbc, Math.max(1_000, students / 10), companies, random);
+            students(jdbc, students, random);
+            System.out.printf("Generated data for %d students in %ds%n", students, (System.currentTimeMillis() - start) / 1000);
+        }
+    }
+
+    /**
+     * @return The names of all generated companies, in ID order
+     */
+    private static List<String> companies(JdbcTemplate jdbc, int target, Random random) {
+        int existing = count(jdbc, "SELECT COUNT(*) FROM companies WHERE company_name LIKE '" + COMPANY_PREFIX + "%'");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = existing; i < target; i++) {
+            int highest = 600_000 + random.nextInt(40) * 100_000;
+            rows.add(new Object[] {
+                COMPANY_PREFIX + i, pick(INDUSTRIES, random), pick(COMPANY_SIZES, random), pick(LOCATIONS, random),
+                "hr" + i + "@loadtest.example.com", true, true, true,
+                BigDecimal.valueOf(600 + random.nextInt(200), 2), random.nextInt(3),
+                BigDecimal.valueOf(highest / 2), BigDecimal.valueOf(highest), 5 + random.nextInt(50), now, now
+            });
+        }
+        insert(jdbc, "companies", "INSERT INTO companies (id, company_name, industry, company_size, headquarters_location, "
+                + "hr_email, campus_recruitment, is_active, is_verified, min_cgpa_requirement, allowed_backlogs, "
+                + "average_package, highest_package, total_openings, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        return jdbc.queryForList("SELECT company_name FROM companies WHERE company_name LIKE '" + COMPANY_PREFIX + "%' ORDER BY id",
+                String.class);
+    }
+
+    private static void jobs(JdbcTemplate jdbc, int target, List<String> companies, Random random) {
+        int existing = count(jdbc, "SELECT COUNT(*) FROM jobs WHERE company LIKE '" + COMPANY_PREFIX + "%'");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = existing; i < target; i++) {
+            String title = pick(LEVELS, random) + pick(TITLES, random);
+            rows.add(new Object[] {
+                title, "Join us as a " + title + " working on " + skills(3, random) + ".",
+                companies.get(random.nextInt(companies.size())), pick(JOB_TYPES, random),
+                random.nextInt(10) < 7 ? "OPEN" : "CLOSED", pick(LOCATIONS, random),
+                300_000d + random.nextInt(40) * 50_000d, skills(5, random), now, now
+            });
+        }
+        insert(jdbc, "jobs", "INSERT INTO jobs (id, title, description, company, type, status, location, salary, "
+                + "requirements, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    /**
+     * Students are written a batch at a time, each with their full profile and, for those
+     * who applied, their applications, so memory stays flat at a million students
+     */
+    private static void students(JdbcTemplate jdbc, int target, Random random) {
+        int existing = count(jdbc, "SELECT COUNT(*) FROM user_profiles_simple WHERE appwrite_user_id LIKE '" + STUDENT_PREFIX + "%'");
+        List<Long> companies = jdbc.queryForList(
+                "SELECT id FROM companies WHERE company_name LIKE '" + COMPANY_PREFIX + "%'", Long.class);
+        for (int from = existing; from < target; from += BATCH_SIZE) {
+            int to = Math.min(target, from + BATCH_SIZE);
+            List<Object[]> simple = new ArrayList<>();
+            List<Object[]> full = new ArrayList<>();
+            List<int[]> applicants = new ArrayList<>();
+            for (int n = from; n < to; n++) {
+                String appwriteUserId = STUDENT_PREFIX + n;
+                String firstName = pick(FIRST_NAMES, random);
+                String lastName = pick(LAST_NAMES, random);
+                String department = pick(DEPARTMENTS, random);
+                int year = 1 + random.nextInt(4);
+                BigDecimal cgpa = BigDecimal.valueOf(550 + random.nextInt(450), 2);
+                int backlogs = random.nextInt(10) < 8 ? 0 : 1 + random.nextInt(3);
+                Timestamp created = Timestamp.valueOf(LocalDateTime.now().minusDays(random.nextInt(365)));
+                boolean analyzed = random.nextBoolean();
+                simple.add(new Object[] {
+                    appwriteUserId, appwriteUserId + "@loadtest.example.com", firstName, lastName,
+                    "+91 9" + (100_000_000 + random.nextInt(899_999_999)), department, year, cgpa, backlogs,
+                    analyzed ? "/api/v1/resumes/" + appwriteUserId + ".pdf" : null,
+                    analyzed ? 40 + random.nextInt(60) : null,
+                    analyzed ? "Overall ATS Score" : null,
+                    analyzed ? 100 : 70, created, created
+                });
+                if (random.nextInt(5) < 2) {
+                    full.add(new Object[] {
+                        appwriteUserId, firstName, lastName, department, "BTech", year * 2 - 1, year, cgpa, backlogs,
+                        created, created
+                    });
+                    applicants.add(new int[] {n, 1 + random.nextInt(5)});
+                }
+            }
+            insert(jdbc, "user_profiles_simple", "INSERT INTO user_profiles_simple (id, appwrite_user_id, email, first_name, "
+                    + "last_name, phone, department, current_year, current_cgpa, backlogs, resume_url, ats_score, "
+                    + "ats_feedback, profile_completion_percentage, created_at, updated_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", simple);
+            long firstProfile = insert(jdbc, "user_profiles", "INSERT INTO user_profiles (id, appwrite_user_id, first_name, "
+                    + "last_name, department, course, current_semester, current_year, current_cgpa, backlogs, created_at, "
+                    + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", full);
+
+            List<Object[]> applications = new ArrayList<>();
+            for (int i = 0; i < applicants.size(); i++) {
+                for (int a = 0; a < applicants.get(i)[1]; a++) {
+                    String status = pick(APPLICATION_STATUSES, random);
+                    LocalDateTime applied = LocalDateTime.now().minusDays(random.nextInt(90)).minusMinutes(random.nextInt(1440));
+                    boolean interviewed = !status.equals("APPLIED") && !status.equals("SCREENING");
+                    applications.add(new Object[] {
+                        firstProfile + i, companies.get(random.nextInt(companies.size())), pick(TITLES, random), "CAMPUS", status,
+                        Timestamp.valueOf(applied), interviewed ? Timestamp.valueOf(applied.plusDays(7)) : null,
+                        status.equals("SELECTED") ? BigDecimal.valueOf(400_000 + random.nextInt(30) * 50_000L) : null,
+                        "INR", Timestamp.valueOf(applied)
+                    });
+                }
+            }
+            insert(jdbc, "job_applications", "INSERT INTO job_applications (id, user_profile_id, company_id, position_title, "
+                    + "application_source, status, application_date, interview_date, offered_package, package_currency, "
+                    + "updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", applications);
+            System.out.printf("Students %d-%d: %d with applications, %d applications%n",
+                    from, to - 1, applicants.size(), applications.size());
+        }
+    }
+
+    /**
+     * Inserts rows with explicit IDs after the current maximum, then moves the table's identity
+     * past them so rows the app creates later do not collide
+     *
+     * @param rows Values without the ID, which is prepended
+     * @return The first ID used
+     */
+    private static long insert(JdbcTemplate jdbc, String table, String sql, List<Object[]> rows) {
+        long first = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table, Long.class);
+        if (rows.isEmpty()) {
+            return first;
+        }
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>();
+            for (int i = from; i < Math.min(rows.size(), from + BATCH_SIZE); i++) {
+                Object[] values = rows.get(i);
+                Object[] withId = new Object[values.length + 1];
+                withId[0] = first + i;
+                System.arraycopy(values, 0, withId, 1, values.length);
+                batch.add(withId);
+            }
+            jdbc.batchUpdate(sql, batch);
+        }
+        jdbc.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (first + rows.size()));
+        return first;
+    }
+
+    private static int count(JdbcTemplate jdbc, String sql) {
+        return jdbc.queryForObject(sql, Integer.class);
+    }
+
+    private static String skills(int count, Random random) {
+        StringBuilder skills = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            skills.append(i > 0 ? ", " : "").append(pick(SKILLS, random));
+        }
+        return skills.toString();
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
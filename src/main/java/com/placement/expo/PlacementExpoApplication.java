@@ -3,11 +3,13 @@ package com.placement.expo;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Info;
 
 @SpringBootApplication
 @EnableConfigurationProperties
+@EnableScheduling
 @OpenAPIDefinition(
     info = @Info(
         title = "Placement Expo API",
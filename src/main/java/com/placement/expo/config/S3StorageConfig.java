@@ -0,0 +1,54 @@
+package com.placement.expo.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+
+import java.net.URI;
+
+/**
+ * S3 (or S3-compatible, e.g. MinIO) resume storage, enabled with {@code app.storage.type=s3}.
+ * Credentials come from the default AWS chain: environment, profile or instance role.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+@ConfigurationProperties(prefix = "app.storage.s3")
+@Getter
+@Setter
+public class S3StorageConfig {
+    private String bucket;
+    private String region = "us-east-1";
+    /** Only needed for S3-compatible services */
+    private String endpoint;
+    private boolean pathStyleAccess;
+    /** Prepended to every stored file name */
+    private String prefix = "resumes/";
+    /** Multipart part size; S3 requires at least 5MB for all but the last part */
+    private DataSize partSize = DataSize.ofMegabytes(8);
+    /** Parts of a single upload sent at the same time */
+    private int uploadParallelism = 4;
+
+    @Bean(destroyMethod = "close")
+    public S3Client s3Client() {
+        S3ClientBuilder builder = S3Client.builder()
+                .region(Region.of(region))
+                .credentialsProvider(DefaultCredentialsProvider.create())
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(pathStyleAccess)
+                        .build());
+        if (StringUtils.hasText(endpoint)) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+}
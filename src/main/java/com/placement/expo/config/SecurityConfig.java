@@ -46,6 +46,11 @@ public class SecurityConfig {
                 "/api/v1/applications/**",    // Allow access to applications API
                 "/api/v1/upload/**",          // Allow access to file upload API
                 "/api/v1/ats/**",             // Allow access to ATS analysis API
+                "/api/v1/resumes/**",         // Allow access to resume downloads
+                "/api/v1/suggest/**",         // Allow access to typeahead suggestions
+                "/api/v1/eligibility/**",     // Allow access to drive eligibility
+                "/api/v1/profile-views/**",   // Allow access to full profiles and recruiter cards
+                "/api/v1/recruiter/**",       // Allow access to recruiter search
                 "/uploads/**",                // Allow access to uploaded files
                 "/h2-console/**",             // Allow access to H2 console
                 "/error"  // Allow access to error page
@@ -93,7 +98,8 @@ public class SecurityConfig {
             "X-Requested-With",
             "Accept",
             "X-Appwrite-User-Id",      // Add Appwrite headers
-            "X-Appwrite-User-Email"    // Add Appwrite headers
+            "X-Appwrite-User-Email",   // Add Appwrite headers
+            "X-File-Name"              // Original name for the streaming resume upload
         ));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L); // Cache preflight response for 1 hour
@@ -1,9 +1,15 @@
 package com.placement.expo.controller;
 
+import com.placement.expo.model.AtsRescoreRun;
 import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.model.AtsScoringJob;
+import com.placement.expo.model.JobMatch;
 import com.placement.expo.service.AtsAnalysisService;
+import com.placement.expo.service.AtsRescoreService;
+import com.placement.expo.service.AtsScoringQueue;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +19,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 @RequestMapping("/api/v1/ats")
@@ -22,18 +29,24 @@ import java.util.Map;
 public class AtsAnalysisController {
     
     private final AtsAnalysisService atsAnalysisService;
+    private final AtsScoringQueue atsScoringQueue;
+    private final AtsRescoreService atsRescoreService;
     
     /**
      * Endpoint for analyzing a resume file
      * 
      * @param resumeFile The resume file to analyze
-     * @return ATS score result with feedback
+     * @param jobId An open job to tailor the keyword score to (optional)
+     * @param applicationId A job application whose description to tailor the keyword score to (optional)
+     * @return ATS score result with feedback and the best-fit open jobs
      */
     @PostMapping(value = "/analyze", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<Map<String, Object>> analyzeResume(
             @RequestParam("file") MultipartFile resumeFile,
             @RequestHeader(value = "X-Appwrite-User-Id", required = false) String headerUserId,
-            @RequestParam(value = "userId", required = false) String paramUserId) {
+            @RequestParam(value = "userId", required = false) String paramUserId,
+            @RequestParam(value = "jobId", required = false) Long jobId,
+            @RequestParam(value = "applicationId", required = false) Long applicationId) {
         
         // Use the user ID from header if available, otherwise use the one from parameters
         String userId = headerUserId != null ? headerUserId : paramUserId;
@@ -63,11 +76,19 @@ public class AtsAnalysisController {
                 }
             }
             
-            // Return the result
+            // The profile keeps the general score; a job-specific score is only returned
             Map<String, Object> response = new HashMap<>();
+            Optional<JobMatch> jobMatch = atsAnalysisService.matchJob(result, jobId, applicationId);
+            if (jobMatch.isPresent()) {
+                response.put("jobMatch", jobMatch.get());
+                result = atsAnalysisService.tailorToJob(result, jobMatch.get());
+            }
+            
+            // Return the result
             response.put("success", true);
             response.put("data", result);
             response.put("summary", result.getSummary());
+            response.put("bestFitJobs", atsAnalysisService.findBestFitJobs(result));
             
             return ResponseEntity.ok(response);
             
@@ -133,4 +154,159 @@ public class AtsAnalysisController {
             ));
         }
     }
+    /**
+     * Endpoint for polling the status of a queued ATS analysis
+     * 
+     * @param jobId The job ID returned by the upload endpoint
+     * @return The job status, including the score once it has completed
+     */
+    @GetMapping("/jobs/{jobId}")
+    public ResponseEntity<Map<String, Object>> getJobStatus(@PathVariable String jobId) {
+        Optional<AtsScoringJob> jobOpt = atsScoringQueue.getJob(jobId);
+        if (jobOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "success", false,
+                "message", "Unknown or expired ATS job: " + jobId
+            ));
+        }
+        
+        AtsScoringJob job = jobOpt.get();
+        Map<String, Object> data = new HashMap<>();
+        data.put("jobId", job.getId());
+        data.put("status", job.getStatus().name());
+        data.put("fileName", job.getFileName());
+        data.put("submittedAt", job.getSubmittedAt().toString());
+        data.put("startedAt", job.getStartedAt() != null ? job.getStartedAt().toString() : null);
+        data.put("completedAt", job.getCompletedAt() != null ? job.getCompletedAt().toString() : null);
+        if (job.getStatus() == AtsScoringJob.Status.COMPLETED) {
+            data.put("atsScore", job.getResult().getOverallScore());
+            data.put("resultUrl", "/api/v1/ats/jobs/" + job.getId() + "/result");
+        } else if (job.getStatus() == AtsScoringJob.Status.FAILED) {
+            data.put("error", job.getError());
+        } else {
+            data.put("queueDepth", atsScoringQueue.getPendingCount());
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", data);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Endpoint for fetching the result of a completed ATS analysis
+     * 
+     * @param jobId The job ID returned by the upload endpoint
+     * @return The ATS score result, or 202 while the job is still running
+     */
+    @GetMapping("/jobs/{jobId}/result")
+    public ResponseEntity<Map<String, Object>> getJobResult(@PathVariable String jobId) {
+        Optional<AtsScoringJob> jobOpt = atsScoringQueue.getJob(jobId);
+        if (jobOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "success", false,
+                "message", "Unknown or expired ATS job: " + jobId
+            ));
+        }
+        
+        AtsScoringJob job = jobOpt.get();
+        if (job.getStatus() == AtsScoringJob.Status.FAILED) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(Map.of(
+                "success", false,
+                "message", "Resume analysis failed: " + job.getError()
+            ));
+        }
+        if (job.getStatus() != AtsScoringJob.Status.COMPLETED) {
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "success", true,
+                "status", job.getStatus().name(),
+                "message", "Resume analysis still in progress"
+            ));
+        }
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", job.getResult());
+        response.put("summary", job.getResult().getSummary());
+        response.put("bestFitJobs", atsAnalysisService.findBestFitJobs(job.getResult()));
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * Endpoint for re-scoring every stored resume after a scoring model change
+     * 
+     * @param resume Whether to continue from the checkpoint of an interrupted run
+     * @return The started run, or 409 if one is already in progress
+     */
+    @PostMapping("/rescore")
+    public ResponseEntity<Map<String, Object>> startRescore(
+            @RequestParam(value = "resume", defaultValue = "true") boolean resume) {
+        try {
+            AtsRescoreRun run = atsRescoreService.start(resume);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+                "success", true,
+                "message", "ATS re-scoring started",
+                "data", toRescoreStatus(run)
+            ));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            ));
+        }
+    }
+    
+    /**
+     * Endpoint for polling the progress of the latest re-scoring run
+     * 
+     * @return The run progress, or 404 if no run has been started
+     */
+    @GetMapping("/rescore")
+    public ResponseEntity<Map<String, Object>> getRescoreStatus() {
+        Optional<AtsRescoreRun> runOpt = atsRescoreService.getCurrentRun();
+        if (runOpt.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "success", false,
+                "message", "No ATS re-scoring run has been started"
+            ));
+        }
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", toRescoreStatus(runOpt.get())
+        ));
+    }
+    
+    /**
+     * Endpoint for stopping the current re-scoring run after its in-flight batch
+     * 
+     * @return Whether a run was cancelled
+     */
+    @DeleteMapping("/rescore")
+    public ResponseEntity<Map<String, Object>> cancelRescore() {
+        boolean cancelled = atsRescoreService.cancel();
+        return ResponseEntity.ok(Map.of(
+            "success", cancelled,
+            "message", cancelled ? "ATS re-scoring will stop after the current batch" : "No ATS re-scoring run in progress"
+        ));
+    }
+    
+    private Map<String, Object> toRescoreStatus(AtsRescoreRun run) {
+        Map<String, Object> data = new HashMap<>();
+        data.put("runId", run.getId());
+        data.put("modelVersion", run.getModelVersion());
+        data.put("status", run.getStatus().name());
+        data.put("totalFiles", run.getTotalFiles());
+        data.put("processed", run.getProcessed());
+        data.put("resumedFrom", run.getResumedFrom());
+        data.put("scored", run.getScored().get());
+        data.put("failed", run.getFailed().get());
+        data.put("profilesUpdated", run.getProfilesUpdated().get());
+        data.put("filesPerSecond", Math.round(run.getThroughput() * 10) / 10.0);
+        data.put("startedAt", run.getStartedAt().toString());
+        data.put("completedAt", run.getCompletedAt() != null ? run.getCompletedAt().toString() : null);
+        if (run.getError() != null) {
+            data.put("error", run.getError());
+        }
+        return data;
+    }
 }
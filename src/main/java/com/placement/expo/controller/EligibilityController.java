@@ -0,0 +1,143 @@
+package com.placement.expo.controller;
+
+import com.placement.expo.model.EligibilityCriteria;
+import com.placement.expo.model.EligibleCompany;
+import com.placement.expo.model.Shortlist;
+import com.placement.expo.service.EligibilityIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Drive shortlists and per-student eligibility, served from {@link EligibilityIndex}
+ */
+@RestController
+@RequestMapping("/api/v1/eligibility")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class EligibilityController {
+
+    private static final int MAX_LIMIT = 1000;
+
+    private final EligibilityIndex eligibilityIndex;
+
+    /**
+     * Endpoint for shortlisting a company's drive. The company's CGPA and backlog
+     * requirements apply; departments and years narrow the drive further.
+     *
+     * @param companyId The company running the drive
+     * @param department Departments the drive is open to; repeat for several
+     * @param year Years of study the drive is open to; repeat for several
+     * @return The eligible students, highest CGPA first, and how many there are in total
+     */
+    @GetMapping("/companies/{companyId}/students")
+    public ResponseEntity<Map<String, Object>> shortlistCompany(
+            @PathVariable Long companyId,
+            @RequestParam(required = false) List<String> department,
+            @RequestParam(required = false) List<Integer> year,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        Optional<EligibilityCriteria> criteria = eligibilityIndex.criteriaFor(companyId);
+        if (criteria.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "success", false,
+                "message", "No active company with ID " + companyId
+            ));
+        }
+        return shortlist(criteria.get().toBuilder()
+                .departments(toSet(department))
+                .years(toSet(year))
+                .build(), offset, limit);
+    }
+
+    /**
+     * Endpoint for shortlisting a drive described directly by its requirements
+     *
+     * @return The eligible students, highest CGPA first, and how many there are in total
+     */
+    @GetMapping("/students")
+    public ResponseEntity<Map<String, Object>> shortlistCriteria(
+            @RequestParam(required = false) BigDecimal minCgpa,
+            @RequestParam(required = false) Integer maxBacklogs,
+            @RequestParam(required = false) List<String> department,
+            @RequestParam(required = false) List<Integer> year,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        return shortlist(EligibilityCriteria.builder()
+                .minCgpa(minCgpa)
+                .maxBacklogs(maxBacklogs)
+                .departments(toSet(department))
+                .years(toSet(year))
+                .build(), offset, limit);
+    }
+
+    /**
+     * Endpoint for the companies a student can apply to
+     *
+     * @param appwriteUserId The student's Appwrite user ID
+     * @return The active companies whose CGPA and backlog requirements the student meets
+     */
+    @GetMapping("/students/{appwriteUserId}/companies")
+    public ResponseEntity<Map<String, Object>> eligibleCompanies(@PathVariable String appwriteUserId) {
+        Optional<List<EligibleCompany>> companies = eligibilityIndex.eligibleCompanies(appwriteUserId);
+        if (companies.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "success", false,
+                "message", "Profile not found"
+            ));
+        }
+        Map<String, Object> data = new HashMap<>();
+        data.put("companies", companies.get());
+        data.put("count", companies.get().size());
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", data
+        ));
+    }
+
+    private ResponseEntity<Map<String, Object>> shortlist(EligibilityCriteria criteria, int offset, int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "offset must not be negative and limit must be between 1 and " + MAX_LIMIT
+            ));
+        }
+
+        long start = System.nanoTime();
+        Shortlist shortlist = eligibilityIndex.shortlist(criteria, offset, limit);
+        log.debug("Shortlisted {} students in {}ms", shortlist.getTotal(),
+                String.format("%.2f", (System.nanoTime() - start) / 1_000_000.0));
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("criteria", shortlist.getCriteria());
+        data.put("total", shortlist.getTotal());
+        data.put("students", shortlist.getStudents());
+        data.put("count", shortlist.getStudents().size());
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", data
+        ));
+    }
+
+    private static <T> Set<T> toSet(List<T> values) {
+        return values != null ? new LinkedHashSet<>(values) : null;
+    }
+}
@@ -1,23 +1,30 @@
 package com.placement.expo.controller;
 
-import com.placement.expo.model.AtsScoreResult;
-import com.placement.expo.service.AtsScoreService;
+import com.placement.expo.model.AtsScoringJob;
+import com.placement.expo.model.StoredResume;
+import com.placement.expo.service.AtsScoringQueue;
+import com.placement.expo.service.ResumeFileIndex;
+import com.placement.expo.service.ResumeUploadWriter;
 import com.placement.expo.service.UserProfileSimpleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.util.UriUtils;
 
+import javax.servlet.http.HttpServletRequest;
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.io.InputStream;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api/v1/upload")
@@ -25,14 +32,20 @@ import java.util.UUID;
 @CrossOrigin(origins = "*")
 public class FileUploadController {
     
-    @Value("${app.upload.dir:uploads}")
-    private String uploadDir;
-    
     @Autowired
     private UserProfileSimpleService userProfileService;
     
     @Autowired
-    private AtsScoreService atsScoreService;
+    private AtsScoringQueue atsScoringQueue;
+    
+    @Autowired
+    private ResumeUploadWriter resumeUploadWriter;
+    
+    @Autowired
+    private ResumeFileIndex resumeFileIndex;
+    
+    @Autowired
+    private MeterRegistry meterRegistry;
     
     private static final long MAX_FILE_SIZE = 5 * 1024 * 1024; // 5MB
     private static final String[] ALLOWED_EXTENSIONS = {".pdf", ".doc", ".docx"};
@@ -64,138 +77,262 @@ public class FileUploadController {
         return sanitized;
     }
     
+    /**
+     * Multipart upload, kept for existing clients. The part is spooled to a temp file by the
+     * multipart resolver and then copied to storage, so the resume is written twice; the
+     * browser pages use {@link #streamResume} instead.
+     * 
+     * @param file The resume part
+     * @param appwriteUserId The owner of the resume
+     * @return The stored file and the queued ATS job
+     */
     @PostMapping("/resume")
     public ResponseEntity<Map<String, Object>> uploadResume(
             @RequestParam("file") MultipartFile file,
             @RequestHeader("X-Appwrite-User-Id") String appwriteUserId) {
         
+        UploadPhases phases = new UploadPhases();
         try {
             // Validate file
             if (file.isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of(
+                return phases.end(ResponseEntity.badRequest().body(Map.of(
                     "success", false,
                     "message", "Please select a file to upload"
-                ));
+                )));
             }
             
             // Check file size
             if (file.getSize() > MAX_FILE_SIZE) {
-                return ResponseEntity.badRequest().body(Map.of(
+                return phases.end(ResponseEntity.badRequest().body(Map.of(
                     "success", false,
                     "message", "File size must be less than 5MB"
-                ));
+                )));
             }
             
-            // Check file extension and MIME type
             String originalFilename = file.getOriginalFilename();
-            if (originalFilename == null) {
-                return ResponseEntity.badRequest().body(Map.of(
-                    "success", false,
-                    "message", "Invalid file"
-                ));
+            ResponseEntity<Map<String, Object>> invalid = validateUpload(originalFilename, file.getContentType());
+            if (invalid != null) {
+                return phases.end(invalid);
             }
             
-            // Sanitize filename
-            String sanitizedFilename = sanitizeFilename(originalFilename);
-            if (sanitizedFilename == null || sanitizedFilename.trim().isEmpty()) {
-                return ResponseEntity.badRequest().body(Map.of(
-                    "success", false,
-                    "message", "Invalid filename"
-                ));
+            phases.next("write");
+            StoredResume stored;
+            try (InputStream in = file.getInputStream()) {
+                stored = resumeUploadWriter.write(in, appwriteUserId, sanitizeFilename(originalFilename), MAX_FILE_SIZE);
             }
+            phases.next("queue");
+            return phases.end(queueAnalysis(appwriteUserId, originalFilename, stored));
             
-            // Check file extension
-            boolean validExtension = false;
-            for (String ext : ALLOWED_EXTENSIONS) {
-                if (sanitizedFilename.toLowerCase().endsWith(ext)) {
-                    validExtension = true;
-                    break;
-                }
-            }
-            
-            if (!validExtension) {
-                return ResponseEntity.badRequest().body(Map.of(
-                    "success", false,
-                    "message", "Only PDF, DOC, and DOCX files are allowed"
-                ));
-            }
-            
-            // Check MIME type for additional security
-            String contentType = file.getContentType();
-            boolean validMimeType = false;
-            if (contentType != null) {
-                for (String mimeType : ALLOWED_MIME_TYPES) {
-                    if (contentType.equals(mimeType)) {
-                        validMimeType = true;
-                        break;
-                    }
-                }
-            }
-            
-            if (!validMimeType) {
-                return ResponseEntity.badRequest().body(Map.of(
+        } catch (IllegalArgumentException e) {
+            return phases.end(ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            )));
+        } catch (IOException e) {
+            log.error("Failed to upload resume for user {}: {}", appwriteUserId, e.getMessage());
+            return phases.end(ResponseEntity.internalServerError().body(Map.of(
+                "success", false,
+                "message", "Failed to upload file: " + e.getMessage()
+            )));
+        }
+    }
+    
+    /**
+     * Streaming upload: the request body is the raw resume, so it is written to its final
+     * location as it arrives instead of being buffered by the multipart resolver and copied.
+     * 
+     * @param fileName The original file name (URL-encoded)
+     * @param contentType The resume MIME type
+     * @param contentLength The body length, if the client sent one
+     * @param appwriteUserId The owner of the resume
+     * @param request The servlet request whose body is streamed
+     * @return The same response as the multipart upload
+     */
+    @PutMapping("/resume/stream")
+    public ResponseEntity<Map<String, Object>> streamResume(
+            @RequestHeader("X-File-Name") String fileName,
+            @RequestHeader(value = HttpHeaders.CONTENT_TYPE, required = false) String contentType,
+            @RequestHeader(value = HttpHeaders.CONTENT_LENGTH, required = false) Long contentLength,
+            @RequestHeader("X-Appwrite-User-Id") String appwriteUserId,
+            HttpServletRequest request) {
+        
+        UploadPhases phases = new UploadPhases();
+        if (contentLength != null && contentLength > MAX_FILE_SIZE) {
+            return phases.end(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of(
+                "success", false,
+                "message", "File size must be less than 5MB"
+            )));
+        }
+        
+        String originalFilename = URLDecoder.decode(fileName, StandardCharsets.UTF_8);
+        ResponseEntity<Map<String, Object>> invalid = validateUpload(originalFilename, contentType);
+        if (invalid != null) {
+            return phases.end(invalid);
+        }
+        
+        try {
+            phases.next("write");
+            StoredResume stored = resumeUploadWriter.write(request.getInputStream(), appwriteUserId,
+                    sanitizeFilename(originalFilename), MAX_FILE_SIZE);
+            if (stored.getSize() == 0) {
+                resumeFileIndex.delete(stored.getFileName());
+                return phases.end(ResponseEntity.badRequest().body(Map.of(
                     "success", false,
-                    "message", "Invalid file type. Only PDF, DOC, and DOCX files are allowed"
-                ));
-            }
-            
-            // Create upload directory if it doesn't exist
-            Path uploadPath = Paths.get(uploadDir, "resumes");
-            Files.createDirectories(uploadPath);
-            
-            // Generate unique filename using sanitized original name
-            String fileExtension = sanitizedFilename.substring(sanitizedFilename.lastIndexOf("."));
-            String baseFileName = sanitizedFilename.substring(0, sanitizedFilename.lastIndexOf("."));
-            String fileName = appwriteUserId + "_" + baseFileName + "_" + UUID.randomUUID().toString() + fileExtension;
-            Path filePath = uploadPath.resolve(fileName);
-            
-            // Save file
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
-            
-            // Generate accessible URL
-            String fileUrl = "/uploads/resumes/" + fileName;
-            
-            log.info("Resume uploaded successfully for user {}: {}", appwriteUserId, fileName);
-            
-            // Calculate ATS score for the resume
-            String fullFilePath = uploadPath.resolve(fileName).toString();
-            log.info("Starting ATS analysis for user {} with file: {}", appwriteUserId, fullFilePath);
-            AtsScoreResult atsScore;
-            try {
-                atsScore = atsScoreService.analyzeResume(appwriteUserId, fullFilePath);
-                log.info("ATS score calculated successfully for user {}: {}", appwriteUserId, atsScore.getOverallScore());
-            } catch (Exception e) {
-                log.error("Error during ATS analysis for user {}: {}", appwriteUserId, e.getMessage(), e);
-                // If analysis fails, create a default score result
-                atsScore = AtsScoreResult.builder()
-                    .overallScore(0)
-                    .categoryScores(java.util.Collections.singletonMap("Error", 0))
-                    .strengths(java.util.Collections.emptyList())
-                    .weaknesses(java.util.Collections.singletonList("Resume analysis failed"))
-                    .improvements(java.util.Collections.singletonList("Please try uploading your resume again"))
-                    .build();
+                    "message", "Please select a file to upload"
+                )));
             }
+            phases.next("queue");
+            return phases.end(queueAnalysis(appwriteUserId, originalFilename, stored));
             
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "message", "Resume uploaded and analyzed successfully",
-                "data", Map.of(
-                    "fileName", fileName,
-                    "originalName", originalFilename,
-                    "fileUrl", fileUrl,
-                    "size", file.getSize(),
-                    "atsScore", atsScore.getOverallScore(),
-                    "atsFeedback", atsScore.getSummary()
-                )
-            ));
-            
+        } catch (MaxUploadSizeExceededException e) {
+            return phases.end(ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(Map.of(
+                "success", false,
+                "message", "File size must be less than 5MB"
+            )));
+        } catch (IllegalArgumentException e) {
+            return phases.end(ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", e.getMessage()
+            )));
         } catch (IOException e) {
-            log.error("Failed to upload resume for user {}: {}", appwriteUserId, e.getMessage());
-            return ResponseEntity.internalServerError().body(Map.of(
+            log.error("Failed to stream resume for user {}: {}", appwriteUserId, e.getMessage());
+            return phases.end(ResponseEntity.internalServerError().body(Map.of(
                 "success", false,
                 "message", "Failed to upload file: " + e.getMessage()
+            )));
+        }
+    }
+    
+    /**
+     * Checks the client's file name and declared MIME type
+     * 
+     * @return An error response, or null if the upload may proceed
+     */
+    private ResponseEntity<Map<String, Object>> validateUpload(String originalFilename, String contentType) {
+        if (originalFilename == null) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "Invalid file"
+            ));
+        }
+        
+        // Sanitize filename
+        String sanitizedFilename = sanitizeFilename(originalFilename);
+        if (sanitizedFilename == null || sanitizedFilename.trim().isEmpty()) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "Invalid filename"
             ));
         }
+        
+        // Check file extension
+        boolean validExtension = false;
+        for (String ext : ALLOWED_EXTENSIONS) {
+            if (sanitizedFilename.toLowerCase().endsWith(ext)) {
+                validExtension = true;
+                break;
+            }
+        }
+        
+        if (!validExtension) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "Only PDF, DOC, and DOCX files are allowed"
+            ));
+        }
+        
+        // Check MIME type for additional security; the content itself is sniffed while it is written
+        boolean validMimeType = false;
+        if (contentType != null) {
+            for (String mimeType : ALLOWED_MIME_TYPES) {
+                if (contentType.equals(mimeType)) {
+                    validMimeType = true;
+                    break;
+                }
+            }
+        }
+        
+        if (!validMimeType) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "Invalid file type. Only PDF, DOC, and DOCX files are allowed"
+            ));
+        }
+        return null;
+    }
+    
+    private ResponseEntity<Map<String, Object>> queueAnalysis(String appwriteUserId, String originalFilename,
+                                                              StoredResume stored) throws IOException {
+        String fileName = stored.getFileName();
+        
+        // Generate accessible URL; the download endpoint adds ETags, range support and caching
+        String fileUrl = "/api/v1/resumes/" + UriUtils.encodePathSegment(fileName, StandardCharsets.UTF_8);
+        
+        log.info("Resume uploaded successfully for user {}: {}", appwriteUserId, fileName);
+        
+        // Queue the ATS analysis so the request thread is released immediately
+        AtsScoringJob atsJob;
+        try {
+            atsJob = atsScoringQueue.submit(appwriteUserId, fileName, stored.getContentHash());
+            log.info("Queued ATS analysis {} for user {} with file: {}", atsJob.getId(), appwriteUserId, fileName);
+        } catch (RejectedExecutionException e) {
+            resumeFileIndex.delete(stored.getFileName());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "30")
+                .body(Map.of(
+                    "success", false,
+                    "message", "Resume analysis is busy, please try again in a moment"
+                ));
+        }
+        
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(Map.of(
+            "success", true,
+            "message", "Resume uploaded, analysis in progress",
+            "data", Map.of(
+                "fileName", fileName,
+                "originalName", originalFilename,
+                "fileUrl", fileUrl,
+                "size", stored.getSize(),
+                "atsJobId", atsJob.getId(),
+                "atsStatus", atsJob.getStatus().name(),
+                "atsStatusUrl", "/api/v1/ats/jobs/" + atsJob.getId()
+            )
+        ));
+    }
+    
+    /**
+     * Times the validate, write and queue phases of one upload as expo.upload.phase, so the
+     * phase behind a slow upload shows up separately. Each phase is tagged with its outcome:
+     * success, invalid (4xx), rejected (503, queue full) or error.
+     */
+    private final class UploadPhases {
+        
+        private String phase = "validate";
+        private Timer.Sample sample = Timer.start(meterRegistry);
+        
+        /**
+         * Ends the current phase successfully and starts the next
+         */
+        void next(String nextPhase) {
+            stop("success");
+            phase = nextPhase;
+            sample = Timer.start(meterRegistry);
+        }
+        
+        /**
+         * Ends the current phase with the outcome of the response
+         */
+        ResponseEntity<Map<String, Object>> end(ResponseEntity<Map<String, Object>> response) {
+            HttpStatus status = response.getStatusCode();
+            stop(status.is2xxSuccessful() ? "success"
+                    : status == HttpStatus.SERVICE_UNAVAILABLE ? "rejected"
+                    : status.is4xxClientError() ? "invalid" : "error");
+            return response;
+        }
+        
+        private void stop(String outcome) {
+            sample.stop(meterRegistry.timer("expo.upload.phase", "phase", phase, "outcome", outcome));
+        }
     }
     
     @DeleteMapping("/resume/{fileName}")
@@ -212,10 +349,7 @@ public class FileUploadController {
                 ));
             }
             
-            Path filePath = Paths.get(uploadDir, "resumes", fileName);
-            
-            if (Files.exists(filePath)) {
-                Files.delete(filePath);
+            if (resumeFileIndex.delete(fileName)) {
                 log.info("Resume deleted successfully for user {}: {}", appwriteUserId, fileName);
                 
                 return ResponseEntity.ok(Map.of(
@@ -0,0 +1,93 @@
+package com.placement.expo.controller;
+
+import com.placement.expo.domain.Job;
+import com.placement.expo.model.JobSearchResult;
+import com.placement.expo.service.JobSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Full-text job search backed by {@link JobSearchIndex}
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class JobSearchController {
+
+    private static final int MAX_SIZE = 100;
+    /** Relevance beyond this depth is noise; refine the query instead */
+    private static final int MAX_DEPTH = 1000;
+
+    private final JobSearchIndex jobSearchIndex;
+
+    /**
+     * Endpoint for searching jobs by title, company, requirements, description and location
+     *
+     * @param q The search text; the last word also matches as a prefix
+     * @param type Optional job type filter, e.g. INTERNSHIP
+     * @param status Optional status filter, e.g. OPEN
+     * @param page Zero-based page number
+     * @param size Hits per page
+     * @return The ranked hits with the total and type/status facet counts
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> search(
+            @RequestParam String q,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        if (size < 1 || size > MAX_SIZE) {
+            return badRequest("size must be between 1 and " + MAX_SIZE);
+        }
+        if (page < 0 || (long) (page + 1) * size > MAX_DEPTH) {
+            return badRequest("Only the first " + MAX_DEPTH + " results can be paged through");
+        }
+
+        Job.JobType jobType;
+        Job.JobStatus jobStatus;
+        try {
+            jobType = type != null && !type.isBlank() ? Job.JobType.valueOf(type.trim().toUpperCase(Locale.ROOT)) : null;
+            jobStatus = status != null && !status.isBlank() ? Job.JobStatus.valueOf(status.trim().toUpperCase(Locale.ROOT)) : null;
+        } catch (IllegalArgumentException e) {
+            return badRequest("Unknown job type or status");
+        }
+
+        long start = System.nanoTime();
+        JobSearchResult result = jobSearchIndex.search(q, jobType, jobStatus, page * size, size);
+        double tookMs = (System.nanoTime() - start) / 1_000_000.0;
+        log.debug("Job search '{}' matched {} jobs in {}ms", q, result.getTotal(), tookMs);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("hits", result.getHits());
+        data.put("total", result.getTotal());
+        data.put("page", page);
+        data.put("size", size);
+        data.put("facets", result.getFacets());
+        data.put("tookMs", tookMs);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", data
+        ));
+    }
+
+    private static ResponseEntity<Map<String, Object>> badRequest(String message) {
+        return ResponseEntity.badRequest().body(Map.of(
+            "success", false,
+            "message", message
+        ));
+    }
+}
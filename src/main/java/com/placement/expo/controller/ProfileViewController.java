@@ -0,0 +1,81 @@
+package com.placement.expo.controller;
+
+import com.placement.expo.model.ProfileView;
+import com.placement.expo.model.RecruiterCard;
+import com.placement.expo.service.ProfileViewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Full student profiles and recruiter cards, each read with a fixed number of queries
+ */
+@RestController
+@RequestMapping("/api/v1/profile-views")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ProfileViewController {
+
+    private static final int MAX_CARDS = 100;
+
+    private final ProfileViewService profileViewService;
+
+    /**
+     * Endpoint for a student's full profile
+     *
+     * @param appwriteUserId The student's Appwrite user ID
+     * @return The profile with its statistics, academic records, skills, projects,
+     * experience, certifications and applications
+     */
+    @GetMapping("/{appwriteUserId}")
+    public ResponseEntity<Map<String, Object>> getFullProfile(@PathVariable String appwriteUserId) {
+        Optional<ProfileView> view = profileViewService.getFullProfile(appwriteUserId);
+        if (view.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of(
+                "success", false,
+                "message", "Profile not found"
+            ));
+        }
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", view.get()
+        ));
+    }
+
+    /**
+     * Endpoint for recruiter cards, e.g. for a page of a drive shortlist
+     *
+     * @param appwriteUserId The students' Appwrite user IDs; repeat for several
+     * @return The cards in the order requested; unknown students are left out
+     */
+    @GetMapping("/cards")
+    public ResponseEntity<Map<String, Object>> getRecruiterCards(@RequestParam List<String> appwriteUserId) {
+        if (appwriteUserId.size() > MAX_CARDS) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "At most " + MAX_CARDS + " cards can be requested at once"
+            ));
+        }
+        List<RecruiterCard> cards = profileViewService.getRecruiterCards(appwriteUserId);
+        Map<String, Object> data = new HashMap<>();
+        data.put("cards", cards);
+        data.put("count", cards.size());
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", data
+        ));
+    }
+}
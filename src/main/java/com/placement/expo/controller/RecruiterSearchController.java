@@ -0,0 +1,95 @@
+package com.placement.expo.controller;
+
+import com.placement.expo.model.RecruiterQuery;
+import com.placement.expo.model.RecruiterSearchResult;
+import com.placement.expo.service.RecruiterSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Recruiter search across student profiles, skills and projects
+ */
+@RestController
+@RequestMapping("/api/v1/recruiter")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class RecruiterSearchController {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final RecruiterSearchIndex recruiterSearchIndex;
+
+    /**
+     * Endpoint for searching students. List parameters may be repeated.
+     *
+     * @param skill Skills every student must have
+     * @param anySkill Skills of which students must have at least one
+     * @param notSkill Skills students must not have
+     * @return The matching students, best match first
+     */
+    @GetMapping("/search")
+    public ResponseEntity<Map<String, Object>> search(
+            @RequestParam(required = false) List<String> skill,
+            @RequestParam(required = false) List<String> anySkill,
+            @RequestParam(required = false) List<String> notSkill,
+            @RequestParam(required = false) BigDecimal minCgpa,
+            @RequestParam(required = false) BigDecimal maxCgpa,
+            @RequestParam(required = false) Integer maxBacklogs,
+            @RequestParam(required = false) List<String> department,
+            @RequestParam(required = false) List<Integer> year,
+            @RequestParam(required = false) Boolean featuredProject,
+            @RequestParam(required = false) Integer minProjects,
+            @RequestParam(defaultValue = "0") int offset,
+            @RequestParam(defaultValue = "20") int limit) {
+        if (offset < 0 || limit < 1 || limit > MAX_LIMIT) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "offset must be at least 0 and limit between 1 and " + MAX_LIMIT
+            ));
+        }
+        RecruiterQuery query = RecruiterQuery.builder()
+                .allSkills(asSet(skill))
+                .anySkills(asSet(anySkill))
+                .excludedSkills(asSet(notSkill))
+                .minCgpa(minCgpa)
+                .maxCgpa(maxCgpa)
+                .maxBacklogs(maxBacklogs)
+                .departments(asSet(department))
+                .years(asSet(year))
+                .featuredProject(featuredProject)
+                .minProjects(minProjects)
+                .build();
+
+        long start = System.nanoTime();
+        RecruiterSearchResult result = recruiterSearchIndex.search(query, offset, limit);
+        Map<String, Object> data = new HashMap<>();
+        data.put("query", result.getQuery());
+        data.put("total", result.getTotal());
+        data.put("hits", result.getHits());
+        data.put("offset", offset);
+        data.put("limit", limit);
+        data.put("tookMs", (System.nanoTime() - start) / 1_000_000.0);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", data
+        ));
+    }
+
+    private static <T> Set<T> asSet(List<T> values) {
+        return values == null ? null : new LinkedHashSet<>(values);
+    }
+}
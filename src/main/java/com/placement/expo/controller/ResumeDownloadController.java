@@ -0,0 +1,196 @@
+package com.placement.expo.controller;
+
+import com.placement.expo.model.ResumeFileInfo;
+import com.placement.expo.service.ResumeFileIndex;
+import com.placement.expo.service.ResumeStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serves stored resumes with strong ETags, conditional GETs and single byte ranges.
+ * Metadata comes from {@link ResumeFileIndex}, so a 304 never touches storage. Local files
+ * are handed to Tomcat's sendfile when the connector supports it; remote objects are
+ * streamed with a ranged read.
+ */
+@RestController
+@RequestMapping("/api/v1/resumes")
+@RequiredArgsConstructor
+@Slf4j
+@CrossOrigin(origins = "*")
+public class ResumeDownloadController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ResumeFileIndex resumeFileIndex;
+    private final ResumeStorage resumeStorage;
+
+    @Value("${app.upload.resume-cache-max-age:86400}")
+    private long cacheMaxAgeSeconds;
+
+    /**
+     * Endpoint for downloading a stored resume
+     *
+     * @param fileName The stored file name returned by the upload endpoint
+     * @param ifNoneMatch ETags the client already has
+     * @param rangeHeader An optional single byte range
+     * @param ifRange Only honour the range if the resume still has this ETag
+     */
+    @RequestMapping(value = "/{fileName}", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void downloadResume(
+            @PathVariable String fileName,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+            @RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        if (fileName.contains("/") || fileName.contains("\\") || fileName.contains("..")) {
+            response.sendError(HttpStatus.BAD_REQUEST.value(), "Invalid file name");
+            return;
+        }
+        Optional<ResumeFileInfo> infoOpt = resumeFileIndex.lookup(fileName);
+        if (infoOpt.isEmpty()) {
+            response.sendError(HttpStatus.NOT_FOUND.value(), "Resume not found");
+            return;
+        }
+        ResumeFileInfo info = infoOpt.get();
+
+        response.setHeader(HttpHeaders.ETAG, info.getETag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + cacheMaxAgeSeconds);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, info.getLastModified());
+
+        if (matchesETag(ifNoneMatch, info.getETag())) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setContentType(contentType(fileName).toString());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename(fileName, StandardCharsets.UTF_8).build().toString());
+
+        long size = info.getSize();
+        long start = 0;
+        long end = size;
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(info.getETag()))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            // Multiple ranges are rare for PDFs; answering with the full body is allowed
+            if (ranges.size() == 1) {
+                HttpRange range = ranges.get(0);
+                try {
+                    start = range.getRangeStart(size);
+                    end = range.getRangeEnd(size) + 1;
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                if (start >= size) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + size);
+            }
+        }
+
+        long length = end - start;
+        response.setContentLengthLong(length);
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        Optional<Path> localPath = resumeStorage.localPath(fileName);
+        if (localPath.isEmpty()) {
+            // Remote storage: stream just the requested slice through
+            try (InputStream in = resumeStorage.open(fileName, start, end)) {
+                in.transferTo(response.getOutputStream());
+            }
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat writes the file from the kernel page cache after the servlet returns
+            request.setAttribute(SENDFILE_FILENAME, localPath.get().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(localPath.get(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                long sent = channel.transferTo(position, end - position, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+            }
+        }
+    }
+
+    private static boolean matchesETag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static MediaType contentType(String fileName) {
+        String name = fileName.toLowerCase();
+        if (name.endsWith(".pdf")) {
+            return MediaType.APPLICATION_PDF;
+        }
+        if (name.endsWith(".docx")) {
+            return MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+        }
+        if (name.endsWith(".doc")) {
+            return MediaType.parseMediaType("application/msword");
+        }
+        return MediaType.APPLICATION_OCTET_STREAM;
+    }
+}
@@ -0,0 +1,69 @@
+package com.placement.expo.controller;
+
+import com.placement.expo.model.Suggestion;
+import com.placement.expo.service.SuggestionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Typeahead suggestions, called on every keystroke by the registration and profile forms
+ */
+@RestController
+@RequestMapping("/api/v1/suggest")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class SuggestionController {
+
+    private final SuggestionService suggestionService;
+
+    /**
+     * Endpoint for suggesting skills, companies or institutions
+     *
+     * @param kind skills, companies or institutions
+     * @param q What the user has typed so far
+     * @param limit The maximum number of suggestions (1-10)
+     * @return The most used matching names, most used first
+     */
+    @GetMapping("/{kind}")
+    public ResponseEntity<Map<String, Object>> suggest(
+            @PathVariable String kind,
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(defaultValue = "10") int limit) {
+
+        SuggestionService.Kind suggestionKind;
+        try {
+            suggestionKind = SuggestionService.Kind.parse(kind);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "Unknown suggestion kind: " + kind
+            ));
+        }
+        if (limit < 1 || limit > SuggestionService.MAX_SUGGESTIONS) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "limit must be between 1 and " + SuggestionService.MAX_SUGGESTIONS
+            ));
+        }
+
+        List<Suggestion> suggestions = suggestionService.suggest(suggestionKind, q, limit);
+        // Short-lived so backspacing over a prefix is served by the browser
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.maxAge(60, TimeUnit.SECONDS))
+            .body(Map.of(
+                "success", true,
+                "data", suggestions
+            ));
+    }
+}
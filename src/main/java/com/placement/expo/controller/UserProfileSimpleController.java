@@ -1,13 +1,30 @@
 package com.placement.expo.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.model.Dashboard;
+import com.placement.expo.model.ProfileFilter;
+import com.placement.expo.model.ProfilePage;
+import com.placement.expo.service.DashboardService;
+import com.placement.expo.service.DashboardStreamHub;
+import com.placement.expo.service.ProfileExportService;
 import com.placement.expo.service.UserProfileSimpleService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.*;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/profile-simple")
@@ -17,6 +34,11 @@ import java.util.*;
 public class UserProfileSimpleController {
     
     private final UserProfileSimpleService userProfileService;
+    private final ProfileExportService profileExportService;
+    private final DashboardService dashboardService;
+    private final DashboardStreamHub dashboardStreamHub;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
     
     @PostMapping("/register")
     public ResponseEntity<Map<String, Object>> registerProfile(
@@ -25,8 +47,10 @@ public class UserProfileSimpleController {
             @RequestBody Map<String, Object> requestData) {
         
         try {
-            log.info("Registration request for user: {}", appwriteUserId);
-            log.info("Request data: {}", requestData);
+            log.debug("Registration request for user: {}", appwriteUserId);
+            if (log.isDebugEnabled()) {
+                log.debug("Request data: {}", requestData);
+            }
             
             // Extract all profile data from request
             String firstName = (String) requestData.get("firstName");
@@ -77,18 +101,26 @@ public class UserProfileSimpleController {
         }
     }
     
+    /**
+     * Endpoint for the student dashboard. Sends a weak ETag; a matching If-None-Match gets 304
+     * without the recent applications being loaded. Assembly is timed as expo.dashboard.assembly:
+     * phase "load" covers the queries and their transaction, phase "render" the response sections.
+     */
     @GetMapping("/dashboard")
     public ResponseEntity<Map<String, Object>> getDashboard(
             @RequestHeader("X-Appwrite-User-Id") String appwriteUserId,
-            @RequestHeader("X-Appwrite-User-Email") String userEmail) {
+            @RequestHeader("X-Appwrite-User-Email") String userEmail,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String phase = "load";
         try {
-            log.info("=== DASHBOARD REQUEST START ===");
-            log.info("Dashboard request for user: {} with email: {}", appwriteUserId, userEmail);
+            log.debug("Dashboard request for user: {} with email: {}", appwriteUserId, userEmail);
             
-            Optional<UserProfileSimple> profileOpt = userProfileService.getProfileByAppwriteUserId(appwriteUserId);
+            Optional<Dashboard> dashboardOpt = dashboardService.getDashboard(appwriteUserId, ifNoneMatch);
             
-            if (profileOpt.isEmpty()) {
+            if (dashboardOpt.isEmpty()) {
+                recordDashboard(sample, phase, "missing");
                 log.warn("No profile found for user: {} - returning 404", appwriteUserId);
                 return ResponseEntity.status(404).body(Map.of(
                     "success", false,
@@ -96,65 +128,32 @@ public class UserProfileSimpleController {
                 ));
             }
             
-            UserProfileSimple profile = profileOpt.get();
-            log.info("Profile found for user: {} - ID: {}, Name: {} {}, Email: {}", 
-                appwriteUserId, profile.getId(), profile.getFirstName(), profile.getLastName(), profile.getEmail());
-            
-            Map<String, Object> userProfileData = new HashMap<>();
-            userProfileData.put("id", profile.getId());
-            userProfileData.put("fullName", profile.getFullName());
-            userProfileData.put("email", profile.getEmail());
-            userProfileData.put("phone", profile.getPhone() != null ? profile.getPhone() : "Not provided");
-            userProfileData.put("department", profile.getDepartment() != null ? profile.getDepartment() : "Not specified");
-            userProfileData.put("currentYear", profile.getCurrentYear() != null ? profile.getCurrentYear() : 0);
-            userProfileData.put("currentCgpa", profile.getCurrentCgpa() != null ? profile.getCurrentCgpa().toString() : "N/A");
-            userProfileData.put("completionPercentage", profile.getProfileCompletionPercentage());
-            userProfileData.put("atsScore", profile.getAtsScore() != null ? profile.getAtsScore() : 0);
-            userProfileData.put("atsFeedback", profile.getAtsFeedback() != null ? profile.getAtsFeedback() : "Resume not yet analyzed");
-            
-            log.info("Sending user profile data: {}", userProfileData);
-            
-            Map<String, Object> statistics = new HashMap<>();
-            // Only include unique statistics, not duplicating what's in userProfileData
-            statistics.put("profileViews", 42); // Mock data
-            statistics.put("totalApplications", 0);
-            statistics.put("interviewsAttended", 0);
-            
-            List<Map<String, Object>> activities = new ArrayList<>();
-            
-            // Profile creation activity
-            activities.add(Map.of(
-                "icon", "👤",
-                "title", "Profile Created",
-                "description", "Welcome to PlacementSyncer! Complete your profile to get started.",
-                "timestamp", profile.getCreatedAt().toString()
-            ));
-            
-            // Resume upload activity if exists
-            if (profile.getResumeUrl() != null && !profile.getResumeUrl().isEmpty()) {
-                activities.add(Map.of(
-                    "icon", "�",
-                    "title", "Resume Uploaded",
-                    "description", "Your resume has been uploaded and analyzed.",
-                    "timestamp", profile.getUpdatedAt().toString()
-                ));
+            Dashboard dashboard = dashboardOpt.get();
+            // Private: the dashboard differs per user; no-cache: revalidate with the ETag every time
+            ResponseEntity.BodyBuilder response = ResponseEntity
+                .status(dashboard.isNotModified() ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(dashboard.getETag())
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy("X-Appwrite-User-Id");
+            if (dashboard.isNotModified()) {
+                recordDashboard(sample, phase, "not_modified");
+                return response.build();
             }
+            recordDashboard(sample, phase, "success");
             
-            Map<String, Object> data = new HashMap<>();
-            data.put("userProfile", userProfileData);
-            data.put("statistics", statistics);
-            data.put("recentApplications", java.util.List.of());
-            data.put("recentActivity", activities);
+            sample = Timer.start(meterRegistry);
+            phase = "render";
+            Map<String, Object> data = dashboardService.sections(dashboard);
+            recordDashboard(sample, phase, "success");
             
             Map<String, Object> responseData = new HashMap<>();
             responseData.put("success", true);
             responseData.put("data", data);
             
-            log.info("=== DASHBOARD RESPONSE SENT ===");
-            log.info("Full response data: {}", responseData);
-            return ResponseEntity.ok(responseData);
+            return response.body(responseData);
             
         } catch (Exception e) {
+            recordDashboard(sample, phase, "error");
             log.error("Dashboard failed for user {}: {}", appwriteUserId, e.getMessage());
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
@@ -163,6 +162,22 @@ public class UserProfileSimpleController {
         }
     }
     
+    private void recordDashboard(Timer.Sample sample, String phase, String outcome) {
+        sample.stop(meterRegistry.timer("expo.dashboard.assembly", "phase", phase, "outcome", outcome));
+    }
+    
+    /**
+     * Endpoint for live dashboard updates. EventSource cannot send headers, so the user is
+     * identified by a query parameter. The first "dashboard" event carries every section,
+     * later ones only the sections that changed.
+     */
+    @GetMapping(value = "/dashboard/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamDashboard(@RequestParam String appwriteUserId) {
+        return dashboardStreamHub.subscribe(appwriteUserId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+    
     @GetMapping("/health")
     public ResponseEntity<Map<String, Object>> health() {
         return ResponseEntity.ok(Map.of(
@@ -172,104 +187,120 @@ public class UserProfileSimpleController {
         ));
     }
     
-    @GetMapping("/debug/list-all")
-    public ResponseEntity<Map<String, Object>> listAllProfiles() {
-        try {
-            log.info("=== DEBUG: LISTING ALL PROFILES ===");
-            var allProfiles = userProfileService.getAllProfiles();
-            
-            log.info("Found {} profiles in database", allProfiles.size());
-            allProfiles.forEach(profile -> {
-                log.info("Profile: ID={}, AppwriteID={}, Name={} {}, Email={}", 
-                    profile.getId(), profile.getAppwriteUserId(), 
-                    profile.getFirstName(), profile.getLastName(), profile.getEmail());
-            });
-            
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "count", allProfiles.size(),
-                "profiles", allProfiles.stream()
-                    .map(profile -> Map.of(
-                        "id", profile.getId(),
-                        "appwriteUserId", profile.getAppwriteUserId(),
-                        "fullName", profile.getFullName(),
-                        "email", profile.getEmail(),
-                        "department", profile.getDepartment() != null ? profile.getDepartment() : "Not specified",
-                        "completionPercentage", profile.getProfileCompletionPercentage()
-                    ))
-                    .toList()
+    /**
+     * Lists profiles for the placement cell, one page at a time. Pages are fetched by seeking
+     * past the previous page's last ID, so deep pages cost the same as the first.
+     * 
+     * @param department Only this department
+     * @param year Only this year of study
+     * @param minCgpa Only profiles with at least this CGPA
+     * @param minAtsScore Only profiles with at least this ATS score
+     * @param cursor The nextCursor from the previous page; omit for the first page
+     * @param limit Profiles per page, at most 200
+     */
+    @GetMapping("/profiles")
+    public ResponseEntity<Map<String, Object>> listProfiles(
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) java.math.BigDecimal minCgpa,
+            @RequestParam(required = false) Integer minAtsScore,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        
+        if (limit < 1 || limit > 200) {
+            return ResponseEntity.badRequest().body(Map.of(
+                "success", false,
+                "message", "limit must be between 1 and 200"
             ));
-            
-        } catch (Exception e) {
-            log.error("Failed to list profiles: {}", e.getMessage());
+        }
+        
+        ProfileFilter filter = ProfileFilter.builder()
+            .department(department != null && !department.isBlank() ? department.trim() : null)
+            .currentYear(year)
+            .minCgpa(minCgpa)
+            .minAtsScore(minAtsScore)
+            .build();
+        
+        ProfilePage page;
+        try {
+            page = userProfileService.listProfiles(filter, cursor, limit);
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(Map.of(
                 "success", false,
-                "message", "Failed to list profiles: " + e.getMessage()
+                "message", e.getMessage()
             ));
         }
+        
+        Map<String, Object> data = new HashMap<>();
+        data.put("profiles", page.getProfiles().stream().map(this::toListItem).toList());
+        data.put("count", page.getProfiles().size());
+        data.put("nextCursor", page.getNextCursor());
+        data.put("hasMore", page.getNextCursor() != null);
+        return ResponseEntity.ok(Map.of(
+            "success", true,
+            "data", data
+        ));
+    }
+    
+    private Map<String, Object> toListItem(UserProfileSimple profile) {
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("id", profile.getId());
+        item.put("appwriteUserId", profile.getAppwriteUserId());
+        item.put("fullName", profile.getFullName());
+        item.put("email", profile.getEmail());
+        item.put("department", profile.getDepartment() != null ? profile.getDepartment() : "Not specified");
+        item.put("currentYear", profile.getCurrentYear());
+        item.put("currentCgpa", profile.getCurrentCgpa());
+        item.put("atsScore", profile.getAtsScore());
+        item.put("completionPercentage", profile.getProfileCompletionPercentage());
+        return item;
     }
     
+    /**
+     * Exports every profile. Rows are streamed from a database cursor straight into the
+     * response, so the export does not hold the student list in memory.
+     * 
+     * @param format json (the default, same shape as before), ndjson or csv
+     * @param gzip Whether to gzip the download
+     */
     @GetMapping("/export/all")
-    public ResponseEntity<Map<String, Object>> exportAllData() {
+    public ResponseEntity<StreamingResponseBody> exportAllData(
+            @RequestParam(defaultValue = "json") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        
+        ProfileExportService.Format exportFormat;
         try {
-            log.info("=== EXPORTING ALL DATA ===");
-            
-            java.util.List<UserProfileSimple> allProfiles = userProfileService.getAllProfiles();
-            
-            java.util.List<Map<String, Object>> detailedProfiles = allProfiles.stream()
-                .map(profile -> {
-                    Map<String, Object> profileData = new java.util.HashMap<>();
-                    profileData.put("id", profile.getId());
-                    profileData.put("appwriteUserId", profile.getAppwriteUserId());
-                    profileData.put("fullName", profile.getFullName());
-                    profileData.put("email", profile.getEmail());
-                    profileData.put("phone", profile.getPhone());
-                    profileData.put("department", profile.getDepartment());
-                    profileData.put("currentYear", profile.getCurrentYear());
-                    profileData.put("currentCgpa", profile.getCurrentCgpa());
-                    profileData.put("backlogs", profile.getBacklogs());
-                    profileData.put("linkedinUrl", profile.getLinkedinUrl());
-                    profileData.put("githubUrl", profile.getGithubUrl());
-                    profileData.put("portfolioUrl", profile.getPortfolioUrl());
-                    profileData.put("resumeUrl", profile.getResumeUrl());
-                    profileData.put("completionPercentage", profile.getProfileCompletionPercentage());
-                    profileData.put("createdAt", profile.getCreatedAt());
-                    profileData.put("updatedAt", profile.getUpdatedAt());
-                    return profileData;
-                })
-                .toList();
-            
-            Map<String, Object> exportData = Map.of(
-                "success", true,
-                "timestamp", java.time.LocalDateTime.now().toString(),
-                "totalRecords", allProfiles.size(),
-                "profiles", detailedProfiles,
-                "summary", Map.of(
-                    "totalProfiles", allProfiles.size(),
-                    "departments", allProfiles.stream()
-                        .map(UserProfileSimple::getDepartment)
-                        .filter(dept -> dept != null && !dept.isEmpty())
-                        .distinct()
-                        .sorted()
-                        .toList(),
-                    "averageCompletion", allProfiles.stream()
-                        .mapToInt(profile -> profile.getProfileCompletionPercentage() != null ? 
-                            profile.getProfileCompletionPercentage() : 0)
-                        .average()
-                        .orElse(0.0)
-                )
-            );
-            
-            log.info("✅ Exported {} profiles successfully", allProfiles.size());
-            return ResponseEntity.ok(exportData);
-            
-        } catch (Exception e) {
-            log.error("❌ Failed to export data: {}", e.getMessage(), e);
-            return ResponseEntity.badRequest().body(Map.of(
+            exportFormat = ProfileExportService.Format.parse(format);
+        } catch (IllegalArgumentException e) {
+            // The return type must stay StreamingResponseBody for Spring to stream it, so the error is written the same way
+            Map<String, Object> error = Map.of(
                 "success", false,
-                "message", "Failed to export data: " + e.getMessage()
-            ));
+                "message", "Unsupported export format: " + format + " (use json, ndjson or csv)"
+            );
+            return ResponseEntity.badRequest()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> objectMapper.writeValue(out, error));
         }
+        
+        log.info("=== EXPORTING ALL DATA as {}{} ===", exportFormat, gzip ? " (gzip)" : "");
+        StreamingResponseBody body = out -> {
+            if (gzip) {
+                GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024);
+                profileExportService.export(exportFormat, compressed);
+                compressed.finish();
+            } else {
+                profileExportService.export(exportFormat, out);
+            }
+        };
+        
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType()));
+        if (gzip || exportFormat != ProfileExportService.Format.JSON) {
+            String fileName = "profiles-" + java.time.LocalDate.now() + "." + exportFormat.getExtension() + (gzip ? ".gz" : "");
+            response.header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString());
+        }
+        return response.body(body);
     }
     
     @GetMapping("/exists")
@@ -277,18 +308,19 @@ public class UserProfileSimpleController {
             @RequestHeader("X-Appwrite-User-Id") String appwriteUserId) {
         
         try {
-            log.info("Checking profile existence for user: {}", appwriteUserId);
+            log.debug("Checking profile existence for user: {}", appwriteUserId);
             
             Optional<UserProfileSimple> profileOpt = userProfileService.getProfileByAppwriteUserId(appwriteUserId);
             
-            return ResponseEntity.ok(Map.of(
-                "success", true,
-                "exists", profileOpt.isPresent(),
-                "data", profileOpt.isPresent() ? Map.of(
-                    "id", profileOpt.get().getId(),
-                    "completionPercentage", profileOpt.get().getProfileCompletionPercentage()
-                ) : null
-            ));
+            // Map.of rejects null values, and "data" is null for users who have not registered yet
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("exists", profileOpt.isPresent());
+            response.put("data", profileOpt.isPresent() ? Map.of(
+                "id", profileOpt.get().getId(),
+                "completionPercentage", profileOpt.get().getProfileCompletionPercentage()
+            ) : null);
+            return ResponseEntity.ok(response);
             
         } catch (Exception e) {
             log.error("Profile existence check failed for user {}: {}", appwriteUserId, e.getMessage());
@@ -1,5 +1,6 @@
 package com.placement.expo.domain;
 
+import com.placement.expo.event.EntityChangePublisher;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
@@ -16,6 +17,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "jobs")
+@EntityListeners(EntityChangePublisher.class)
 public class Job {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,6 +1,7 @@
 package com.placement.expo.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.placement.expo.event.EntityChangePublisher;
 import javax.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -12,6 +13,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "academic_records")
+@EntityListeners(EntityChangePublisher.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.placement.expo.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.placement.expo.event.EntityChangePublisher;
 import javax.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -13,6 +14,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "companies")
+@EntityListeners(EntityChangePublisher.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -1,6 +1,7 @@
 package com.placement.expo.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.placement.expo.event.EntityChangePublisher;
 import javax.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -11,7 +12,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "job_applications")
+@Table(name = "job_applications", indexes = {
+    @Index(name = "idx_job_applications_profile_date", columnList = "user_profile_id, application_date")
+})
+@EntityListeners(EntityChangePublisher.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -111,6 +115,35 @@ public class JobApplication {
     @JsonIgnore
     private Company company;
     
+    // State as last loaded or written, so change listeners can tell what an update replaced
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private ApplicationStatus savedStatus;
+    
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private LocalDateTime savedInterviewDate;
+    
+    @Transient
+    @JsonIgnore
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private BigDecimal savedOfferedPackage;
+    
+    // Entity listeners run before this, so they still see the state being replaced
+    @PostLoad
+    @PostPersist
+    @PostUpdate
+    protected void rememberSavedState() {
+        savedStatus = status;
+        savedInterviewDate = interviewDate;
+        savedOfferedPackage = offeredPackage;
+    }
+    
     // Enums
     public enum ApplicationSource {
         CAMPUS, ONLINE, REFERRAL, WALK_IN
@@ -1,6 +1,7 @@
 package com.placement.expo.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.placement.expo.event.EntityChangePublisher;
 import javax.persistence.*;
 import lombok.*;
 
@@ -8,7 +9,10 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "placement_statistics")
+@Table(name = "placement_statistics", indexes = {
+    @Index(name = "idx_placement_statistics_appwrite_user", columnList = "appwrite_user_id", unique = true)
+})
+@EntityListeners(EntityChangePublisher.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -88,6 +92,15 @@ public class PlacementStatistics {
     @JsonIgnore
     private UserProfile userProfile;
     
+    @Column(name = "user_profile_id", insertable = false, updatable = false)
+    @JsonIgnore
+    private Long userProfileId;
+    
+    // Copied from the profile so the dashboard reads its row without a join
+    @Column(name = "appwrite_user_id")
+    @JsonIgnore
+    private String appwriteUserId;
+    
     // Enums
     public enum PlacementStatus {
         SEEKING, PLACED, HIGHER_STUDIES, ENTREPRENEUR
@@ -120,6 +133,22 @@ public class PlacementStatistics {
         }
     }
     
+    /**
+     * Applies changes to the application counters and refreshes the success rate
+     * and placement status from them
+     */
+    public void addCounts(int applications, int pending, int rejected, int interviews, int offers) {
+        this.totalApplications = Math.max(0, (this.totalApplications == null ? 0 : this.totalApplications) + applications);
+        this.applicationsPending = Math.max(0, (this.applicationsPending == null ? 0 : this.applicationsPending) + pending);
+        this.applicationsRejected = Math.max(0, (this.applicationsRejected == null ? 0 : this.applicationsRejected) + rejected);
+        this.interviewsAttended = Math.max(0, (this.interviewsAttended == null ? 0 : this.interviewsAttended) + interviews);
+        this.offersReceived = Math.max(0, (this.offersReceived == null ? 0 : this.offersReceived) + offers);
+        recalculateSuccessRate();
+        if (placementStatus == null || placementStatus == PlacementStatus.SEEKING || placementStatus == PlacementStatus.PLACED) {
+            this.placementStatus = offersReceived > 0 ? PlacementStatus.PLACED : PlacementStatus.SEEKING;
+        }
+    }
+    
     public void incrementProfileViews() {
         this.profileViews = (this.profileViews == null ? 0 : this.profileViews) + 1;
     }
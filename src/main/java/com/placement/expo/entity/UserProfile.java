@@ -1,6 +1,7 @@
 package com.placement.expo.entity;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.placement.expo.event.EntityChangePublisher;
 import javax.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -13,12 +14,22 @@ import java.util.List;
 
 @Entity
 @Table(name = "user_profiles")
+@EntityListeners(EntityChangePublisher.class)
+@NamedEntityGraph(name = UserProfile.WITH_STATISTICS, attributeNodes = @NamedAttributeNode("placementStatistics"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class UserProfile {
     
+    /**
+     * Fetches the statistics row in the same query. Hibernate cannot proxy the inverse side of a
+     * one-to-one, so without it every loaded profile costs a second query for its statistics.
+     * Collections are left out: fetching several lists at once multiplies rows, so they are
+     * loaded one batch query per collection instead.
+     */
+    public static final String WITH_STATISTICS = "UserProfile.withStatistics";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -142,33 +153,47 @@ public class UserProfile {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
     
-    // Relationships
+    // Relationships (left out of toString/equals/hashCode, which would otherwise load them all)
     @OneToMany(mappedBy = "userProfile", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<AcademicRecord> academicRecords;
     
     @OneToMany(mappedBy = "userProfile", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Skill> skills;
     
     @OneToMany(mappedBy = "userProfile", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Project> projects;
     
     @OneToMany(mappedBy = "userProfile", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Experience> experiences;
     
     @OneToMany(mappedBy = "userProfile", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<Certification> certifications;
     
     @OneToMany(mappedBy = "userProfile", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private List<JobApplication> jobApplications;
     
     @OneToOne(mappedBy = "userProfile", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private PlacementStatistics placementStatistics;
     
     // Utility methods
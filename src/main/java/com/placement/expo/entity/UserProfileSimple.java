@@ -1,14 +1,20 @@
 package com.placement.expo.entity;
 
+import com.placement.expo.event.EntityChangePublisher;
 import javax.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "user_profiles_simple")
+// Keyset listing seeks on id within these filters
+@Table(name = "user_profiles_simple", indexes = {
+    @Index(name = "idx_profiles_department_id", columnList = "department, id"),
+    @Index(name = "idx_profiles_year_id", columnList = "current_year, id")
+})
+@EntityListeners(EntityChangePublisher.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class UserProfileSimple {
     
     @Id
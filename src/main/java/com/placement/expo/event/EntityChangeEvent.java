@@ -0,0 +1,33 @@
+package com.placement.expo.event;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published after an entity is inserted, updated or deleted so in-memory indexes and
+ * caches can react without polling the database
+ */
+@Getter
+@ToString
+public class EntityChangeEvent {
+
+    private final Object entity;
+    private final ChangeType changeType;
+
+    public EntityChangeEvent(Object entity, ChangeType changeType) {
+        this.entity = entity;
+        this.changeType = changeType;
+    }
+
+    public boolean isFor(Class<?> entityType) {
+        return entityType.isInstance(entity);
+    }
+
+    public <T> T getEntity(Class<T> entityType) {
+        return entityType.cast(entity);
+    }
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+}
@@ -0,0 +1,36 @@
+package com.placement.expo.event;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+ * JPA entity listener that republishes lifecycle callbacks as {@link EntityChangeEvent}s.
+ * Register it on an entity with {@code @EntityListeners(EntityChangePublisher.class)};
+ * consumers should use {@code @TransactionalEventListener} so they only see committed changes.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityChangePublisher {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    public void onCreated(Object entity) {
+        eventPublisher.publishEvent(new EntityChangeEvent(entity, EntityChangeEvent.ChangeType.CREATED));
+    }
+
+    @PostUpdate
+    public void onUpdated(Object entity) {
+        eventPublisher.publishEvent(new EntityChangeEvent(entity, EntityChangeEvent.ChangeType.UPDATED));
+    }
+
+    @PostRemove
+    public void onDeleted(Object entity) {
+        eventPublisher.publishEvent(new EntityChangeEvent(entity, EntityChangeEvent.ChangeType.DELETED));
+    }
+}
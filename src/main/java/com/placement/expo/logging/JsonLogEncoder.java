@@ -0,0 +1,123 @@
+package com.placement.expo.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Writes each event as one line of JSON: timestamp, level, logger, thread, the formatted
+ * message, its template when it had arguments (so identical statements can be grouped), the
+ * MDC and the stack trace. Runs on the async appender's worker, so a single builder per thread
+ * is reused and the only per-event allocation is the output bytes.
+ * <pre>
+ * &lt;encoder class="com.placement.expo.logging.JsonLogEncoder"&gt;
+ *     &lt;service&gt;placement-expo&lt;/service&gt;
+ * &lt;/encoder&gt;
+ * </pre>
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    /** Builders that grew past this for a stack trace are dropped rather than kept around */
+    private static final int MAX_RETAINED_CAPACITY = 16 * 1024;
+
+    private final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(512));
+    private String service;
+
+    /**
+     * @param service Written as the "service" field of every event, if set
+     */
+    public void setService(String service) {
+        this.service = service;
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        StringBuilder json = buffers.get();
+        json.setLength(0);
+        json.append("{\"timestamp\":\"");
+        DateTimeFormatter.ISO_INSTANT.formatTo(Instant.ofEpochMilli(event.getTimeStamp()), json);
+        json.append("\",\"level\":\"").append(event.getLevel().levelStr).append('"');
+        field(json, "logger", event.getLoggerName());
+        field(json, "thread", event.getThreadName());
+        if (service != null) {
+            field(json, "service", service);
+        }
+        field(json, "message", event.getFormattedMessage());
+        if (event.getArgumentArray() != null && event.getArgumentArray().length > 0) {
+            field(json, "template", event.getMessage());
+        }
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            json.append(",\"mdc\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                string(json, entry.getKey());
+                json.append(':');
+                string(json, entry.getValue());
+            }
+            json.append('}');
+        }
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            field(json, "exception", throwable.getClassName());
+            field(json, "stackTrace", ThrowableProxyUtil.asString(throwable));
+        }
+        json.append("}\n");
+
+        byte[] bytes = json.toString().getBytes(StandardCharsets.UTF_8);
+        if (json.capacity() > MAX_RETAINED_CAPACITY) {
+            buffers.remove();
+        }
+        return bytes;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    private static void field(StringBuilder json, String name, String value) {
+        json.append(",\"").append(name).append("\":");
+        string(json, value);
+    }
+
+    private static void string(StringBuilder json, String value) {
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': json.append("\\\""); break;
+                case '\\': json.append("\\\\"); break;
+                case '\n': json.append("\\n"); break;
+                case '\r': json.append("\\r"); break;
+                case '\t': json.append("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        json.append("\\u00").append(Character.forDigit(c >> 4, 16)).append(Character.forDigit(c & 0xF, 16));
+                    } else {
+                        json.append(c);
+                    }
+            }
+        }
+        json.append('"');
+    }
+}
@@ -0,0 +1,99 @@
+package com.placement.expo.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps one in N events per logger package, decided before the event is created. Only events
+ * at or below {@code maxLevel} (INFO by default) that the logger would otherwise write are
+ * sampled; warnings and errors always pass. The longest matching package wins, so a
+ * sub-package can be set back to 1.
+ * <pre>
+ * &lt;turboFilter class="com.placement.expo.logging.SamplingTurboFilter"&gt;
+ *     &lt;samples&gt;com.placement.expo.controller=10,com.placement.expo.service=5&lt;/samples&gt;
+ * &lt;/turboFilter&gt;
+ * </pre>
+ * Level checks such as {@code log.isDebugEnabled()} are never sampled, only the logging calls.
+ */
+public class SamplingTurboFilter extends TurboFilter {
+
+    private static final Rule KEEP_ALL = new Rule("", 1);
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, Rule> rulesByLogger = new ConcurrentHashMap<>();
+    private Level maxLevel = Level.INFO;
+
+    /**
+     * @param samples Comma-separated {@code package=N} pairs; blank disables sampling
+     */
+    public void setSamples(String samples) {
+        rules.clear();
+        rulesByLogger.clear();
+        if (samples == null || samples.isBlank()) {
+            return;
+        }
+        for (String sample : samples.split(",")) {
+            String[] parts = sample.trim().split("=");
+            int oneIn;
+            try {
+                oneIn = parts.length == 2 ? Integer.parseInt(parts[1].trim()) : 0;
+            } catch (NumberFormatException e) {
+                oneIn = 0;
+            }
+            if (oneIn < 1) {
+                addError("Invalid log sample \"" + sample + "\", expected package=N with N >= 1");
+                continue;
+            }
+            rules.add(new Rule(parts[0].trim(), oneIn));
+        }
+        rules.sort(Comparator.comparingInt((Rule rule) -> rule.prefix.length()).reversed());
+    }
+
+    public void setMaxLevel(String maxLevel) {
+        this.maxLevel = Level.toLevel(maxLevel, Level.INFO);
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (format == null || rules.isEmpty() || level.levelInt > maxLevel.levelInt
+                || level.levelInt < logger.getEffectiveLevel().levelInt) {
+            return FilterReply.NEUTRAL;
+        }
+        Rule rule = rulesByLogger.computeIfAbsent(logger.getName(), this::ruleFor);
+        if (rule.oneIn == 1) {
+            return FilterReply.NEUTRAL;
+        }
+        return rule.seen.getAndIncrement() % rule.oneIn == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    private Rule ruleFor(String loggerName) {
+        for (Rule rule : rules) {
+            if (loggerName.equals(rule.prefix) || loggerName.startsWith(rule.prefix + ".")) {
+                return rule;
+            }
+        }
+        return KEEP_ALL;
+    }
+
+    private static final class Rule {
+
+        final String prefix;
+        final int oneIn;
+        final AtomicLong seen = new AtomicLong();
+
+        Rule(String prefix, int oneIn) {
+            this.prefix = prefix;
+            this.oneIn = oneIn;
+        }
+    }
+}
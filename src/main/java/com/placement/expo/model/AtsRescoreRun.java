@@ -0,0 +1,58 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Progress of one batch re-scoring pass over the stored resumes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AtsRescoreRun {
+
+    private String id;
+    private String modelVersion;
+    private volatile Status status;
+    private LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile int totalFiles;
+    /** Files skipped because an earlier run for the same model version already scored them */
+    private volatile int resumedFrom;
+    private volatile String error;
+
+    @Builder.Default
+    private AtomicInteger scored = new AtomicInteger();
+    @Builder.Default
+    private AtomicInteger failed = new AtomicInteger();
+    @Builder.Default
+    private AtomicInteger profilesUpdated = new AtomicInteger();
+
+    public int getProcessed() {
+        return resumedFrom + scored.get() + failed.get();
+    }
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED || status == Status.CANCELLED;
+    }
+
+    /**
+     * @return Files per second scored by this run, excluding files skipped on resume
+     */
+    public double getThroughput() {
+        LocalDateTime end = completedAt != null ? completedAt : LocalDateTime.now();
+        long millis = Math.max(1, Duration.between(startedAt, end).toMillis());
+        return (scored.get() + failed.get()) * 1000.0 / millis;
+    }
+
+    public enum Status {
+        SCANNING, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+}
@@ -12,7 +12,7 @@ import java.util.Map;
  * Model class for ATS (Applicant Tracking System) scoring results
  */
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class AtsScoreResult {
@@ -22,6 +22,8 @@ public class AtsScoreResult {
     private List<String> strengths;
     private List<String> weaknesses;
     private List<String> improvements;
+    /** Dictionary skills found in the resume, used for job matching */
+    private List<String> detectedSkills;
     
     /**
      * Provides a summary of the ATS results
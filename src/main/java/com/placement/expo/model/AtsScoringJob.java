@@ -0,0 +1,36 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Tracks one asynchronous ATS scoring request from upload to result
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AtsScoringJob {
+
+    private String id;
+    private String appwriteUserId;
+    private String fileName;
+    private volatile Status status;
+    private LocalDateTime submittedAt;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime completedAt;
+    private volatile AtsScoreResult result;
+    private volatile String error;
+
+    public boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
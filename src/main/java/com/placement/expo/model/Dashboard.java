@@ -0,0 +1,24 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A student's dashboard read model. When the client already had this version the
+ * recent applications are not loaded and {@code notModified} is set.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Dashboard {
+
+    private String eTag;
+    private boolean notModified;
+    private DashboardSummary summary;
+    private List<DashboardApplication> recentApplications;
+}
@@ -0,0 +1,28 @@
+package com.placement.expo.model;
+
+import com.placement.expo.entity.JobApplication;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One of a student's recent applications, as listed on the dashboard
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardApplication {
+
+    private Long id;
+    private String positionTitle;
+    private String companyName;
+    private JobApplication.ApplicationStatus status;
+    private LocalDateTime applicationDate;
+    private LocalDateTime interviewDate;
+    private BigDecimal offeredPackage;
+}
@@ -0,0 +1,58 @@
+package com.placement.expo.model;
+
+import com.placement.expo.entity.PlacementStatistics;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Everything on a student's dashboard except the recent applications, read as one row:
+ * the profile, its ATS result, its materialized placement statistics and enough about its
+ * applications to tell whether the dashboard changed.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummary {
+
+    private Long profileId;
+    private String firstName;
+    private String lastName;
+    private String email;
+    private String phone;
+    private String department;
+    private Integer currentYear;
+    private BigDecimal currentCgpa;
+    private Integer completionPercentage;
+    private String resumeUrl;
+    private Integer atsScore;
+    private String atsFeedback;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    private Integer totalApplications;
+    private Integer applicationsPending;
+    private Integer applicationsRejected;
+    private Integer interviewsAttended;
+    private Integer offersReceived;
+    private Integer profileViews;
+    private BigDecimal highestPackageOffered;
+    private String bestCompanySelected;
+    private PlacementStatistics.PlacementStatus placementStatus;
+    private LocalDateTime statisticsCalculatedAt;
+
+    private Long applicationCount;
+    private LocalDateTime applicationsUpdatedAt;
+
+    public String getFullName() {
+        if (firstName == null && lastName == null) return "Anonymous";
+        if (firstName == null) return lastName;
+        if (lastName == null) return firstName;
+        return firstName + " " + lastName;
+    }
+}
@@ -0,0 +1,25 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * What a placement drive requires of a student. Null or empty fields do not restrict.
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibilityCriteria {
+
+    private BigDecimal minCgpa;
+    private Integer maxBacklogs;
+    /** Matched ignoring case */
+    private Set<String> departments;
+    private Set<Integer> years;
+}
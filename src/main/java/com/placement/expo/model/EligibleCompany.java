@@ -0,0 +1,23 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * A company whose requirements a student meets
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibleCompany {
+
+    private Long companyId;
+    private String companyName;
+    private BigDecimal minCgpaRequirement;
+    private Integer allowedBacklogs;
+}
@@ -0,0 +1,26 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * A student on a drive's shortlist
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EligibleStudent {
+
+    private Long profileId;
+    private String appwriteUserId;
+    private String fullName;
+    private String department;
+    private Integer currentYear;
+    private BigDecimal currentCgpa;
+    private Integer backlogs;
+}
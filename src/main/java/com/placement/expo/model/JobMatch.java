@@ -0,0 +1,26 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * How well a resume's skills cover the skills a job asks for
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobMatch {
+
+    /** Null when matching against free text such as an application's job description */
+    private Long jobId;
+    private String title;
+    private String company;
+    private int score;
+    private List<String> matchedSkills;
+    private List<String> missingSkills;
+}
@@ -0,0 +1,26 @@
+package com.placement.expo.model;
+
+import com.placement.expo.domain.Job;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A job matching a search, with the fields needed to render a result list
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchHit {
+
+    private Long jobId;
+    private String title;
+    private String company;
+    private String location;
+    private Job.JobType type;
+    private Job.JobStatus status;
+    /** BM25 relevance; only comparable within one search */
+    private double score;
+}
@@ -0,0 +1,28 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One page of job search results with facet counts
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobSearchResult {
+
+    private List<JobSearchHit> hits;
+    /** All jobs matching the query and filters */
+    private int total;
+    /**
+     * Counts per job type and per status. Each facet ignores its own filter, so the
+     * counts show what selecting another value would return.
+     */
+    private Map<String, Map<String, Integer>> facets;
+}
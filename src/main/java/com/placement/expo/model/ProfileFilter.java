@@ -0,0 +1,23 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Optional criteria for listing profiles; null fields are not filtered on
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileFilter {
+
+    private String department;
+    private Integer currentYear;
+    private BigDecimal minCgpa;
+    private Integer minAtsScore;
+}
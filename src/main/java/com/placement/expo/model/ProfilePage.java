@@ -0,0 +1,23 @@
+package com.placement.expo.model;
+
+import com.placement.expo.entity.UserProfileSimple;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset-paginated profile listing
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfilePage {
+
+    private List<UserProfileSimple> profiles;
+    /** Pass back to fetch the next page; null on the last page */
+    private String nextCursor;
+}
@@ -0,0 +1,43 @@
+package com.placement.expo.model;
+
+import com.placement.expo.entity.AcademicRecord;
+import com.placement.expo.entity.Certification;
+import com.placement.expo.entity.Experience;
+import com.placement.expo.entity.JobApplication;
+import com.placement.expo.entity.PlacementStatistics;
+import com.placement.expo.entity.Project;
+import com.placement.expo.entity.Skill;
+import com.placement.expo.entity.UserProfile;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A student's full profile. Every section is loaded up front by batch queries, so serializing
+ * it never touches a lazy association.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileView {
+
+    private UserProfile profile;
+    private PlacementStatistics statistics;
+    @Builder.Default
+    private List<AcademicRecord> academicRecords = new ArrayList<>();
+    @Builder.Default
+    private List<Skill> skills = new ArrayList<>();
+    @Builder.Default
+    private List<Project> projects = new ArrayList<>();
+    @Builder.Default
+    private List<Experience> experiences = new ArrayList<>();
+    @Builder.Default
+    private List<Certification> certifications = new ArrayList<>();
+    @Builder.Default
+    private List<JobApplication> applications = new ArrayList<>();
+}
@@ -0,0 +1,57 @@
+package com.placement.expo.model;
+
+import com.placement.expo.entity.PlacementStatistics;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * What a recruiter sees of a student in a list: identity, academics, links, placement
+ * status and the first few skills
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecruiterCard {
+
+    private Long profileId;
+    private String appwriteUserId;
+    private String fullName;
+    private String department;
+    private String course;
+    private Integer currentYear;
+    private BigDecimal currentCgpa;
+    private Integer backlogs;
+    private LocalDate expectedGraduationDate;
+    private String resumeUrl;
+    private String linkedinUrl;
+    private String githubUrl;
+    private String portfolioUrl;
+    private PlacementStatistics.PlacementStatus placementStatus;
+    private Integer offersReceived;
+    private BigDecimal highestPackageOffered;
+    @Builder.Default
+    private List<String> skills = new ArrayList<>();
+
+    /**
+     * Projection constructor for JPQL; skills are added afterwards
+     */
+    public RecruiterCard(Long profileId, String appwriteUserId, String firstName, String lastName,
+                         String department, String course, Integer currentYear, BigDecimal currentCgpa,
+                         Integer backlogs, LocalDate expectedGraduationDate, String resumeUrl,
+                         String linkedinUrl, String githubUrl, String portfolioUrl,
+                         PlacementStatistics.PlacementStatus placementStatus, Integer offersReceived,
+                         BigDecimal highestPackageOffered) {
+        this(profileId, appwriteUserId, firstName + " " + lastName, department, course, currentYear,
+                currentCgpa, backlogs, expectedGraduationDate, resumeUrl, linkedinUrl, githubUrl,
+                portfolioUrl, placementStatus != null ? placementStatus : PlacementStatistics.PlacementStatus.SEEKING,
+                offersReceived != null ? offersReceived : 0, highestPackageOffered, new ArrayList<>());
+    }
+}
@@ -0,0 +1,33 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A student matching a recruiter search
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecruiterHit {
+
+    private Long profileId;
+    private String appwriteUserId;
+    private String fullName;
+    private String department;
+    private Integer currentYear;
+    private BigDecimal currentCgpa;
+    private Integer backlogs;
+    /** The student's skills that matched the searched ones */
+    private List<String> matchedSkills;
+    private int projects;
+    private boolean featuredProject;
+    /** Relevance; only comparable within one search */
+    private double score;
+}
@@ -0,0 +1,35 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.Set;
+
+/**
+ * A recruiter's search over students. Skills match a student's listed skills, whole or by
+ * word, case-insensitively; null or empty filters are ignored.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecruiterQuery {
+
+    /** Skills every result must have */
+    private Set<String> allSkills;
+    /** Skills of which results must have at least one */
+    private Set<String> anySkills;
+    /** Skills no result may have */
+    private Set<String> excludedSkills;
+    private BigDecimal minCgpa;
+    private BigDecimal maxCgpa;
+    private Integer maxBacklogs;
+    private Set<String> departments;
+    private Set<Integer> years;
+    /** Only students with a featured project */
+    private Boolean featuredProject;
+    private Integer minProjects;
+}
@@ -0,0 +1,22 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of recruiter search results, best match first
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecruiterSearchResult {
+
+    private RecruiterQuery query;
+    private int total;
+    private List<RecruiterHit> hits;
+}
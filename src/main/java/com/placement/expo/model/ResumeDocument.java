@@ -0,0 +1,55 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tokenized view of an uploaded resume, produced by the streaming text extractor.
+ * Only counters and a bounded term table are kept, never the raw text.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeDocument {
+
+    private Format format;
+    private long bytesRead;
+    private int characterCount;
+    private int wordCount;
+    private int lineCount;
+    private int bulletCount;
+    private int emailCount;
+    private int phoneCount;
+    private int urlCount;
+    private int numericTokenCount;
+    private int actionVerbCount;
+    private Set<String> sections;
+    private Map<String, Integer> termFrequencies;
+    /** Canonical names of the dictionary skills found in the text */
+    private Set<String> skills;
+    private boolean truncated;
+
+    /**
+     * @return true if the section heading (e.g. "education") was detected
+     */
+    public boolean hasSection(String section) {
+        return sections != null && sections.contains(section);
+    }
+
+    /**
+     * @return true if the (lowercase) term occurs in the resume
+     */
+    public boolean containsTerm(String term) {
+        return termFrequencies != null && termFrequencies.containsKey(term);
+    }
+
+    public enum Format {
+        PDF, DOCX, DOC, TEXT, UNKNOWN
+    }
+}
@@ -0,0 +1,26 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Metadata needed to serve a stored resume without touching its bytes
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeFileInfo {
+
+    private String fileName;
+    private long size;
+    private long lastModified;
+    /** Hex SHA-256 of the content, used as the strong ETag */
+    private String contentHash;
+
+    public String getETag() {
+        return "\"" + contentHash + "\"";
+    }
+}
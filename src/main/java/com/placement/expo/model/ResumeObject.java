@@ -0,0 +1,21 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * An object in resume storage, as reported by a listing or metadata lookup
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumeObject {
+
+    /** The stored file name, which is also the storage key */
+    private String key;
+    private long size;
+    private long lastModified;
+}
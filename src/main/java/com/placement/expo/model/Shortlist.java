@@ -0,0 +1,23 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of the students eligible for a drive, highest CGPA first
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Shortlist {
+
+    private EligibilityCriteria criteria;
+    /** All eligible students, not just this page */
+    private int total;
+    private List<EligibleStudent> students;
+}
@@ -0,0 +1,23 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A resume written to storage, with the facts gathered while it streamed in
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoredResume {
+
+    /** The stored file name, which is also the storage key */
+    private String fileName;
+    private long size;
+    /** Hex SHA-256 of the stored bytes */
+    private String contentHash;
+    private ResumeDocument.Format format;
+}
@@ -0,0 +1,20 @@
+package com.placement.expo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One typeahead suggestion
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Suggestion {
+
+    private String text;
+    /** How often the name is used, e.g. profiles listing a skill or jobs posted by a company */
+    private long weight;
+}
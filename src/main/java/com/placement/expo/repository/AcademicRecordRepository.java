@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,9 @@ public interface AcademicRecordRepository extends JpaRepository<AcademicRecord,
     // Find by user profile
     List<AcademicRecord> findByUserProfileIdOrderByEducationLevelAsc(Long userProfileId);
     
+    // Batch fetch for several profiles in one query
+    List<AcademicRecord> findByUserProfileIdInOrderByEducationLevelAsc(Collection<Long> userProfileIds);
+    
     // Find by education level
     List<AcademicRecord> findByUserProfileIdAndEducationLevel(
         Long userProfileId, AcademicRecord.EducationLevel educationLevel);
@@ -21,8 +25,9 @@ public interface AcademicRecordRepository extends JpaRepository<AcademicRecord,
     // Find current education
     List<AcademicRecord> findByUserProfileIdAndIsCurrentTrue(Long userProfileId);
     
-    // Find by institution
-    List<AcademicRecord> findByInstitutionNameContainingIgnoreCase(String institutionName);
+    // Institutions by number of academic records, for typeahead
+    @Query("SELECT ar.institutionName, COUNT(ar) FROM AcademicRecord ar GROUP BY ar.institutionName")
+    List<Object[]> getInstitutionCounts();
     
     // Performance queries
     @Query("SELECT ar FROM AcademicRecord ar WHERE ar.userProfile.id = :userProfileId AND ar.cgpa >= :minCgpa")
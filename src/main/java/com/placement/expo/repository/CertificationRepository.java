@@ -0,0 +1,18 @@
+package com.placement.expo.repository;
+
+import com.placement.expo.entity.Certification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CertificationRepository extends JpaRepository<Certification, Long> {
+    
+    // Find by user profile
+    List<Certification> findByUserProfileIdOrderByIssueDateDesc(Long userProfileId);
+    
+    // Batch fetch for several profiles in one query
+    List<Certification> findByUserProfileIdInOrderByIssueDateDesc(Collection<Long> userProfileIds);
+}
@@ -0,0 +1,15 @@
+package com.placement.expo.repository;
+
+import com.placement.expo.entity.Company;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CompanyRepository extends JpaRepository<Company, Long> {
+    
+    @Query("SELECT c.companyName FROM Company c WHERE c.isActive = true")
+    List<String> findActiveCompanyNames();
+}
@@ -0,0 +1,18 @@
+package com.placement.expo.repository;
+
+import com.placement.expo.entity.Experience;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ExperienceRepository extends JpaRepository<Experience, Long> {
+    
+    // Find by user profile
+    List<Experience> findByUserProfileIdOrderByStartDateDesc(Long userProfileId);
+    
+    // Batch fetch for several profiles in one query
+    List<Experience> findByUserProfileIdInOrderByStartDateDesc(Collection<Long> userProfileIds);
+}
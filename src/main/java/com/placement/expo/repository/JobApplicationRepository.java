@@ -1,12 +1,15 @@
 package com.placement.expo.repository;
 
 import com.placement.expo.entity.JobApplication;
+import com.placement.expo.model.DashboardApplication;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -15,6 +18,9 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     // Find by user profile
     List<JobApplication> findByUserProfileIdOrderByApplicationDateDesc(Long userProfileId);
     
+    // Batch fetch for several profiles in one query
+    List<JobApplication> findByUserProfileIdInOrderByApplicationDateDesc(Collection<Long> userProfileIds);
+    
     // Find by status
     List<JobApplication> findByUserProfileIdAndStatus(Long userProfileId, JobApplication.ApplicationStatus status);
     
@@ -29,6 +35,13 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     List<JobApplication> findByUserProfileIdAndApplicationDateAfterOrderByApplicationDateDesc(
         Long userProfileId, LocalDateTime since);
     
+    // Recent applications for the dashboard, without loading the entities
+    @Query("SELECT new com.placement.expo.model.DashboardApplication(" +
+           "ja.id, ja.positionTitle, c.companyName, ja.status, ja.applicationDate, ja.interviewDate, ja.offeredPackage) " +
+           "FROM JobApplication ja JOIN ja.company c JOIN ja.userProfile up " +
+           "WHERE up.appwriteUserId = :appwriteUserId ORDER BY ja.applicationDate DESC, ja.id DESC")
+    List<DashboardApplication> findRecentForDashboard(@Param("appwriteUserId") String appwriteUserId, Pageable pageable);
+    
     // Statistics queries
     @Query("SELECT ja.status, COUNT(ja) FROM JobApplication ja WHERE ja.userProfile.id = :userProfileId GROUP BY ja.status")
     List<Object[]> getApplicationStatusCount(@Param("userProfileId") Long userProfileId);
@@ -41,4 +54,9 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     
     @Query("SELECT MAX(ja.offeredPackage) FROM JobApplication ja WHERE ja.userProfile.id = :userProfileId AND ja.offeredPackage IS NOT NULL")
     java.math.BigDecimal findHighestPackageOffered(@Param("userProfileId") Long userProfileId);
+    
+    // Best offer with its company, for re-deriving a student's highest package after it was withdrawn
+    @Query("SELECT ja.offeredPackage, c.companyName FROM JobApplication ja JOIN ja.company c " +
+           "WHERE ja.userProfile.id = :userProfileId AND ja.offeredPackage IS NOT NULL ORDER BY ja.offeredPackage DESC")
+    List<Object[]> findOffersByPackageDesc(@Param("userProfileId") Long userProfileId, Pageable pageable);
 }
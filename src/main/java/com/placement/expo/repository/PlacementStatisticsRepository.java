@@ -2,10 +2,13 @@ package com.placement.expo.repository;
 
 import com.placement.expo.entity.PlacementStatistics;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,14 @@ public interface PlacementStatisticsRepository extends JpaRepository<PlacementSt
     // Find by user profile
     Optional<PlacementStatistics> findByUserProfileId(Long userProfileId);
     
+    // Find by Appwrite User ID (dashboard lookup, one indexed row)
+    Optional<PlacementStatistics> findByAppwriteUserId(String appwriteUserId);
+    
+    // Rows for a batch of profiles, locked so concurrent materializers apply their changes one after another
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ps FROM PlacementStatistics ps WHERE ps.userProfileId IN :userProfileIds")
+    List<PlacementStatistics> findForUpdateByUserProfileIdIn(@Param("userProfileIds") Collection<Long> userProfileIds);
+    
     // Find by placement status
     List<PlacementStatistics> findByPlacementStatus(PlacementStatistics.PlacementStatus placementStatus);
     
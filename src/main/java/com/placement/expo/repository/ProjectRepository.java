@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,17 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // Find by user profile
     List<Project> findByUserProfileIdOrderByDisplayOrderAscCreatedAtDesc(Long userProfileId);
     
+    // Batch fetch for several profiles in one query
+    List<Project> findByUserProfileIdInOrderByDisplayOrderAscCreatedAtDesc(Collection<Long> userProfileIds);
+    
+    // Recruiter search documents, as [userProfileId, isFeatured, technologiesUsed] rows
+    @Query("SELECT p.userProfile.id, p.isFeatured, p.technologiesUsed FROM Project p")
+    List<Object[]> findRecruiterSearchRows();
+    
+    @Query("SELECT p.userProfile.id, p.isFeatured, p.technologiesUsed FROM Project p " +
+           "WHERE p.userProfile.id IN :userProfileIds")
+    List<Object[]> findRecruiterSearchRows(@Param("userProfileIds") Collection<Long> userProfileIds);
+    
     // Find featured projects
     List<Project> findByUserProfileIdAndIsFeaturedTrueOrderByDisplayOrderAsc(Long userProfileId);
     
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -14,6 +15,22 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     // Find by user profile
     List<Skill> findByUserProfileIdOrderBySkillCategoryAscProficiencyLevelDesc(Long userProfileId);
     
+    // Batch fetch for several profiles in one query
+    List<Skill> findByUserProfileIdInOrderBySkillCategoryAscProficiencyLevelDesc(Collection<Long> userProfileIds);
+    
+    // Skill names for several profiles in the order they were added, as [userProfileId, skillName] rows
+    @Query("SELECT s.userProfile.id, s.skillName FROM Skill s WHERE s.userProfile.id IN :userProfileIds " +
+           "ORDER BY s.userProfile.id, s.id")
+    List<Object[]> findSkillNamesByUserProfileIdIn(@Param("userProfileIds") Collection<Long> userProfileIds);
+    
+    // Recruiter search documents, as [userProfileId, skillName, proficiencyLevel, isVerified] rows
+    @Query("SELECT s.userProfile.id, s.skillName, s.proficiencyLevel, s.isVerified FROM Skill s")
+    List<Object[]> findRecruiterSearchRows();
+    
+    @Query("SELECT s.userProfile.id, s.skillName, s.proficiencyLevel, s.isVerified FROM Skill s " +
+           "WHERE s.userProfile.id IN :userProfileIds")
+    List<Object[]> findRecruiterSearchRows(@Param("userProfileIds") Collection<Long> userProfileIds);
+    
     // Find by skill category
     List<Skill> findByUserProfileIdAndSkillCategory(Long userProfileId, Skill.SkillCategory skillCategory);
     
@@ -24,9 +41,6 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     List<Skill> findByUserProfileIdAndProficiencyLevel(
         Long userProfileId, Skill.ProficiencyLevel proficiencyLevel);
     
-    // Search skills
-    List<Skill> findBySkillNameContainingIgnoreCase(String skillName);
-    
     // Statistics
     @Query("SELECT s.skillCategory, COUNT(s) FROM Skill s WHERE s.userProfile.id = :userProfileId GROUP BY s.skillCategory")
     List<Object[]> getSkillCategoryCount(@Param("userProfileId") Long userProfileId);
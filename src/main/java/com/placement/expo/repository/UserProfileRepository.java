@@ -1,11 +1,14 @@
 package com.placement.expo.repository;
 
 import com.placement.expo.entity.UserProfile;
+import com.placement.expo.model.RecruiterCard;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,6 +18,31 @@ public interface UserProfileRepository extends JpaRepository<UserProfile, Long>
     // Find by Appwrite User ID (primary lookup method)
     Optional<UserProfile> findByAppwriteUserId(String appwriteUserId);
     
+    // Appwrite user IDs for a batch of profiles, as [id, appwriteUserId] rows
+    @Query("SELECT up.id, up.appwriteUserId FROM UserProfile up WHERE up.id IN :ids")
+    List<Object[]> findAppwriteUserIds(@Param("ids") Collection<Long> ids);
+    
+    // Profiles with their statistics row, in one query
+    @EntityGraph(UserProfile.WITH_STATISTICS)
+    List<UserProfile> findByAppwriteUserIdIn(Collection<String> appwriteUserIds);
+    
+    // Recruiter cards, without loading the entities
+    @Query("SELECT new com.placement.expo.model.RecruiterCard(" +
+           "up.id, up.appwriteUserId, up.firstName, up.lastName, up.department, up.course, up.currentYear, " +
+           "up.currentCgpa, up.backlogs, up.expectedGraduationDate, up.resumeUrl, up.linkedinUrl, up.githubUrl, " +
+           "up.portfolioUrl, ps.placementStatus, ps.offersReceived, ps.highestPackageOffered) " +
+           "FROM UserProfile up LEFT JOIN up.placementStatistics ps WHERE up.appwriteUserId IN :appwriteUserIds")
+    List<RecruiterCard> findRecruiterCards(@Param("appwriteUserIds") Collection<String> appwriteUserIds);
+    
+    // Recruiter search documents, as [id, appwriteUserId, firstName, lastName, department, currentYear, currentCgpa, backlogs] rows
+    @Query("SELECT up.id, up.appwriteUserId, up.firstName, up.lastName, up.department, up.currentYear, " +
+           "up.currentCgpa, up.backlogs FROM UserProfile up")
+    List<Object[]> findRecruiterSearchRows();
+    
+    @Query("SELECT up.id, up.appwriteUserId, up.firstName, up.lastName, up.department, up.currentYear, " +
+           "up.currentCgpa, up.backlogs FROM UserProfile up WHERE up.id IN :ids")
+    List<Object[]> findRecruiterSearchRows(@Param("ids") Collection<Long> ids);
+    
     // Check if profile exists
     boolean existsByAppwriteUserId(String appwriteUserId);
     
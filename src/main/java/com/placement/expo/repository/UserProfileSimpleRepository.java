@@ -1,17 +1,47 @@
 package com.placement.expo.repository;
 
 import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.model.DashboardSummary;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserProfileSimpleRepository extends JpaRepository<UserProfileSimple, Long> {
+public interface UserProfileSimpleRepository extends JpaRepository<UserProfileSimple, Long>, UserProfileSimpleRepositoryCustom {
     
     Optional<UserProfileSimple> findByAppwriteUserId(String appwriteUserId);
     
     boolean existsByAppwriteUserId(String appwriteUserId);
     
     Optional<UserProfileSimple> findByEmail(String email);
+    
+    // ATS results touch only these columns, so a stale copy of the rest of the profile is never written back
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE UserProfileSimple p SET p.atsScore = :atsScore, p.atsFeedback = :atsFeedback, p.updatedAt = :updatedAt " +
+           "WHERE p.appwriteUserId = :appwriteUserId")
+    int updateAtsScore(@Param("appwriteUserId") String appwriteUserId, @Param("atsScore") Integer atsScore,
+                       @Param("atsFeedback") String atsFeedback, @Param("updatedAt") LocalDateTime updatedAt);
+    
+    // Profiles with an uploaded resume, as [appwriteUserId, resumeUrl] rows
+    @Query("SELECT p.appwriteUserId, p.resumeUrl FROM UserProfileSimple p WHERE p.resumeUrl IS NOT NULL")
+    List<Object[]> findResumeUrls();
+    
+    // Dashboard read model: profile, materialized statistics and application version in one row
+    @Query("SELECT new com.placement.expo.model.DashboardSummary(" +
+           "p.id, p.firstName, p.lastName, p.email, p.phone, p.department, p.currentYear, p.currentCgpa, " +
+           "p.profileCompletionPercentage, p.resumeUrl, p.atsScore, p.atsFeedback, p.createdAt, p.updatedAt, " +
+           "ps.totalApplications, ps.applicationsPending, ps.applicationsRejected, ps.interviewsAttended, " +
+           "ps.offersReceived, ps.profileViews, ps.highestPackageOffered, ps.bestCompanySelected, " +
+           "ps.placementStatus, ps.lastCalculated, " +
+           "(SELECT COUNT(ja) FROM JobApplication ja WHERE ja.userProfile.appwriteUserId = p.appwriteUserId), " +
+           "(SELECT MAX(ja.updatedAt) FROM JobApplication ja WHERE ja.userProfile.appwriteUserId = p.appwriteUserId)) " +
+           "FROM UserProfileSimple p LEFT JOIN PlacementStatistics ps ON ps.appwriteUserId = p.appwriteUserId " +
+           "WHERE p.appwriteUserId = :appwriteUserId")
+    Optional<DashboardSummary> findDashboardSummary(@Param("appwriteUserId") String appwriteUserId);
 }
@@ -0,0 +1,42 @@
+package com.placement.expo.repository;
+
+import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.model.ProfileFilter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bulk operations on user_profiles_simple that bypass the persistence context
+ */
+public interface UserProfileSimpleRepositoryCustom {
+
+    /**
+     * Writes ATS scores with a single JDBC batch
+     *
+     * @param scoresByAppwriteUserId The new result for each user
+     * @return The number of profiles updated
+     */
+    int batchUpdateAtsScores(Map<String, AtsScoreResult> scoresByAppwriteUserId);
+
+    /**
+     * Reads every profile in ID order through a forward-only cursor. Rows are fetched in
+     * chunks and handed over one at a time, so memory use does not grow with the table.
+     *
+     * @param action Called once per profile; the profile is detached and not tracked by JPA
+     */
+    void forEachProfile(Consumer<UserProfileSimple> action);
+
+    /**
+     * Keyset pagination in ID order: seeks past the last ID of the previous page instead of
+     * using OFFSET, so every page costs the same however deep the caller has browsed
+     *
+     * @param filter Criteria to match; null fields are ignored
+     * @param afterId The last ID of the previous page, or null for the first page
+     * @param limit The maximum number of profiles to return
+     * @return Matching profiles with IDs greater than afterId, in ID order
+     */
+    List<UserProfileSimple> findPageAfter(ProfileFilter filter, Long afterId, int limit);
+}
@@ -0,0 +1,133 @@
+package com.placement.expo.repository;
+
+import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.model.ProfileFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+@RequiredArgsConstructor
+public class UserProfileSimpleRepositoryImpl implements UserProfileSimpleRepositoryCustom {
+
+    private static final int MAX_FEEDBACK_LENGTH = 2000;
+
+    private static final String UPDATE_ATS_SCORE_SQL =
+            "UPDATE user_profiles_simple SET ats_score = ?, ats_feedback = ?, updated_at = ? WHERE appwrite_user_id = ?";
+
+    private static final String SELECT_PROFILES =
+            "SELECT id, appwrite_user_id, first_name, last_name, email, phone, department, current_year, current_cgpa, "
+            + "backlogs, resume_url, linkedin_url, github_url, portfolio_url, profile_completion_percentage, "
+            + "is_profile_verified, ats_score, ats_feedback, created_at, updated_at "
+            + "FROM user_profiles_simple";
+
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int batchUpdateAtsScores(Map<String, AtsScoreResult> scoresByAppwriteUserId) {
+        if (scoresByAppwriteUserId.isEmpty()) {
+            return 0;
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batchArgs = new ArrayList<>(scoresByAppwriteUserId.size());
+        scoresByAppwriteUserId.forEach((appwriteUserId, result) -> {
+            String feedback = result.getSummary();
+            if (feedback.length() > MAX_FEEDBACK_LENGTH) {
+                feedback = feedback.substring(0, MAX_FEEDBACK_LENGTH);
+            }
+            batchArgs.add(new Object[]{result.getOverallScore(), feedback, now, appwriteUserId});
+        });
+
+        int updated = 0;
+        for (int count : jdbcTemplate.batchUpdate(UPDATE_ATS_SCORE_SQL, batchArgs)) {
+            // Some drivers report SUCCESS_NO_INFO (-2) for batched statements
+            updated += count > 0 ? count : (count == Statement.SUCCESS_NO_INFO ? 1 : 0);
+        }
+        return updated;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void forEachProfile(Consumer<UserProfileSimple> action) {
+        // PostgreSQL only honours the fetch size inside a transaction; otherwise it buffers the whole result
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_PROFILES + " ORDER BY id",
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            return statement;
+        }, (RowCallbackHandler) rs -> action.accept(mapProfile(rs)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UserProfileSimple> findPageAfter(ProfileFilter filter, Long afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_PROFILES).append(" WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (afterId != null) {
+            sql.append(" AND id > ?");
+            args.add(afterId);
+        }
+        if (filter.getDepartment() != null) {
+            sql.append(" AND department = ?");
+            args.add(filter.getDepartment());
+        }
+        if (filter.getCurrentYear() != null) {
+            sql.append(" AND current_year = ?");
+            args.add(filter.getCurrentYear());
+        }
+        if (filter.getMinCgpa() != null) {
+            sql.append(" AND current_cgpa >= ?");
+            args.add(filter.getMinCgpa());
+        }
+        if (filter.getMinAtsScore() != null) {
+            sql.append(" AND ats_score >= ?");
+            args.add(filter.getMinAtsScore());
+        }
+        sql.append(" ORDER BY id LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> mapProfile(rs), args.toArray());
+    }
+
+    private static UserProfileSimple mapProfile(ResultSet rs) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return UserProfileSimple.builder()
+                .id(rs.getLong("id"))
+                .appwriteUserId(rs.getString("appwrite_user_id"))
+                .firstName(rs.getString("first_name"))
+                .lastName(rs.getString("last_name"))
+                .email(rs.getString("email"))
+                .phone(rs.getString("phone"))
+                .department(rs.getString("department"))
+                .currentYear(rs.getObject("current_year", Integer.class))
+                .currentCgpa(rs.getBigDecimal("current_cgpa"))
+                .backlogs(rs.getObject("backlogs", Integer.class))
+                .resumeUrl(rs.getString("resume_url"))
+                .linkedinUrl(rs.getString("linkedin_url"))
+                .githubUrl(rs.getString("github_url"))
+                .portfolioUrl(rs.getString("portfolio_url"))
+                .profileCompletionPercentage(rs.getObject("profile_completion_percentage", Integer.class))
+                .isProfileVerified(rs.getObject("is_profile_verified", Boolean.class))
+                .atsScore(rs.getObject("ats_score", Integer.class))
+                .atsFeedback(rs.getString("ats_feedback"))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .updatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
+                .build();
+    }
+}
@@ -1,17 +1,21 @@
 package com.placement.expo.service;
 
-import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.entity.JobApplication;
 import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.model.JobMatch;
+import com.placement.expo.repository.JobApplicationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -23,55 +27,79 @@ import java.util.Optional;
 public class AtsAnalysisService {
 
     private final UserProfileSimpleService userProfileService;
+    private final AtsScoringEngine scoringEngine;
+    private final AtsResultCache resultCache;
+    private final JobKeywordIndex jobKeywordIndex;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    @Value("${app.ats.best-fit-limit:10}")
+    private int bestFitLimit;
 
     /**
-     * Analyzes a resume file and returns an ATS score result
+     * Analyzes a resume file and returns an ATS score result. Identical uploads are
+     * served from the content-addressed result cache.
      * 
      * @param resumeFile The resume file to analyze
      * @return AtsScoreResult with scoring and feedback
      */
-    public AtsScoreResult analyzeResume(MultipartFile resumeFile) {
-        // In a real implementation, this would integrate with an actual ATS API
-        // This is a mock implementation for demonstration purposes
-        
-        // Mock category scores
-        Map<String, Integer> categoryScores = new HashMap<>();
-        categoryScores.put("Format", 85);
-        categoryScores.put("Keywords", 75);
-        categoryScores.put("Experience", 90);
-        categoryScores.put("Education", 95);
-        categoryScores.put("Skills", 80);
-        
-        // Calculate overall score (average of categories)
-        int overallScore = categoryScores.values().stream()
-                .mapToInt(Integer::intValue)
-                .sum() / categoryScores.size();
-        
-        // Mock strengths
-        List<String> strengths = new ArrayList<>();
-        strengths.add("Strong education section with relevant degrees");
-        strengths.add("Well-formatted with clear sections");
-        strengths.add("Good use of action verbs in experience descriptions");
-        
-        // Mock weaknesses
-        List<String> weaknesses = new ArrayList<>();
-        weaknesses.add("Could use more industry-specific keywords");
-        weaknesses.add("Some experience descriptions are too generic");
-        
-        // Mock improvement suggestions
-        List<String> improvements = new ArrayList<>();
-        improvements.add("Add more specific technical skills relevant to job targets");
-        improvements.add("Quantify achievements with metrics where possible");
-        improvements.add("Ensure each job description emphasizes accomplishments, not just responsibilities");
-        
-        // Build and return the result
-        return AtsScoreResult.builder()
-                .overallScore(overallScore)
-                .categoryScores(categoryScores)
-                .strengths(strengths)
-                .weaknesses(weaknesses)
-                .improvements(improvements)
-                .build();
+    public AtsScoreResult analyzeResume(MultipartFile resumeFile) throws IOException {
+        // Multipart uploads are already buffered, so hashing first is a cheap sequential read
+        MessageDigest digest = AtsResultCache.newDigest();
+        try (InputStream in = new DigestInputStream(resumeFile.getInputStream(), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        String contentHash = AtsResultCache.toHex(digest.digest());
+
+        Optional<AtsScoreResult> cached = resultCache.get(contentHash);
+        if (cached.isPresent()) {
+            log.info("ATS cache hit for uploaded resume {}", resumeFile.getOriginalFilename());
+            return cached.get();
+        }
+
+        AtsScoreResult result;
+        try (InputStream in = resumeFile.getInputStream()) {
+            result = scoringEngine.score(in, resumeFile.getOriginalFilename());
+        }
+        resultCache.put(contentHash, result);
+        return result;
+    }
+    
+    /**
+     * Matches an analyzed resume against a posted job or the job description saved on an application
+     * 
+     * @param result The resume's ATS result
+     * @param jobId An open job to match against, or null
+     * @param applicationId A job application whose description to match against, or null
+     * @return The match, or empty if no target was given or it could not be found
+     */
+    public Optional<JobMatch> matchJob(AtsScoreResult result, Long jobId, Long applicationId) {
+        List<String> skills = result.getDetectedSkills() != null ? result.getDetectedSkills() : List.of();
+        if (jobId != null) {
+            return jobKeywordIndex.match(skills, jobId);
+        }
+        if (applicationId != null) {
+            return jobApplicationRepository.findById(applicationId)
+                    .map(JobApplication::getJobDescription)
+                    .map(description -> jobKeywordIndex.matchText(skills, description));
+        }
+        return Optional.empty();
+    }
+    
+    /**
+     * Rescores the keyword category of a result for one job
+     */
+    public AtsScoreResult tailorToJob(AtsScoreResult result, JobMatch match) {
+        return scoringEngine.applyJobMatch(result, match);
+    }
+    
+    /**
+     * @return The open jobs that best fit the resume's skills, highest score first
+     */
+    public List<JobMatch> findBestFitJobs(AtsScoreResult result) {
+        if (result.getDetectedSkills() == null || result.getDetectedSkills().isEmpty()) {
+            return List.of();
+        }
+        return jobKeywordIndex.bestFit(result.getDetectedSkills(), bestFitLimit);
     }
     
     /**
@@ -85,22 +113,11 @@ public class AtsAnalysisService {
         log.info("Saving ATS score to profile for user: {}", appwriteUserId);
         
         try {
-            Optional<UserProfileSimple> profileOpt = userProfileService.getProfileByAppwriteUserId(appwriteUserId);
-            
-            if (profileOpt.isEmpty()) {
+            if (!userProfileService.updateAtsScore(appwriteUserId, atsScoreResult)) {
                 log.warn("No profile found for user {}, cannot save ATS score", appwriteUserId);
                 return false;
             }
             
-            UserProfileSimple profile = profileOpt.get();
-            
-            // Update profile with ATS score
-            profile.setAtsScore(atsScoreResult.getOverallScore());
-            profile.setAtsFeedback(atsScoreResult.getSummary());
-            
-            // Save updated profile
-            userProfileService.saveProfile(profile);
-            
             log.info("Successfully saved ATS score of {} for user {}", 
                     atsScoreResult.getOverallScore(), appwriteUserId);
             
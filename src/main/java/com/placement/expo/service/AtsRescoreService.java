@@ -0,0 +1,245 @@
+package com.placement.expo.service;
+
+import com.placement.expo.model.AtsRescoreRun;
+import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.model.ResumeObject;
+import com.placement.expo.repository.UserProfileSimpleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.UriUtils;
+
+import javax.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Re-scores every stored resume after a scoring model change. Files are scored in
+ * parallel on a dedicated fork-join pool and written back in JDBC batches. After each
+ * batch a checkpoint is written to {@link ResumeStorage}, so an interrupted run for the
+ * same model version picks up where it stopped, on whichever node it is restarted.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AtsRescoreService {
+
+    /** Dot-prefixed, so it is never listed as a resume */
+    private static final String CHECKPOINT_KEY = ".ats-rescore.checkpoint";
+
+    private final AtsScoringEngine scoringEngine;
+    private final UserProfileSimpleRepository profileRepository;
+    private final ResumeStorage resumeStorage;
+    private final ProfileCache profileCache;
+
+    @Value("${app.ats.rescore.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.ats.rescore.parallelism:0}")
+    private int parallelism;
+
+    private final AtomicReference<AtsRescoreRun> currentRun = new AtomicReference<>();
+    private final ExecutorService coordinator = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ats-rescore");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile boolean cancelRequested;
+
+    @PreDestroy
+    public void shutdown() {
+        cancelRequested = true;
+        coordinator.shutdownNow();
+    }
+
+    /**
+     * Starts a re-scoring pass in the background
+     *
+     * @param resume Whether to continue from the checkpoint left by an interrupted run
+     * @return The new run
+     * @throws IllegalStateException if a run is already in progress
+     */
+    public AtsRescoreRun start(boolean resume) {
+        AtsRescoreRun run = AtsRescoreRun.builder()
+                .id(UUID.randomUUID().toString())
+                .modelVersion(AtsScoringEngine.MODEL_VERSION)
+                .status(AtsRescoreRun.Status.SCANNING)
+                .startedAt(LocalDateTime.now())
+                .build();
+
+        AtsRescoreRun previous = currentRun.get();
+        if ((previous != null && !previous.isFinished()) || !currentRun.compareAndSet(previous, run)) {
+            throw new IllegalStateException("An ATS re-scoring run is already in progress");
+        }
+
+        cancelRequested = false;
+        coordinator.execute(() -> execute(run, resume));
+        return run;
+    }
+
+    public Optional<AtsRescoreRun> getCurrentRun() {
+        return Optional.ofNullable(currentRun.get());
+    }
+
+    /**
+     * Asks the current run to stop after its in-flight batch; the checkpoint is kept
+     *
+     * @return true if a run was in progress
+     */
+    public boolean cancel() {
+        AtsRescoreRun run = currentRun.get();
+        if (run == null || run.isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        return true;
+    }
+
+    private void execute(AtsRescoreRun run, boolean resume) {
+        int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+
+        try {
+            List<ResumeFile> files = currentResumePerUser();
+            run.setTotalFiles(files.size());
+
+            String lastCompleted = resume ? readCheckpoint() : null;
+            int start = 0;
+            if (lastCompleted != null) {
+                while (start < files.size() && files.get(start).sortKey().compareTo(lastCompleted) <= 0) {
+                    start++;
+                }
+                run.setResumedFrom(start);
+                log.info("Resuming ATS re-scoring after {} ({} of {} files already done)",
+                        lastCompleted, start, files.size());
+            }
+
+            run.setStatus(AtsRescoreRun.Status.RUNNING);
+            log.info("ATS re-scoring {} resumes with model {} on {} threads",
+                    files.size() - start, run.getModelVersion(), threads);
+
+            for (int from = start; from < files.size(); from += batchSize) {
+                if (cancelRequested) {
+                    run.setStatus(AtsRescoreRun.Status.CANCELLED);
+                    log.info("ATS re-scoring cancelled after {} of {} files", run.getProcessed(), files.size());
+                    return;
+                }
+                List<ResumeFile> batch = files.subList(from, Math.min(from + batchSize, files.size()));
+                Map<String, AtsScoreResult> results = pool.submit(() -> scoreBatch(batch, run)).get();
+                run.getProfilesUpdated().addAndGet(profileRepository.batchUpdateAtsScores(results));
+                profileCache.invalidateAll(results.keySet());
+                writeCheckpoint(batch.get(batch.size() - 1).sortKey());
+            }
+
+            resumeStorage.delete(CHECKPOINT_KEY);
+            run.setStatus(AtsRescoreRun.Status.COMPLETED);
+            log.info("ATS re-scoring finished: {} scored, {} failed, {} profiles updated, {} files/s",
+                    run.getScored().get(), run.getFailed().get(), run.getProfilesUpdated().get(),
+                    String.format("%.1f", run.getThroughput()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            run.setStatus(AtsRescoreRun.Status.CANCELLED);
+        } catch (Exception e) {
+            log.error("ATS re-scoring failed: {}", e.getMessage(), e);
+            run.setError(e.getMessage());
+            run.setStatus(AtsRescoreRun.Status.FAILED);
+        } finally {
+            run.setCompletedAt(LocalDateTime.now());
+            pool.shutdown();
+        }
+    }
+
+    private Map<String, AtsScoreResult> scoreBatch(List<ResumeFile> batch, AtsRescoreRun run) {
+        Map<String, AtsScoreResult> results = new ConcurrentHashMap<>();
+        batch.parallelStream().forEach(file -> {
+            try {
+                try (InputStream in = resumeStorage.open(file.fileName())) {
+                    results.put(file.appwriteUserId(), scoringEngine.score(in, file.fileName()));
+                }
+                run.getScored().incrementAndGet();
+            } catch (Exception e) {
+                log.warn("Could not re-score {}: {}", file.fileName(), e.getMessage());
+                run.getFailed().incrementAndGet();
+            }
+        });
+        return results;
+    }
+
+    /**
+     * Lists the resume each profile currently links to, which is the one its score reflects.
+     * The owner comes from the profile rather than the stored name, whose
+     * {@code <appwriteUserId>_<originalName>_<uuid>} form cannot be split reliably when
+     * either part contains an underscore.
+     */
+    private List<ResumeFile> currentResumePerUser() throws IOException {
+        Set<String> stored = new HashSet<>();
+        for (ResumeObject object : resumeStorage.list()) {
+            stored.add(object.getKey());
+        }
+        List<ResumeFile> files = new ArrayList<>();
+        for (Object[] profile : profileRepository.findResumeUrls()) {
+            String fileName = storedFileName((String) profile[1]);
+            if (fileName != null && stored.contains(fileName)) {
+                files.add(new ResumeFile((String) profile[0], fileName));
+            }
+        }
+        files.sort((a, b) -> a.sortKey().compareTo(b.sortKey()));
+        return files;
+    }
+
+    /**
+     * @return The storage key at the end of a resume URL, or null for a URL without one
+     */
+    private static String storedFileName(String resumeUrl) {
+        String segment = resumeUrl.substring(resumeUrl.lastIndexOf('/') + 1);
+        return segment.isEmpty() ? null : UriUtils.decode(segment, StandardCharsets.UTF_8);
+    }
+
+    private String readCheckpoint() throws IOException {
+        Properties checkpoint = new Properties();
+        try (InputStream in = resumeStorage.open(CHECKPOINT_KEY)) {
+            checkpoint.load(in);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        if (!AtsScoringEngine.MODEL_VERSION.equals(checkpoint.getProperty("modelVersion"))) {
+            log.info("Ignoring ATS re-scoring checkpoint from model version {}", checkpoint.getProperty("modelVersion"));
+            return null;
+        }
+        return checkpoint.getProperty("lastCompleted");
+    }
+
+    private void writeCheckpoint(String lastCompleted) throws IOException {
+        Properties checkpoint = new Properties();
+        checkpoint.setProperty("modelVersion", AtsScoringEngine.MODEL_VERSION);
+        checkpoint.setProperty("lastCompleted", lastCompleted);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        checkpoint.store(out, "ATS re-scoring progress");
+        resumeStorage.put(CHECKPOINT_KEY, out.toByteArray());
+    }
+
+    private record ResumeFile(String appwriteUserId, String fileName) {
+        /** Sorting by user keeps the order stable between runs, which the checkpoint relies on */
+        String sortKey() {
+            return appwriteUserId;
+        }
+    }
+}
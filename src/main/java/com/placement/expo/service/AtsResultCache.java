@@ -0,0 +1,79 @@
+package com.placement.expo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.placement.expo.model.AtsScoreResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Content-addressed cache of ATS results keyed by the SHA-256 of the resume bytes.
+ * Keys include {@link AtsScoringEngine#MODEL_VERSION}, so a scoring change never
+ * serves stale results. Eviction is size bounded (Caffeine's W-TinyLFU, which
+ * combines recency and frequency), and hit/miss/eviction counts are published
+ * as cache.* metrics under the name "atsResults".
+ */
+@Component
+@Slf4j
+public class AtsResultCache {
+
+    private final Cache<String, AtsScoreResult> cache;
+
+    public AtsResultCache(MeterRegistry meterRegistry,
+                          @Value("${app.ats.cache.max-entries:10000}") long maxEntries) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "atsResults");
+        log.info("ATS result cache initialised with capacity {}", maxEntries);
+    }
+
+    public Optional<AtsScoreResult> get(String contentHash) {
+        if (contentHash == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(key(contentHash)));
+    }
+
+    public void put(String contentHash, AtsScoreResult result) {
+        if (contentHash != null && result != null) {
+            cache.put(key(contentHash), result);
+        }
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * @return A fresh SHA-256 digest for hashing resume content while it streams
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public static String toHex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    private static String key(String contentHash) {
+        return AtsScoringEngine.MODEL_VERSION + ":" + contentHash;
+    }
+}
@@ -1,13 +1,19 @@
 package com.placement.expo.service;
 
-import com.placement.expo.entity.UserProfileSimple;
 import com.placement.expo.model.AtsScoreResult;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
-import java.util.*;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.NoSuchFileException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -15,132 +21,82 @@ import java.util.*;
 public class AtsScoreService {
 
     private final UserProfileSimpleService userProfileService;
+    private final AtsScoringEngine scoringEngine;
+    private final AtsResultCache resultCache;
+    private final ResumeStorage resumeStorage;
+    private final MeterRegistry meterRegistry;
     
     /**
-     * Analyzes the resume for a user and calculates the ATS score
+     * Calculates the ATS score for a stored resume, reusing the cached result for identical content.
+     * Timed as expo.ats.score, tagged cached, scored, not_found or error.
      * 
-     * @param appwriteUserId The user ID to analyze
-     * @param resumeFilePath The file path to the resume
+     * @param fileName The stored resume file name, used as the {@link ResumeStorage} key
+     * @param contentHash The SHA-256 of the resume bytes if already known, otherwise null
      * @return The ATS score result
+     * @throws NoSuchFileException if the resume is not in storage
+     * @throws IOException if the resume could not be read or parsed
      */
-    public AtsScoreResult analyzeResume(String appwriteUserId, String resumeFilePath) {
-        log.info("=== ATS ANALYSIS STARTED ===");
-        log.info("Analyzing resume for user {} at path {}", appwriteUserId, resumeFilePath);
-        
+    public AtsScoreResult scoreResume(String fileName, String contentHash) throws IOException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
-            // Check if file exists
-            File resumeFile = new File(resumeFilePath);
-            if (!resumeFile.exists()) {
-                log.error("Resume file not found: {}", resumeFilePath);
-                return createDefaultScore("Resume file not found");
+            Optional<AtsScoreResult> cached = resultCache.get(contentHash);
+            if (cached.isPresent()) {
+                outcome = "cached";
+                log.debug("ATS cache hit for {}", fileName);
+                return cached.get();
             }
             
-            log.info("File exists, size: {} bytes", resumeFile.length());
-            
-            // In a real implementation, this would use an actual ATS scoring system
-            // For now, we'll use a mock implementation that generates a reasonable score
-            
-            // Mock implementation - replace with actual ATS scoring logic
-            log.info("Generating ATS score for user: {}", appwriteUserId);
-            AtsScoreResult result = generateMockAtsScore(appwriteUserId);
-            log.info("ATS score generated: {}", result.getOverallScore());
-            
-            // Update the user profile with the score
-            log.info("Looking up profile for user: {}", appwriteUserId);
-            Optional<UserProfileSimple> profileOpt = userProfileService.getProfileByAppwriteUserId(appwriteUserId);
-            
-            if (profileOpt.isPresent()) {
-                UserProfileSimple profile = profileOpt.get();
-                log.info("Found profile for user {}: ID={}", appwriteUserId, profile.getId());
+            try {
+                // Stream the resume through the extractor and score its content,
+                // hashing it on the same pass when the caller did not supply a hash
+                MessageDigest digest = contentHash == null ? AtsResultCache.newDigest() : null;
+                AtsScoreResult result;
+                try (InputStream in = digest != null
+                        ? new DigestInputStream(resumeStorage.open(fileName), digest)
+                        : resumeStorage.open(fileName)) {
+                    result = scoringEngine.score(in, fileName);
+                    if (digest != null) {
+                        // the extractor may stop early; the hash must cover the whole file
+                        in.transferTo(OutputStream.nullOutputStream());
+                    }
+                }
+                log.debug("ATS score generated: {}", result.getOverallScore());
                 
-                profile.setAtsScore(result.getOverallScore());
-                profile.setAtsFeedback(result.getSummary());
+                resultCache.put(digest != null ? AtsResultCache.toHex(digest.digest()) : contentHash, result);
+                outcome = "scored";
+                return result;
                 
-                log.info("Saving profile with ATS score: {}", result.getOverallScore());
-                userProfileService.saveProfile(profile);
-                log.info("✅ Successfully updated ATS score for user {}: {}", appwriteUserId, result.getOverallScore());
-            } else {
-                log.warn("❌ No profile found for user: {}, ATS score not saved", appwriteUserId);
+            } catch (NoSuchFileException e) {
+                outcome = "not_found";
+                // Failures are never turned into a zero score, which would replace the student's last real one
+                throw new NoSuchFileException(fileName, null, "Resume file not found");
             }
-            
-            log.info("=== ATS ANALYSIS COMPLETED SUCCESSFULLY ===");
-            return result;
-            
-        } catch (Exception e) {
-            log.error("❌ Failed to analyze resume: {}", e.getMessage(), e);
-            return createDefaultScore("Error analyzing resume: " + e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("expo.ats.score", "outcome", outcome));
         }
     }
     
     /**
-     * Creates a default score when analysis fails
+     * @return The cached ATS result for identical resume content, if any
      */
-    private AtsScoreResult createDefaultScore(String error) {
-        return AtsScoreResult.builder()
-                .overallScore(0)
-                .categoryScores(Map.of("error", 0))
-                .strengths(List.of())
-                .weaknesses(List.of(error))
-                .improvements(List.of("Upload a valid resume file"))
-                .build();
+    public Optional<AtsScoreResult> getCachedScore(String contentHash) {
+        return resultCache.get(contentHash);
     }
     
     /**
-     * Generates a mock ATS score for testing purposes
-     * In a real implementation, this would be replaced by actual ATS scoring logic
+     * Stores the score and its summary on the user's profile
+     * 
+     * @param appwriteUserId The user ID to update
+     * @param result The ATS score result
+     * @return true if a profile was found and updated, false otherwise
      */
-    private AtsScoreResult generateMockAtsScore(String userId) {
-        // Use the user ID to make the "random" score consistent for the same user
-        Random random = new Random(userId.hashCode());
-        int overallScore = 60 + random.nextInt(40); // Score between 60-99
-        
-        Map<String, Integer> categoryScores = new HashMap<>();
-        categoryScores.put("format", 70 + random.nextInt(30));
-        categoryScores.put("content", 65 + random.nextInt(35));
-        categoryScores.put("keywords", 60 + random.nextInt(40));
-        categoryScores.put("skills", 75 + random.nextInt(25));
-        
-        List<String> strengths = new ArrayList<>();
-        if (categoryScores.get("format") > 80) {
-            strengths.add("Well-formatted resume with clear sections");
-        }
-        if (categoryScores.get("content") > 80) {
-            strengths.add("Strong content with quantifiable achievements");
-        }
-        if (categoryScores.get("keywords") > 80) {
-            strengths.add("Good use of industry-specific keywords");
-        }
-        if (categoryScores.get("skills") > 80) {
-            strengths.add("Relevant skills highlighted effectively");
-        }
-        
-        List<String> weaknesses = new ArrayList<>();
-        if (categoryScores.get("format") < 80) {
-            weaknesses.add("Resume formatting could be improved");
-        }
-        if (categoryScores.get("content") < 80) {
-            weaknesses.add("Content lacks specific achievements");
-        }
-        if (categoryScores.get("keywords") < 80) {
-            weaknesses.add("Missing important industry keywords");
-        }
-        if (categoryScores.get("skills") < 80) {
-            weaknesses.add("Technical skills section needs enhancement");
+    public boolean saveScoreToProfile(String appwriteUserId, AtsScoreResult result) {
+        if (!userProfileService.updateAtsScore(appwriteUserId, result)) {
+            log.warn("❌ No profile found for user: {}, ATS score not saved", appwriteUserId);
+            return false;
         }
-        
-        List<String> improvements = Arrays.asList(
-            "Add more quantifiable achievements",
-            "Include relevant industry keywords",
-            "Highlight technical skills more prominently",
-            "Use a clearer section structure"
-        );
-        
-        return AtsScoreResult.builder()
-                .overallScore(overallScore)
-                .categoryScores(categoryScores)
-                .strengths(strengths)
-                .weaknesses(weaknesses)
-                .improvements(improvements)
-                .build();
+        log.info("Updated ATS score for user {}: {}", appwriteUserId, result.getOverallScore());
+        return true;
     }
 }
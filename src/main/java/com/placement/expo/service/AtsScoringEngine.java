@@ -0,0 +1,214 @@
+package com.placement.expo.service;
+
+import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.model.JobMatch;
+import com.placement.expo.model.ResumeDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scores resumes from their tokenized content. Scoring is a pure function of the
+ * {@link ResumeDocument}, so it has no side effects on user profiles.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AtsScoringEngine {
+
+    /** Bump whenever the scoring rules change so stored scores can be recomputed */
+    public static final String MODEL_VERSION = "2";
+
+    private static final String[] CORE_SECTIONS = {"education", "experience", "skills", "projects"};
+
+    private final ResumeTextExtractor extractor;
+
+    /**
+     * Scores a stored resume file
+     *
+     * @param resumeFile The path to the resume
+     * @return The ATS score result
+     */
+    public AtsScoreResult score(Path resumeFile) throws IOException {
+        try (InputStream in = Files.newInputStream(resumeFile)) {
+            return score(in, resumeFile.getFileName().toString());
+        }
+    }
+
+    /**
+     * Scores a resume read from a stream. The stream is not closed.
+     */
+    public AtsScoreResult score(InputStream in, String fileName) throws IOException {
+        return score(extractor.extract(in, fileName));
+    }
+
+    public AtsScoreResult score(ResumeDocument document) {
+        int format = scoreFormat(document);
+        int content = scoreContent(document);
+        int keywords = scoreKeywords(document);
+        int skills = scoreSkills(document);
+
+        Map<String, Integer> categoryScores = new LinkedHashMap<>();
+        categoryScores.put("format", format);
+        categoryScores.put("content", content);
+        categoryScores.put("keywords", keywords);
+        categoryScores.put("skills", skills);
+
+        int overall = overallScore(categoryScores);
+
+        List<String> strengths = new ArrayList<>();
+        List<String> weaknesses = new ArrayList<>();
+        List<String> improvements = new ArrayList<>();
+
+        if (document.getWordCount() < 50) {
+            weaknesses.add("Very little readable text was found in the resume");
+            improvements.add("Export the resume as a text-based PDF or DOCX rather than a scanned image");
+        }
+
+        if (format >= 80) {
+            strengths.add("Well-formatted resume with clear sections");
+        } else {
+            weaknesses.add("Resume formatting could be improved");
+            for (String section : CORE_SECTIONS) {
+                if (!document.hasSection(section)) {
+                    improvements.add("Add a clearly labelled " + capitalize(section) + " section");
+                }
+            }
+            if (document.getEmailCount() == 0 || document.getPhoneCount() == 0) {
+                improvements.add("Include an email address and phone number at the top");
+            }
+        }
+
+        if (content >= 80) {
+            strengths.add("Strong content with quantifiable achievements");
+        } else {
+            weaknesses.add("Content lacks specific achievements");
+            if (document.getNumericTokenCount() < 5) {
+                improvements.add("Add more quantifiable achievements");
+            }
+            if (document.getActionVerbCount() < 5) {
+                improvements.add("Start bullet points with action verbs such as developed, led or optimized");
+            }
+        }
+
+        if (keywords >= 80) {
+            strengths.add("Good use of industry-specific keywords");
+        } else {
+            weaknesses.add("Missing important industry keywords");
+            improvements.add("Include relevant industry keywords");
+        }
+
+        if (skills >= 80) {
+            strengths.add("Relevant skills highlighted effectively");
+        } else {
+            weaknesses.add("Technical skills section needs enhancement");
+            improvements.add("Highlight technical skills more prominently");
+        }
+
+        if (document.isTruncated()) {
+            weaknesses.add("Resume is unusually long and was only partially analyzed");
+            improvements.add("Keep the resume to one or two pages");
+        }
+
+        return AtsScoreResult.builder()
+                .overallScore(overall)
+                .categoryScores(categoryScores)
+                .strengths(strengths)
+                .weaknesses(weaknesses)
+                .improvements(improvements)
+                .detectedSkills(document.getSkills() != null ? new ArrayList<>(document.getSkills()) : List.of())
+                .build();
+    }
+
+    /**
+     * Re-weights a general result for one job: the keyword category becomes the job's
+     * skill coverage and the missing skills are listed as improvements. The input is not modified.
+     *
+     * @param result The job-independent result
+     * @param match The resume's match against the job
+     * @return The job-specific result
+     */
+    public AtsScoreResult applyJobMatch(AtsScoreResult result, JobMatch match) {
+        Map<String, Integer> categoryScores = new LinkedHashMap<>(result.getCategoryScores());
+        categoryScores.put("keywords", match.getScore());
+
+        List<String> improvements = new ArrayList<>(result.getImprovements());
+        if (!match.getMissingSkills().isEmpty()) {
+            improvements.add(0, "Add skills this role asks for: " + String.join(", ", match.getMissingSkills()));
+        }
+
+        return result.toBuilder()
+                .overallScore(overallScore(categoryScores))
+                .categoryScores(categoryScores)
+                .improvements(improvements)
+                .build();
+    }
+
+    private static int overallScore(Map<String, Integer> categoryScores) {
+        return (int) Math.round(categoryScores.getOrDefault("format", 0) * 0.25
+                + categoryScores.getOrDefault("content", 0) * 0.30
+                + categoryScores.getOrDefault("keywords", 0) * 0.25
+                + categoryScores.getOrDefault("skills", 0) * 0.20);
+    }
+
+    private int scoreFormat(ResumeDocument document) {
+        double score = 0;
+        for (String section : CORE_SECTIONS) {
+            if (document.hasSection(section)) {
+                score += 15;
+            }
+        }
+        if (document.getEmailCount() > 0) score += 10;
+        if (document.getPhoneCount() > 0) score += 10;
+        if (document.getUrlCount() > 0) score += 5;
+        if (document.getBulletCount() >= 5) score += 15;
+        return clamp(score);
+    }
+
+    private int scoreContent(ResumeDocument document) {
+        int words = document.getWordCount();
+        double lengthScore;
+        if (words >= 300 && words <= 900) {
+            lengthScore = 40;
+        } else if (words >= 150 && words <= 1400) {
+            lengthScore = 25;
+        } else {
+            lengthScore = words > 0 ? 10 : 0;
+        }
+        double verbs = Math.min(document.getActionVerbCount(), 10) * 3;
+        double numbers = Math.min(document.getNumericTokenCount(), 10) * 3;
+        return clamp(lengthScore + verbs + numbers);
+    }
+
+    private int scoreKeywords(ResumeDocument document) {
+        int matched = countTechnicalKeywords(document);
+        return clamp(matched * 8);
+    }
+
+    private int scoreSkills(ResumeDocument document) {
+        double score = document.hasSection("skills") ? 40 : 0;
+        score += Math.min(countTechnicalKeywords(document), 12) * 5;
+        return clamp(score);
+    }
+
+    private int countTechnicalKeywords(ResumeDocument document) {
+        return document.getSkills() != null ? document.getSkills().size() : 0;
+    }
+
+    private static int clamp(double score) {
+        return (int) Math.max(0, Math.min(100, Math.round(score)));
+    }
+
+    private static String capitalize(String value) {
+        return Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+}
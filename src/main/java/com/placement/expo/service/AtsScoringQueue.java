@@ -0,0 +1,183 @@
+package com.placement.expo.service;
+
+import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.model.AtsScoringJob;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded in-process queue that scores uploaded resumes off the request thread.
+ * When the queue is full, {@link #submit} rejects the job so callers can apply back-pressure.
+ * Time spent waiting for a worker is timed as expo.ats.queue.wait and the backlog is
+ * published as the expo.ats.queue.pending gauge.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AtsScoringQueue {
+
+    private static final long[] SAVE_RETRY_DELAYS_SECONDS = {5, 15, 45, 120};
+
+    private final AtsScoreService atsScoreService;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.ats.queue.workers:2}")
+    private int workers;
+
+    @Value("${app.ats.queue.capacity:200}")
+    private int capacity;
+
+    @Value("${app.ats.queue.job-retention-minutes:30}")
+    private long jobRetentionMinutes;
+
+    private final Map<String, AtsScoringJob> jobs = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor executor;
+    private ScheduledExecutorService maintenance;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(workers, workers, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(capacity), namedThreads("ats-worker-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        maintenance = Executors.newSingleThreadScheduledExecutor(namedThreads("ats-maintenance-"));
+        maintenance.scheduleWithFixedDelay(this::purgeExpiredJobs, 1, 1, TimeUnit.MINUTES);
+        Gauge.builder("expo.ats.queue.pending", this, AtsScoringQueue::getPendingCount)
+                .description("ATS scoring jobs waiting for a worker")
+                .register(meterRegistry);
+        log.info("ATS scoring queue started with {} workers and capacity {}", workers, capacity);
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        maintenance.shutdownNow();
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) {
+            log.warn("ATS scoring queue did not drain in time, {} jobs abandoned", executor.getQueue().size());
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Queues a stored resume for scoring
+     *
+     * @param appwriteUserId The owner of the resume
+     * @param fileName The stored file name, used as the {@link ResumeStorage} key
+     * @param contentHash The SHA-256 of the resume bytes, or null if unknown
+     * @return The queued job, already completed if identical content was scored before
+     * @throws RejectedExecutionException if the queue is full
+     */
+    public AtsScoringJob submit(String appwriteUserId, String fileName, String contentHash) {
+        AtsScoringJob job = AtsScoringJob.builder()
+                .id(UUID.randomUUID().toString())
+                .appwriteUserId(appwriteUserId)
+                .fileName(fileName)
+                .status(AtsScoringJob.Status.QUEUED)
+                .submittedAt(LocalDateTime.now())
+                .build();
+
+        Optional<AtsScoreResult> cached = atsScoreService.getCachedScore(contentHash);
+        if (cached.isPresent()) {
+            LocalDateTime now = LocalDateTime.now();
+            job.setStartedAt(now);
+            job.setCompletedAt(now);
+            job.setResult(cached.get());
+            job.setStatus(AtsScoringJob.Status.COMPLETED);
+            jobs.put(job.getId(), job);
+            maintenance.execute(() -> saveOrRetry(job, 0));
+            log.debug("ATS job {} for user {} served from the result cache", job.getId(), appwriteUserId);
+            return job;
+        }
+
+        jobs.put(job.getId(), job);
+        try {
+            executor.execute(() -> run(job, contentHash));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getId());
+            log.warn("ATS scoring queue full ({} pending), rejecting job for user {}",
+                    executor.getQueue().size(), appwriteUserId);
+            throw e;
+        }
+        log.debug("Queued ATS job {} for user {}", job.getId(), appwriteUserId);
+        return job;
+    }
+
+    public Optional<AtsScoringJob> getJob(String jobId) {
+        return Optional.ofNullable(jobs.get(jobId));
+    }
+
+    public int getPendingCount() {
+        return executor.getQueue().size();
+    }
+
+    private void run(AtsScoringJob job, String contentHash) {
+        job.setStartedAt(LocalDateTime.now());
+        job.setStatus(AtsScoringJob.Status.RUNNING);
+        meterRegistry.timer("expo.ats.queue.wait").record(Duration.between(job.getSubmittedAt(), job.getStartedAt()));
+        try {
+            AtsScoreResult result = atsScoreService.scoreResume(job.getFileName(), contentHash);
+            job.setResult(result);
+            job.setCompletedAt(LocalDateTime.now());
+            job.setStatus(AtsScoringJob.Status.COMPLETED);
+            saveOrRetry(job, 0);
+        } catch (Exception e) {
+            log.error("ATS job {} failed for user {}: {}", job.getId(), job.getAppwriteUserId(), e.getMessage(), e);
+            job.setError(e.getMessage());
+            job.setCompletedAt(LocalDateTime.now());
+            job.setStatus(AtsScoringJob.Status.FAILED);
+        }
+    }
+
+    /**
+     * Resumes are often uploaded before the registration form is submitted, so the
+     * profile may not exist yet when scoring finishes; retry the save a few times.
+     */
+    private void saveOrRetry(AtsScoringJob job, int attempt) {
+        boolean saved;
+        try {
+            saved = atsScoreService.saveScoreToProfile(job.getAppwriteUserId(), job.getResult());
+        } catch (Exception e) {
+            log.warn("Saving ATS score for user {} failed: {}", job.getAppwriteUserId(), e.getMessage());
+            saved = false;
+        }
+        if (saved || attempt >= SAVE_RETRY_DELAYS_SECONDS.length || maintenance.isShutdown()) {
+            return;
+        }
+        maintenance.schedule(() -> saveOrRetry(job, attempt + 1),
+                SAVE_RETRY_DELAYS_SECONDS[attempt], TimeUnit.SECONDS);
+    }
+
+    private void purgeExpiredJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMinutes(jobRetentionMinutes));
+        jobs.values().removeIf(job -> job.isFinished() && job.getCompletedAt().isBefore(cutoff));
+    }
+
+    private static ThreadFactory namedThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,162 @@
+package com.placement.expo.service;
+
+import com.placement.expo.entity.PlacementStatistics;
+import com.placement.expo.model.Dashboard;
+import com.placement.expo.model.DashboardApplication;
+import com.placement.expo.model.DashboardSummary;
+import com.placement.expo.repository.JobApplicationRepository;
+import com.placement.expo.repository.UserProfileSimpleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Builds the student dashboard from projections: one query for the profile, its ATS result
+ * and its materialized placement statistics, and one for the recent applications, which is
+ * skipped when the student has none or the client's copy is still current.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardService {
+
+    public static final int RECENT_APPLICATIONS = 5;
+
+    /** Bump when the dashboard response changes shape, so clients drop their cached copies */
+    private static final String VERSION = "1";
+
+    private final UserProfileSimpleRepository profileRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    /**
+     * @param appwriteUserId The student's Appwrite user ID
+     * @param ifNoneMatch The If-None-Match header, if any
+     * @return The dashboard, or empty if the student has no profile
+     */
+    @Transactional(readOnly = true)
+    public Optional<Dashboard> getDashboard(String appwriteUserId, String ifNoneMatch) {
+        Optional<DashboardSummary> summaryOpt = profileRepository.findDashboardSummary(appwriteUserId);
+        if (summaryOpt.isEmpty()) {
+            return Optional.empty();
+        }
+        DashboardSummary summary = summaryOpt.get();
+        String eTag = eTag(summary);
+        if (matches(ifNoneMatch, eTag)) {
+            return Optional.of(Dashboard.builder().eTag(eTag).notModified(true).build());
+        }
+
+        List<DashboardApplication> recent = summary.getApplicationCount() == null || summary.getApplicationCount() == 0
+                ? List.of()
+                : jobApplicationRepository.findRecentForDashboard(appwriteUserId, PageRequest.of(0, RECENT_APPLICATIONS));
+        return Optional.of(Dashboard.builder()
+                .eTag(eTag)
+                .summary(summary)
+                .recentApplications(recent)
+                .build());
+    }
+
+    /**
+     * @return The dashboard's response sections: userProfile, statistics, recentApplications
+     * and recentActivity
+     */
+    public Map<String, Object> sections(Dashboard dashboard) {
+        DashboardSummary profile = dashboard.getSummary();
+        Map<String, Object> userProfileData = new HashMap<>();
+        userProfileData.put("id", profile.getProfileId());
+        userProfileData.put("fullName", profile.getFullName());
+        userProfileData.put("email", profile.getEmail());
+        userProfileData.put("phone", profile.getPhone() != null ? profile.getPhone() : "Not provided");
+        userProfileData.put("department", profile.getDepartment() != null ? profile.getDepartment() : "Not specified");
+        userProfileData.put("currentYear", profile.getCurrentYear() != null ? profile.getCurrentYear() : 0);
+        userProfileData.put("currentCgpa", profile.getCurrentCgpa() != null ? profile.getCurrentCgpa().toString() : "N/A");
+        userProfileData.put("completionPercentage", profile.getCompletionPercentage());
+        userProfileData.put("atsScore", profile.getAtsScore() != null ? profile.getAtsScore() : 0);
+        userProfileData.put("atsFeedback", profile.getAtsFeedback() != null ? profile.getAtsFeedback() : "Resume not yet analyzed");
+
+        // Only include unique statistics, not duplicating what's in userProfileData
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("profileViews", valueOrZero(profile.getProfileViews()));
+        statistics.put("totalApplications", valueOrZero(profile.getTotalApplications()));
+        statistics.put("applicationsPending", valueOrZero(profile.getApplicationsPending()));
+        statistics.put("applicationsRejected", valueOrZero(profile.getApplicationsRejected()));
+        statistics.put("interviewsAttended", valueOrZero(profile.getInterviewsAttended()));
+        statistics.put("offersReceived", valueOrZero(profile.getOffersReceived()));
+        statistics.put("highestPackageOffered", profile.getHighestPackageOffered());
+        statistics.put("bestCompanySelected", profile.getBestCompanySelected());
+        statistics.put("placementStatus", profile.getPlacementStatus() != null
+                ? profile.getPlacementStatus().name() : PlacementStatistics.PlacementStatus.SEEKING.name());
+
+        List<Map<String, Object>> activities = new ArrayList<>();
+
+        // Profile creation activity
+        activities.add(Map.of(
+                "icon", "👤",
+                "title", "Profile Created",
+                "description", "Welcome to PlacementSyncer! Complete your profile to get started.",
+                "timestamp", profile.getCreatedAt().toString()
+        ));
+
+        // Resume upload activity if exists
+        if (profile.getResumeUrl() != null && !profile.getResumeUrl().isEmpty()) {
+            activities.add(Map.of(
+                    "icon", "📄",
+                    "title", "Resume Uploaded",
+                    "description", "Your resume has been uploaded and analyzed.",
+                    "timestamp", profile.getUpdatedAt().toString()
+            ));
+        }
+
+        Map<String, Object> sections = new HashMap<>();
+        sections.put("userProfile", userProfileData);
+        sections.put("statistics", statistics);
+        sections.put("recentApplications", dashboard.getRecentApplications());
+        sections.put("recentActivity", activities);
+        return sections;
+    }
+
+    /**
+     * Weak, since the same dashboard may be sent compressed or not. Every input the response is
+     * built from moves one of these: profile edits and ATS results touch updatedAt, statistics
+     * flushes touch lastCalculated, and application changes move the count or latest update.
+     */
+    private static String eTag(DashboardSummary summary) {
+        String version = String.join("|", VERSION,
+                String.valueOf(summary.getProfileId()),
+                String.valueOf(summary.getUpdatedAt()),
+                String.valueOf(summary.getStatisticsCalculatedAt()),
+                String.valueOf(summary.getApplicationCount()),
+                String.valueOf(summary.getApplicationsUpdatedAt()));
+        return "W/\"" + DigestUtils.md5DigestAsHex(version.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    private static int valueOrZero(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = eTag.substring(2);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String value = candidate.trim();
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals("*") || value.equals(opaque)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
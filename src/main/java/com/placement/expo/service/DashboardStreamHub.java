@@ -0,0 +1,198 @@
+package com.placement.expo.service;
+
+import com.placement.expo.entity.PlacementStatistics;
+import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.event.EntityChangeEvent;
+import com.placement.expo.model.Dashboard;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Pushes dashboard changes to connected students over server-sent events. Changes only mark a
+ * student as dirty; on each push the dashboard of every dirty, connected student is rebuilt once
+ * and each of their connections receives only the sections that differ from what it was last
+ * sent. However many applications a drive update touches, a student gets at most one write per
+ * connection per push interval.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DashboardStreamHub {
+
+    private final DashboardService dashboardService;
+
+    @Value("${app.dashboard.stream.timeout:30m}")
+    private Duration timeout;
+
+    @Value("${app.dashboard.stream.max-connections-per-user:5}")
+    private int maxConnectionsPerUser;
+
+    @Value("${app.dashboard.stream.heartbeat-interval:25s}")
+    private Duration heartbeatInterval;
+
+    private final Map<String, List<Connection>> connections = new ConcurrentHashMap<>();
+    private final Set<String> changed = ConcurrentHashMap.newKeySet();
+    private volatile long lastHeartbeat = System.nanoTime();
+
+    /**
+     * Opens a stream whose first event is the full dashboard
+     *
+     * @param appwriteUserId The student's Appwrite user ID
+     * @return The stream, or empty if the student has no profile
+     */
+    public Optional<SseEmitter> subscribe(String appwriteUserId) {
+        Optional<Dashboard> dashboard = dashboardService.getDashboard(appwriteUserId, null);
+        if (dashboard.isEmpty()) {
+            return Optional.empty();
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Connection connection = new Connection(emitter);
+        emitter.onCompletion(() -> remove(appwriteUserId, connection));
+        emitter.onTimeout(() -> remove(appwriteUserId, connection));
+        emitter.onError(e -> remove(appwriteUserId, connection));
+
+        List<Connection> evicted = new ArrayList<>();
+        connections.compute(appwriteUserId, (id, existing) -> {
+            List<Connection> list = existing != null ? existing : new CopyOnWriteArrayList<>();
+            // Tabs left open elsewhere give way to the newest one
+            while (list.size() >= maxConnectionsPerUser) {
+                evicted.add(list.remove(0));
+            }
+            list.add(connection);
+            return list;
+        });
+        evicted.forEach(c -> c.emitter().complete());
+        send(appwriteUserId, connection, dashboard.get());
+        return Optional.of(emitter);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangeEvent event) {
+        String appwriteUserId = null;
+        if (event.isFor(UserProfileSimple.class)) {
+            // Profile edits and ATS results
+            appwriteUserId = event.getEntity(UserProfileSimple.class).getAppwriteUserId();
+        } else if (event.isFor(PlacementStatistics.class)) {
+            // Application changes, already batched per student by the statistics flush
+            appwriteUserId = event.getEntity(PlacementStatistics.class).getAppwriteUserId();
+        }
+        if (appwriteUserId != null && connections.containsKey(appwriteUserId)) {
+            changed.add(appwriteUserId);
+        }
+    }
+
+    /**
+     * Sends the changed sections to every connection of each student changed since the last push
+     */
+    @Scheduled(fixedDelayString = "${app.dashboard.stream.push-interval-ms:1000}")
+    public void push() {
+        List<String> batch = new ArrayList<>(changed);
+        changed.removeAll(batch);
+        for (String appwriteUserId : batch) {
+            List<Connection> userConnections = connections.get(appwriteUserId);
+            if (userConnections == null || userConnections.isEmpty()) {
+                continue;
+            }
+            Optional<Dashboard> dashboard;
+            try {
+                dashboard = dashboardService.getDashboard(appwriteUserId, null);
+            } catch (RuntimeException e) {
+                log.warn("Could not rebuild the dashboard for {}, retrying on the next push: {}", appwriteUserId, e.getMessage());
+                changed.add(appwriteUserId);
+                continue;
+            }
+            for (Connection connection : userConnections) {
+                if (dashboard.isPresent()) {
+                    send(appwriteUserId, connection, dashboard.get());
+                } else {
+                    connection.emitter().complete();
+                }
+            }
+        }
+
+        if (System.nanoTime() - lastHeartbeat >= heartbeatInterval.toNanos()) {
+            lastHeartbeat = System.nanoTime();
+            connections.forEach((appwriteUserId, userConnections) -> {
+                for (Connection connection : userConnections) {
+                    try {
+                        connection.emitter().send(SseEmitter.event().comment("heartbeat"));
+                    } catch (IOException | IllegalStateException e) {
+                        remove(appwriteUserId, connection);
+                    }
+                }
+            });
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        connections.values().forEach(userConnections -> userConnections.forEach(c -> c.emitter().complete()));
+        connections.clear();
+    }
+
+    private void send(String appwriteUserId, Connection connection, Dashboard dashboard) {
+        Map<String, Object> sections = dashboardService.sections(dashboard);
+        synchronized (connection) {
+            Map<String, Object> delta = new HashMap<>();
+            sections.forEach((name, value) -> {
+                if (!Objects.equals(connection.sent.get(name), value)) {
+                    delta.put(name, value);
+                }
+            });
+            if (delta.isEmpty()) {
+                return;
+            }
+            try {
+                connection.emitter().send(SseEmitter.event()
+                        .name("dashboard")
+                        .id(dashboard.getETag())
+                        .data(delta));
+                connection.sent = sections;
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dashboard stream for {} closed: {}", appwriteUserId, e.getMessage());
+                remove(appwriteUserId, connection);
+            }
+        }
+    }
+
+    private void remove(String appwriteUserId, Connection connection) {
+        connections.computeIfPresent(appwriteUserId, (id, list) -> {
+            list.remove(connection);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    private static final class Connection {
+        private final SseEmitter emitter;
+        /** The sections this connection last received */
+        private Map<String, Object> sent = Map.of();
+
+        Connection(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package com.placement.expo.service;
+
+import com.placement.expo.entity.Company;
+import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.event.EntityChangeEvent;
+import com.placement.expo.model.EligibilityCriteria;
+import com.placement.expo.model.EligibleCompany;
+import com.placement.expo.model.EligibleStudent;
+import com.placement.expo.model.Shortlist;
+import com.placement.expo.repository.CompanyRepository;
+import com.placement.expo.repository.UserProfileSimpleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Matches placement drives against student profiles in memory. CGPA and backlogs are
+ * kept as primitive columns and departments and years as bitsets, so shortlisting a
+ * drive is a couple of bitset ORs/ANDs and one pass over two int arrays instead of
+ * loading profile entities. Active companies' requirements are kept alongside for the
+ * reverse lookup.
+ * <p>
+ * Profiles and companies are updated as changes commit, and everything is reloaded
+ * periodically to pick up other nodes' writes. A student without a recorded CGPA does
+ * not meet a CGPA requirement; missing backlogs count as none.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EligibilityIndex {
+
+    private static final int NO_VALUE = -1;
+
+    private final UserProfileSimpleRepository profileRepository;
+    private final CompanyRepository companyRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Students students = new Students();
+    private Map<Long, CompanyRule> companies = Map.of();
+    /** Profile changes committed while a reload is reading, replayed on top; null marks a delete */
+    private Map<Long, UserProfileSimple> changedDuringRebuild;
+
+    /**
+     * Lists the students eligible for a drive, highest CGPA first
+     *
+     * @param criteria The drive's requirements
+     * @param offset The number of students to skip
+     * @param limit The maximum number of students to return
+     * @return The page of students and the total number eligible
+     */
+    public Shortlist shortlist(EligibilityCriteria criteria, int offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet eligible = students.eligible(criteria);
+            int total = eligible.cardinality();
+            List<EligibleStudent> page = new ArrayList<>();
+            for (int ordinal : students.byCgpaDescending(eligible, (int) Math.min((long) offset + limit, total))) {
+                if (offset-- <= 0) {
+                    page.add(students.toStudent(ordinal));
+                }
+            }
+            return Shortlist.builder()
+                    .criteria(criteria)
+                    .total(total)
+                    .students(page)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The company's requirements as drive criteria, or empty if it is unknown or inactive
+     */
+    public Optional<EligibilityCriteria> criteriaFor(Long companyId) {
+        lock.readLock().lock();
+        try {
+            CompanyRule rule = companies.get(companyId);
+            if (rule == null) {
+                return Optional.empty();
+            }
+            return Optional.of(EligibilityCriteria.builder()
+                    .minCgpa(rule.minCgpa)
+                    .maxBacklogs(rule.allowedBacklogs != NO_VALUE ? rule.allowedBacklogs : null)
+                    .build());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @param appwriteUserId The student's Appwrite user ID
+     * @return The active companies whose requirements the student meets, or empty if the
+     *         student has no profile
+     */
+    public Optional<List<EligibleCompany>> eligibleCompanies(String appwriteUserId) {
+        lock.readLock().lock();
+        try {
+            Integer ordinal = students.ordinalsByUser.get(appwriteUserId);
+            if (ordinal == null) {
+                return Optional.empty();
+            }
+            int cgpa = students.cgpa[ordinal];
+            int backlogs = students.backlogs[ordinal];
+            List<EligibleCompany> eligible = new ArrayList<>();
+            for (CompanyRule rule : companies.values()) {
+                if (meets(cgpa, backlogs, rule.minCgpaHundredths, rule.allowedBacklogs)) {
+                    eligible.add(EligibleCompany.builder()
+                            .companyId(rule.id)
+                            .companyName(rule.name)
+                            .minCgpaRequirement(rule.minCgpa)
+                            .allowedBacklogs(rule.allowedBacklogs != NO_VALUE ? rule.allowedBacklogs : null)
+                            .build());
+                }
+            }
+            return Optional.of(eligible);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangeEvent event) {
+        boolean deleted = event.getChangeType() == EntityChangeEvent.ChangeType.DELETED;
+        if (event.isFor(UserProfileSimple.class)) {
+            UserProfileSimple profile = event.getEntity(UserProfileSimple.class);
+            lock.writeLock().lock();
+            try {
+                apply(students, profile.getId(), deleted ? null : profile);
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(profile.getId(), deleted ? null : profile);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } else if (event.isFor(Company.class)) {
+            Company company = event.getEntity(Company.class);
+            lock.writeLock().lock();
+            try {
+                Map<Long, CompanyRule> updated = new LinkedHashMap<>(companies);
+                updated.remove(company.getId());
+                if (!deleted && Boolean.TRUE.equals(company.getIsActive())) {
+                    updated.put(company.getId(), new CompanyRule(company));
+                }
+                companies = updated;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Reloads all profiles and active companies
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.eligibility.rebuild-interval-ms:3600000}",
+               initialDelayString = "${app.eligibility.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Students rebuilt = new Students();
+        Map<Long, CompanyRule> loadedCompanies = new LinkedHashMap<>();
+        try {
+            profileRepository.forEachProfile(rebuilt::put);
+            for (Company company : companyRepository.findAll()) {
+                if (Boolean.TRUE.equals(company.getIsActive())) {
+                    loadedCompanies.put(company.getId(), new CompanyRule(company));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Could not reload the eligibility index, keeping {} profiles: {}",
+                    students.ordinalsById.size(), e.getMessage());
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild.forEach((id, profile) -> apply(rebuilt, id, profile));
+            changedDuringRebuild = null;
+            students = rebuilt;
+            companies = loadedCompanies;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Eligibility index loaded with {} profiles and {} active companies in {}ms",
+                rebuilt.ordinalsById.size(), loadedCompanies.size(), System.currentTimeMillis() - start);
+    }
+
+    private static void apply(Students students, Long id, UserProfileSimple profile) {
+        if (profile != null) {
+            students.put(profile);
+        } else {
+            students.remove(id);
+        }
+    }
+
+    private static boolean meets(int cgpa, int backlogs, int minCgpa, int maxBacklogs) {
+        return (minCgpa == NO_VALUE || cgpa >= minCgpa)
+                && (maxBacklogs == NO_VALUE || backlogs <= maxBacklogs);
+    }
+
+    /**
+     * @param rounding CEILING for requirements and DOWN for students, so a 7.005 minimum is
+     *                 not met by 7.00
+     * @return The CGPA in hundredths, or {@link #NO_VALUE} if there is none
+     */
+    private static int hundredths(BigDecimal cgpa, RoundingMode rounding) {
+        return cgpa == null ? NO_VALUE : cgpa.setScale(2, rounding).unscaledValue().intValueExact();
+    }
+
+    private static String departmentKey(String department) {
+        return department == null ? "" : department.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Column store of profiles. Each profile keeps its ordinal for life; a deleted
+     * profile's ordinal is cleared from {@link #live} and freed on the next reload.
+     * Not thread-safe; guarded by the outer lock.
+     */
+    private static final class Students {
+        private final Map<Long, Integer> ordinalsById = new HashMap<>();
+        private final Map<String, Integer> ordinalsByUser = new HashMap<>();
+        private final Map<String, BitSet> byDepartment = new HashMap<>();
+        private final Map<Integer, BitSet> byYear = new HashMap<>();
+        private final BitSet live = new BitSet();
+        private int[] cgpa = new int[1024];
+        private int[] backlogs = new int[1024];
+        private UserProfileSimple[] profiles = new UserProfileSimple[1024];
+        private int size;
+        private int maxCgpa;
+
+        private void put(UserProfileSimple profile) {
+            Integer ordinal = ordinalsById.get(profile.getId());
+            if (ordinal == null) {
+                ordinal = size++;
+                if (ordinal == cgpa.length) {
+                    cgpa = Arrays.copyOf(cgpa, ordinal * 2);
+                    backlogs = Arrays.copyOf(backlogs, ordinal * 2);
+                    profiles = Arrays.copyOf(profiles, ordinal * 2);
+                }
+                ordinalsById.put(profile.getId(), ordinal);
+            } else {
+                clear(ordinal);
+            }
+            // Only the fields shown on a shortlist are kept, not the whole entity
+            UserProfileSimple kept = UserProfileSimple.builder()
+                    .id(profile.getId())
+                    .appwriteUserId(profile.getAppwriteUserId())
+                    .firstName(profile.getFirstName())
+                    .lastName(profile.getLastName())
+                    .department(profile.getDepartment())
+                    .currentYear(profile.getCurrentYear())
+                    .currentCgpa(profile.getCurrentCgpa())
+                    .backlogs(profile.getBacklogs())
+                    .build();
+            profiles[ordinal] = kept;
+            cgpa[ordinal] = hundredths(profile.getCurrentCgpa(), RoundingMode.DOWN);
+            maxCgpa = Math.max(maxCgpa, cgpa[ordinal]);
+            backlogs[ordinal] = profile.getBacklogs() != null ? profile.getBacklogs() : 0;
+            byDepartment.computeIfAbsent(departmentKey(profile.getDepartment()), key -> new BitSet()).set(ordinal);
+            if (profile.getCurrentYear() != null) {
+                byYear.computeIfAbsent(profile.getCurrentYear(), key -> new BitSet()).set(ordinal);
+            }
+            if (profile.getAppwriteUserId() != null) {
+                ordinalsByUser.put(profile.getAppwriteUserId(), ordinal);
+            }
+            live.set(ordinal);
+        }
+
+        private void remove(Long id) {
+            Integer ordinal = ordinalsById.remove(id);
+            if (ordinal != null) {
+                clear(ordinal);
+                profiles[ordinal] = null;
+            }
+        }
+
+        private void clear(int ordinal) {
+            UserProfileSimple previous = profiles[ordinal];
+            live.clear(ordinal);
+            BitSet department = byDepartment.get(departmentKey(previous.getDepartment()));
+            if (department != null) {
+                department.clear(ordinal);
+            }
+            if (previous.getCurrentYear() != null) {
+                byYear.get(previous.getCurrentYear()).clear(ordinal);
+            }
+            if (previous.getAppwriteUserId() != null) {
+                ordinalsByUser.remove(previous.getAppwriteUserId(), ordinal);
+            }
+        }
+
+        private BitSet eligible(EligibilityCriteria criteria) {
+            BitSet eligible = (BitSet) live.clone();
+            if (criteria.getDepartments() != null && !criteria.getDepartments().isEmpty()) {
+                List<String> keys = new ArrayList<>();
+                for (String department : criteria.getDepartments()) {
+                    keys.add(departmentKey(department));
+                }
+                eligible.and(union(byDepartment, keys));
+            }
+            if (criteria.getYears() != null && !criteria.getYears().isEmpty()) {
+                eligible.and(union(byYear, criteria.getYears()));
+            }
+
+            int minCgpa = hundredths(criteria.getMinCgpa(), RoundingMode.CEILING);
+            int maxBacklogs = criteria.getMaxBacklogs() != null ? criteria.getMaxBacklogs() : NO_VALUE;
+            if (minCgpa != NO_VALUE || maxBacklogs != NO_VALUE) {
+                for (int ordinal = eligible.nextSetBit(0); ordinal >= 0; ordinal = eligible.nextSetBit(ordinal + 1)) {
+                    if (!meets(cgpa[ordinal], backlogs[ordinal], minCgpa, maxBacklogs)) {
+                        eligible.clear(ordinal);
+                    }
+                }
+            }
+            return eligible;
+        }
+
+        private static <K> BitSet union(Map<K, BitSet> index, Collection<K> keys) {
+            BitSet union = new BitSet();
+            for (K key : keys) {
+                BitSet members = index.get(key);
+                if (members != null) {
+                    union.or(members);
+                }
+            }
+            return union;
+        }
+
+        /**
+         * @return Up to limit ordinals from the set, highest CGPA first and lowest ID on ties
+         */
+        private int[] byCgpaDescending(BitSet ordinals, int limit) {
+            // CGPAs are hundredths, so there are only a few hundred distinct values: count them
+            // to find the cut-off for this page, then sort just the students above it.
+            // Values are shifted by one so students without a CGPA land in bucket 0, last.
+            int[] counts = new int[maxCgpa + 2];
+            for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+                counts[cgpa[ordinal] + 1]++;
+            }
+            int cutoff = counts.length;
+            int taken = 0;
+            while (cutoff > 0 && taken < limit) {
+                taken += counts[--cutoff];
+            }
+
+            // (CGPA, ordinal) packed so that one primitive sort orders by CGPA, then ordinal
+            long[] keys = new long[taken];
+            int n = 0;
+            for (int ordinal = ordinals.nextSetBit(0); ordinal >= 0 && n < taken; ordinal = ordinals.nextSetBit(ordinal + 1)) {
+                int bucket = cgpa[ordinal] + 1;
+                if (bucket >= cutoff) {
+                    keys[n++] = ((long) (Integer.MAX_VALUE - bucket) << 32) | ordinal;
+                }
+            }
+            Arrays.sort(keys);
+            int[] sorted = new int[Math.min(limit, n)];
+            for (int i = 0; i < sorted.length; i++) {
+                sorted[i] = (int) keys[i];
+            }
+            return sorted;
+        }
+
+        private EligibleStudent toStudent(int ordinal) {
+            UserProfileSimple profile = profiles[ordinal];
+            return EligibleStudent.builder()
+                    .profileId(profile.getId())
+                    .appwriteUserId(profile.getAppwriteUserId())
+                    .fullName(profile.getFullName())
+                    .department(profile.getDepartment())
+                    .currentYear(profile.getCurrentYear())
+                    .currentCgpa(profile.getCurrentCgpa())
+                    .backlogs(profile.getBacklogs())
+                    .build();
+        }
+    }
+
+    private static final class CompanyRule {
+        private final Long id;
+        private final String name;
+        private final BigDecimal minCgpa;
+        private final int minCgpaHundredths;
+        private final int allowedBacklogs;
+
+        private CompanyRule(Company company) {
+            this.id = company.getId();
+            this.name = company.getCompanyName();
+            this.minCgpa = company.getMinCgpaRequirement();
+            this.minCgpaHundredths = hundredths(company.getMinCgpaRequirement(), RoundingMode.CEILING);
+            this.allowedBacklogs = company.getAllowedBacklogs() != null ? company.getAllowedBacklogs() : NO_VALUE;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package com.placement.expo.service;
+
+import com.placement.expo.domain.Job;
+import com.placement.expo.event.EntityChangeEvent;
+import com.placement.expo.model.JobMatch;
+import com.placement.expo.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Skill index over open jobs. Each job's title, requirements and description are run
+ * through the {@link SkillDictionary} once; matching a resume against a job is then a
+ * couple of bitwise ANDs, so a resume can be ranked against every open job on upload.
+ * Skills named in the title or requirements count double those only in the description.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobKeywordIndex {
+
+    private static final int REQUIRED_WEIGHT = 2;
+    private static final int PREFERRED_WEIGHT = 1;
+
+    private final JobRepository jobRepository;
+    private final SkillDictionary skillDictionary;
+
+    private final AtomicLong jobsVersion = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    /**
+     * Ranks open jobs by how well the skills cover them
+     *
+     * @param skills Canonical skill names, e.g. {@link com.placement.expo.model.AtsScoreResult#getDetectedSkills()}
+     * @param limit The maximum number of jobs to return
+     * @return The best matching jobs, highest score first; jobs with no overlap are left out
+     */
+    public List<JobMatch> bestFit(Collection<String> skills, int limit) {
+        Snapshot current = snapshot();
+        long[] resume = current.matcher.idsOf(skills).toLongArray();
+
+        // Min-heap of (score, index) packed into a long so the scan does not allocate per job
+        PriorityQueue<Long> top = new PriorityQueue<>(limit + 1);
+        for (int i = 0; i < current.jobs.size(); i++) {
+            int score = score(resume, current.jobs.get(i));
+            if (score == 0) {
+                continue;
+            }
+            top.add(((long) score << 32) | (Integer.MAX_VALUE - i));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<JobMatch> matches = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            int index = Integer.MAX_VALUE - (int) (top.poll() & 0xFFFFFFFFL);
+            matches.add(0, toMatch(current.matcher, resume, current.jobs.get(index)));
+        }
+        return matches;
+    }
+
+    /**
+     * Scores the skills against one open job
+     *
+     * @return The match, or empty if the job is not open
+     */
+    public Optional<JobMatch> match(Collection<String> skills, Long jobId) {
+        Snapshot current = snapshot();
+        long[] resume = current.matcher.idsOf(skills).toLongArray();
+        for (IndexedJob job : current.jobs) {
+            if (job.id.equals(jobId)) {
+                return Optional.of(toMatch(current.matcher, resume, job));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Scores the skills against free text, such as the job description saved on an application
+     */
+    public JobMatch matchText(Collection<String> skills, String jobText) {
+        KeywordMatcher matcher = skillDictionary.matcher();
+        IndexedJob job = new IndexedJob(null, null, null,
+                matcher.match(jobText).toLongArray(), new long[0]);
+        return toMatch(matcher, matcher.idsOf(skills).toLongArray(), job);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(EntityChangeEvent event) {
+        if (event.isFor(Job.class)) {
+            jobsVersion.incrementAndGet();
+        }
+    }
+
+    private Snapshot snapshot() {
+        Snapshot current = snapshot;
+        KeywordMatcher matcher = skillDictionary.matcher();
+        if (current != null && current.matcher == matcher && current.version == jobsVersion.get()) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (current != null && current.matcher == matcher && current.version == jobsVersion.get()) {
+                return current;
+            }
+            current = build(matcher);
+            snapshot = current;
+            return current;
+        }
+    }
+
+    private Snapshot build(KeywordMatcher matcher) {
+        // Read the version first so a change committed during the load triggers another rebuild
+        long version = jobsVersion.get();
+        List<Job> openJobs = jobRepository.findByStatus(Job.JobStatus.OPEN, Pageable.unpaged()).getContent();
+
+        List<IndexedJob> jobs = new ArrayList<>(openJobs.size());
+        for (Job job : openJobs) {
+            BitSet required = matcher.match(job.getTitle());
+            required.or(matcher.match(job.getRequirements()));
+            BitSet preferred = matcher.match(job.getDescription());
+            preferred.andNot(required);
+            jobs.add(new IndexedJob(job.getId(), job.getTitle(), job.getCompany(),
+                    required.toLongArray(), preferred.toLongArray()));
+        }
+        log.info("Indexed skills for {} open jobs", jobs.size());
+        return new Snapshot(matcher, version, List.copyOf(jobs));
+    }
+
+    private static int score(long[] resume, IndexedJob job) {
+        if (job.totalWeight == 0) {
+            return 0;
+        }
+        int matched = REQUIRED_WEIGHT * overlap(resume, job.required) + PREFERRED_WEIGHT * overlap(resume, job.preferred);
+        return (int) Math.round(matched * 100.0 / job.totalWeight);
+    }
+
+    private static int overlap(long[] a, long[] b) {
+        int count = 0;
+        for (int i = 0, n = Math.min(a.length, b.length); i < n; i++) {
+            count += Long.bitCount(a[i] & b[i]);
+        }
+        return count;
+    }
+
+    private static JobMatch toMatch(KeywordMatcher matcher, long[] resume, IndexedJob job) {
+        BitSet resumeSkills = BitSet.valueOf(resume);
+        BitSet required = BitSet.valueOf(job.required);
+        BitSet wanted = BitSet.valueOf(job.preferred);
+        wanted.or(required);
+
+        BitSet matched = (BitSet) wanted.clone();
+        matched.and(resumeSkills);
+        BitSet missing = (BitSet) required.clone();
+        missing.andNot(resumeSkills);
+
+        return JobMatch.builder()
+                .jobId(job.id)
+                .title(job.title)
+                .company(job.company)
+                .score(score(resume, job))
+                .matchedSkills(matcher.labelsOf(matched))
+                .missingSkills(matcher.labelsOf(missing))
+                .build();
+    }
+
+    private static final class IndexedJob {
+        private final Long id;
+        private final String title;
+        private final String company;
+        private final long[] required;
+        private final long[] preferred;
+        private final int totalWeight;
+
+        private IndexedJob(Long id, String title, String company, long[] required, long[] preferred) {
+            this.id = id;
+            this.title = title;
+            this.company = company;
+            this.required = required;
+            this.preferred = preferred;
+            this.totalWeight = REQUIRED_WEIGHT * BitSet.valueOf(required).cardinality()
+                    + PREFERRED_WEIGHT * BitSet.valueOf(preferred).cardinality();
+        }
+    }
+
+    private record Snapshot(KeywordMatcher matcher, long version, List<IndexedJob> jobs) {
+    }
+}
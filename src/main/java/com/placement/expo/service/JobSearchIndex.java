@@ -0,0 +1,552 @@
+package com.placement.expo.service;
+
+import com.placement.expo.domain.Job;
+import com.placement.expo.event.EntityChangeEvent;
+import com.placement.expo.model.JobSearchHit;
+import com.placement.expo.model.JobSearchResult;
+import com.placement.expo.repository.JobRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index over all jobs for free-text search, ranked with BM25. Title, company,
+ * requirements, description and location are indexed with per-field boosts, the last
+ * query word also matches as a prefix so results update while the user types, and
+ * type/status facet counts come out of the same pass over the matches.
+ * <p>
+ * The index is updated in place as job changes commit, and rebuilt from the database on
+ * startup and periodically, which also picks up changes committed on other nodes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class JobSearchIndex {
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    private static final float TITLE_BOOST = 3f;
+    private static final float COMPANY_BOOST = 2f;
+    private static final float REQUIREMENTS_BOOST = 1.5f;
+    private static final float DESCRIPTION_BOOST = 1f;
+    private static final float LOCATION_BOOST = 1f;
+
+    /** Prefix matches rank below an exact match of the same word */
+    private static final float PREFIX_WEIGHT = 0.7f;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    private static final int MAX_TOKEN_LENGTH = 32;
+    private static final int MAX_QUERY_TERMS = 16;
+    private static final int LOAD_BATCH_SIZE = 1000;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+        "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+        "of", "on", "or", "the", "to", "with"
+    );
+
+    private final JobRepository jobRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+    /** Changes committed while a rebuild is loading; a null value marks a delete */
+    private Map<Long, Job> changedDuringRebuild;
+
+    /**
+     * Searches jobs. Every query word must match; the last one may match as a prefix.
+     *
+     * @param query Free text, e.g. "java backend bang"
+     * @param type Only return jobs of this type, or null for any
+     * @param status Only return jobs with this status, or null for any
+     * @param offset The number of hits to skip
+     * @param limit The maximum number of hits to return
+     * @return The hits, highest score first, with the total and facet counts
+     */
+    public JobSearchResult search(String query, Job.JobType type, Job.JobStatus status, int offset, int limit) {
+        List<String> words = tokenize(query);
+        boolean prefixLast = !query.isEmpty() && !Character.isWhitespace(query.charAt(query.length() - 1));
+        lock.readLock().lock();
+        try {
+            return segment.search(words, prefixLast, type, status, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of jobs in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment.liveCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onJobChanged(EntityChangeEvent event) {
+        if (!event.isFor(Job.class)) {
+            return;
+        }
+        Job job = event.getEntity(Job.class);
+        if (job.getId() == null) {
+            return;
+        }
+        Job indexed = event.getChangeType() == EntityChangeEvent.ChangeType.DELETED ? null : job;
+        lock.writeLock().lock();
+        try {
+            apply(segment, job.getId(), indexed);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.put(job.getId(), indexed);
+            }
+            if (segment.needsCompaction()) {
+                segment = segment.compact();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads every job from the database and swaps the new index in. Searches keep using
+     * the old index meanwhile, and changes committed during the load are replayed on top.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.jobs.search.rebuild-interval-ms:1800000}",
+               initialDelayString = "${app.jobs.search.rebuild-interval-ms:1800000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new HashMap<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Segment rebuilt = new Segment();
+        try {
+            Long lastId = 0L;
+            Slice<Job> batch;
+            do {
+                batch = jobRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, LOAD_BATCH_SIZE));
+                for (Job job : batch) {
+                    rebuilt.add(job);
+                    lastId = job.getId();
+                }
+            } while (batch.hasNext());
+        } catch (Exception e) {
+            log.warn("Could not rebuild the job search index, keeping {} indexed jobs: {}", size(), e.getMessage());
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild.forEach((id, job) -> apply(rebuilt, id, job));
+            changedDuringRebuild = null;
+            segment = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Job search index built with {} jobs and {} terms in {}ms",
+                rebuilt.liveCount, rebuilt.terms.size(), System.currentTimeMillis() - start);
+    }
+
+    private static void apply(Segment segment, Long id, Job job) {
+        segment.remove(id);
+        if (job != null) {
+            segment.add(job);
+        }
+    }
+
+    /**
+     * Lowercases the text and splits it into words on anything but letters and digits,
+     * keeping a trailing + or # so "C++" and "C#" stay distinct from "C"
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder token = new StringBuilder();
+        for (int i = 0, n = text.length(); i <= n; i++) {
+            char c = i < n ? text.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c)) {
+                token.append(Character.toLowerCase(c));
+            } else if ((c == '+' || c == '#') && token.length() > 0) {
+                token.append(c);
+            } else if (token.length() > 0) {
+                if (token.length() <= MAX_TOKEN_LENGTH) {
+                    tokens.add(token.toString());
+                }
+                token.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * The index data. Not thread-safe; guarded by the outer lock. Jobs get increasing
+     * ordinals, so every postings list is sorted; a changed job is removed and added again
+     * under a new ordinal, and the dead ordinals are dropped by {@link #compact()}.
+     */
+    private static final class Segment {
+        private final TreeMap<String, Postings> terms = new TreeMap<>();
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final List<IndexedJob> jobs = new ArrayList<>();
+        private float[] lengths = new float[1024];
+        private int liveCount;
+        private double totalLength;
+
+        private void add(Job job) {
+            Map<String, Float> frequencies = new HashMap<>();
+            float length = 0;
+            length += addField(frequencies, job.getTitle(), TITLE_BOOST);
+            length += addField(frequencies, job.getCompany(), COMPANY_BOOST);
+            length += addField(frequencies, job.getRequirements(), REQUIREMENTS_BOOST);
+            length += addField(frequencies, job.getDescription(), DESCRIPTION_BOOST);
+            length += addField(frequencies, job.getLocation(), LOCATION_BOOST);
+
+            Postings[] postings = new Postings[frequencies.size()];
+            float[] weights = new float[frequencies.size()];
+            int i = 0;
+            for (Map.Entry<String, Float> entry : frequencies.entrySet()) {
+                postings[i] = terms.computeIfAbsent(entry.getKey(), Postings::new);
+                weights[i] = entry.getValue();
+                i++;
+            }
+            add(new IndexedJob(job.getId(), job.getTitle(), job.getCompany(), job.getLocation(),
+                    job.getType(), job.getStatus(), length, postings, weights));
+        }
+
+        private void add(IndexedJob job) {
+            int ordinal = jobs.size();
+            jobs.add(job);
+            if (ordinal == lengths.length) {
+                lengths = Arrays.copyOf(lengths, ordinal * 2);
+            }
+            lengths[ordinal] = job.length;
+            for (int i = 0; i < job.postings.length; i++) {
+                job.postings[i].add(ordinal, job.weights[i]);
+            }
+            ordinals.put(job.id, ordinal);
+            liveCount++;
+            totalLength += job.length;
+        }
+
+        private static float addField(Map<String, Float> frequencies, String text, float boost) {
+            int length = 0;
+            for (String token : tokenize(text)) {
+                length++;
+                if (!STOP_WORDS.contains(token)) {
+                    frequencies.merge(token, boost, Float::sum);
+                }
+            }
+            return length;
+        }
+
+        private void remove(Long id) {
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            IndexedJob job = jobs.set(ordinal, null);
+            for (Postings postings : job.postings) {
+                // The ordinal stays in the list until compaction; the live count keeps IDF correct
+                if (--postings.liveCount == 0) {
+                    terms.remove(postings.term);
+                }
+            }
+            liveCount--;
+            totalLength -= job.length;
+        }
+
+        private boolean needsCompaction() {
+            int dead = jobs.size() - liveCount;
+            return dead > 1000 && dead > jobs.size() / 4;
+        }
+
+        private Segment compact() {
+            Segment compacted = new Segment();
+            for (IndexedJob job : jobs) {
+                if (job == null) {
+                    continue;
+                }
+                Postings[] postings = new Postings[job.postings.length];
+                for (int i = 0; i < postings.length; i++) {
+                    postings[i] = compacted.terms.computeIfAbsent(job.postings[i].term, Postings::new);
+                }
+                compacted.add(new IndexedJob(job.id, job.title, job.company, job.location,
+                        job.type, job.status, job.length, postings, job.weights));
+            }
+            return compacted;
+        }
+
+        private JobSearchResult search(List<String> words, boolean prefixLast, Job.JobType type,
+                                       Job.JobStatus status, int offset, int limit) {
+            List<List<Postings>> clauses = new ArrayList<>();
+            List<float[]> clauseWeights = new ArrayList<>();
+            for (int w = 0; w < words.size(); w++) {
+                String word = words.get(w);
+                boolean prefix = prefixLast && w == words.size() - 1 && word.length() >= MIN_PREFIX_LENGTH;
+                if (STOP_WORDS.contains(word) && !prefix) {
+                    continue;
+                }
+                if (clauses.size() == MAX_QUERY_TERMS) {
+                    break;
+                }
+                List<Postings> postings = new ArrayList<>();
+                List<Float> weights = new ArrayList<>();
+                Postings exact = terms.get(word);
+                if (exact != null) {
+                    postings.add(exact);
+                    weights.add(1f);
+                }
+                if (prefix) {
+                    for (Postings expansion : expand(word)) {
+                        postings.add(expansion);
+                        weights.add(PREFIX_WEIGHT);
+                    }
+                }
+                if (postings.isEmpty()) {
+                    return emptyResult();
+                }
+                float[] weightArray = new float[weights.size()];
+                for (int i = 0; i < weightArray.length; i++) {
+                    weightArray[i] = weights.get(i);
+                }
+                clauses.add(postings);
+                clauseWeights.add(weightArray);
+            }
+            if (clauses.isEmpty()) {
+                return emptyResult();
+            }
+
+            int size = jobs.size();
+            float[] scores = new float[size];
+            // Per job: how many clauses matched, the last clause that matched and its best score.
+            // A job matching several expansions of one prefix only counts the best of them.
+            short[] matched = new short[size];
+            short[] lastClause = new short[size];
+            float[] clauseBest = new float[size];
+            float averageLength = (float) (totalLength / Math.max(1, liveCount));
+
+            for (int c = 0; c < clauses.size(); c++) {
+                short clause = (short) (c + 1);
+                List<Postings> postings = clauses.get(c);
+                float[] weights = clauseWeights.get(c);
+                for (int p = 0; p < postings.size(); p++) {
+                    Postings list = postings.get(p);
+                    float idf = (float) Math.log(1 + (liveCount - list.liveCount + 0.5) / (list.liveCount + 0.5));
+                    float boost = idf * weights[p] * (K1 + 1);
+                    for (int i = 0; i < list.size; i++) {
+                        int ordinal = list.ordinals[i];
+                        if (matched[ordinal] != c) {
+                            // Dead ordinal, or missed an earlier clause
+                            continue;
+                        }
+                        float tf = list.frequencies[i];
+                        float score = boost * tf / (tf + K1 * (1 - B + B * lengths[ordinal] / averageLength));
+                        if (lastClause[ordinal] != clause) {
+                            lastClause[ordinal] = clause;
+                            clauseBest[ordinal] = score;
+                            scores[ordinal] += score;
+                        } else if (score > clauseBest[ordinal]) {
+                            scores[ordinal] += score - clauseBest[ordinal];
+                            clauseBest[ordinal] = score;
+                        }
+                    }
+                }
+                // Promote everything that matched this clause in one go, so later expansions of
+                // the same clause still see the job as a candidate
+                for (Postings list : postings) {
+                    for (int i = 0; i < list.size; i++) {
+                        int ordinal = list.ordinals[i];
+                        if (lastClause[ordinal] == clause && matched[ordinal] == c) {
+                            matched[ordinal] = clause;
+                        }
+                    }
+                }
+            }
+
+            int wanted = offset + limit;
+            int total = 0;
+            int[] typeCounts = new int[Job.JobType.values().length];
+            int[] statusCounts = new int[Job.JobStatus.values().length];
+            // Min-heap of (score, ordinal) packed into a long; scores are never negative, so
+            // their float bits order the same way as the values. Ties go to the newer ordinal.
+            PriorityQueue<Long> top = new PriorityQueue<>(Math.max(1, wanted + 1));
+            short required = (short) clauses.size();
+            for (int ordinal = 0; ordinal < size; ordinal++) {
+                if (matched[ordinal] != required) {
+                    continue;
+                }
+                IndexedJob job = jobs.get(ordinal);
+                if (job == null) {
+                    continue;
+                }
+                boolean typeMatches = type == null || type == job.type;
+                boolean statusMatches = status == null || status == job.status;
+                // Each facet ignores its own filter, so it shows what choosing another value would return
+                if (statusMatches && job.type != null) {
+                    typeCounts[job.type.ordinal()]++;
+                }
+                if (typeMatches && job.status != null) {
+                    statusCounts[job.status.ordinal()]++;
+                }
+                if (!typeMatches || !statusMatches) {
+                    continue;
+                }
+                total++;
+                long entry = ((long) Float.floatToIntBits(scores[ordinal]) << 32) | ordinal;
+                if (top.size() < wanted) {
+                    top.add(entry);
+                } else if (wanted > 0 && entry > top.peek()) {
+                    top.poll();
+                    top.add(entry);
+                }
+            }
+
+            List<JobSearchHit> hits = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                long entry = top.poll();
+                IndexedJob job = jobs.get((int) entry);
+                hits.add(JobSearchHit.builder()
+                        .jobId(job.id)
+                        .title(job.title)
+                        .company(job.company)
+                        .location(job.location)
+                        .type(job.type)
+                        .status(job.status)
+                        .score(Float.intBitsToFloat((int) (entry >>> 32)))
+                        .build());
+            }
+            Collections.reverse(hits);
+            List<JobSearchHit> page = offset < hits.size() ? hits.subList(offset, hits.size()) : List.of();
+
+            return JobSearchResult.builder()
+                    .hits(new ArrayList<>(page))
+                    .total(total)
+                    .facets(facets(typeCounts, statusCounts))
+                    .build();
+        }
+
+        /**
+         * @return The most frequent indexed words starting with the prefix, excluding the prefix itself
+         */
+        private List<Postings> expand(String prefix) {
+            List<Postings> expansions = new ArrayList<>();
+            for (Postings postings : terms.subMap(prefix, false, prefix + Character.MAX_VALUE, false).values()) {
+                expansions.add(postings);
+            }
+            if (expansions.size() > MAX_PREFIX_EXPANSIONS) {
+                expansions.sort((a, b) -> Integer.compare(b.liveCount, a.liveCount));
+                return expansions.subList(0, MAX_PREFIX_EXPANSIONS);
+            }
+            return expansions;
+        }
+
+        private static JobSearchResult emptyResult() {
+            return JobSearchResult.builder()
+                    .hits(List.of())
+                    .total(0)
+                    .facets(facets(new int[Job.JobType.values().length], new int[Job.JobStatus.values().length]))
+                    .build();
+        }
+
+        private static Map<String, Map<String, Integer>> facets(int[] typeCounts, int[] statusCounts) {
+            Map<String, Integer> types = new LinkedHashMap<>();
+            for (Job.JobType value : Job.JobType.values()) {
+                types.put(value.name(), typeCounts[value.ordinal()]);
+            }
+            Map<String, Integer> statuses = new LinkedHashMap<>();
+            for (Job.JobStatus value : Job.JobStatus.values()) {
+                statuses.put(value.name(), statusCounts[value.ordinal()]);
+            }
+            Map<String, Map<String, Integer>> facets = new LinkedHashMap<>();
+            facets.put("type", types);
+            facets.put("status", statuses);
+            return facets;
+        }
+    }
+
+    /**
+     * The jobs containing one word, with the word's field-boosted frequency in each
+     */
+    private static final class Postings {
+        private final String term;
+        private int[] ordinals = new int[4];
+        private float[] frequencies = new float[4];
+        private int size;
+        /** Entries whose job is still indexed; the rest are dead ordinals awaiting compaction */
+        private int liveCount;
+
+        private Postings(String term) {
+            this.term = term;
+        }
+
+        private void add(int ordinal, float frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+            liveCount++;
+        }
+    }
+
+    private static final class IndexedJob {
+        private final Long id;
+        private final String title;
+        private final String company;
+        private final String location;
+        private final Job.JobType type;
+        private final Job.JobStatus status;
+        /** Words in all fields, used for BM25 length normalisation */
+        private final float length;
+        private final Postings[] postings;
+        private final float[] weights;
+
+        private IndexedJob(Long id, String title, String company, String location, Job.JobType type,
+                           Job.JobStatus status, float length, Postings[] postings, float[] weights) {
+            this.id = id;
+            this.title = title;
+            this.company = company;
+            this.location = location;
+            this.type = type;
+            this.status = status;
+            this.length = length;
+            this.postings = postings;
+            this.weights = weights;
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.placement.expo.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Precompiled Aho-Corasick automaton over a fixed set of keywords. Text is matched in a
+ * single pass regardless of how many keywords there are, and several spellings may map
+ * to the same label (e.g. "golang" and "go"). Matches only count on whole-token
+ * boundaries, so "java" does not match inside "javascript", and a keyword that only
+ * ever occurs inside a longer one ("spring" in "spring boot") is not reported.
+ *
+ * <p>Instances are immutable and thread safe; use a {@link Cursor} per text.</p>
+ */
+public final class KeywordMatcher {
+
+    private static final char SEPARATOR = ' ';
+    private static final int ROOT = 0;
+    private static final int ASCII = 128;
+
+    private static final int MAX_RECORDED_MATCHES = 1 << 20;
+    private static final int MAX_PATTERN_LENGTH = (1 << 12) - 1;
+
+    private final String[] labels;
+    private final Map<String, Integer> labelIds;
+    private final int[] patternLabels;
+    private final int[] patternLengths;
+
+    // Per-state sorted transitions; the root also keeps a dense ASCII table
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] rootAscii;
+    private final int[] fail;
+    // Pattern ids (not label ids) ending at each state
+    private final int[][] outputs;
+    private final int startState;
+
+    private KeywordMatcher(String[] labels, Map<String, Integer> labelIds, int[] patternLabels, int[] patternLengths,
+                           char[][] edgeChars, int[][] edgeTargets, int[] fail, int[][] outputs) {
+        this.labels = labels;
+        this.labelIds = labelIds;
+        this.patternLabels = patternLabels;
+        this.patternLengths = patternLengths;
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.fail = fail;
+        this.outputs = outputs;
+        this.rootAscii = new int[ASCII];
+        Arrays.fill(rootAscii, ROOT);
+        for (int i = 0; i < edgeChars[ROOT].length; i++) {
+            char c = edgeChars[ROOT][i];
+            if (c < ASCII) {
+                rootAscii[c] = edgeTargets[ROOT][i];
+            }
+        }
+        this.startState = next(ROOT, SEPARATOR);
+    }
+
+    /**
+     * Compiles a matcher
+     *
+     * @param keywordLabels Each keyword spelling mapped to the label reported when it matches
+     * @return The compiled matcher
+     */
+    public static KeywordMatcher compile(Map<String, String> keywordLabels) {
+        Map<String, Integer> labelIds = new LinkedHashMap<>();
+        List<char[]> edgeCharList = new ArrayList<>();
+        List<int[]> edgeTargetList = new ArrayList<>();
+        List<int[]> outputList = new ArrayList<>();
+        List<int[]> patterns = new ArrayList<>();
+        edgeCharList.add(new char[0]);
+        edgeTargetList.add(new int[0]);
+        outputList.add(new int[0]);
+
+        for (Map.Entry<String, String> entry : keywordLabels.entrySet()) {
+            String pattern = normalize(entry.getKey());
+            String label = entry.getValue().trim().toLowerCase();
+            if (pattern.isBlank() || label.isEmpty() || pattern.length() > MAX_PATTERN_LENGTH) {
+                continue;
+            }
+            int labelId = labelIds.computeIfAbsent(label, key -> labelIds.size());
+
+            int state = ROOT;
+            for (int i = 0; i < pattern.length(); i++) {
+                char c = pattern.charAt(i);
+                int target = find(edgeCharList.get(state), edgeTargetList.get(state), c);
+                if (target < 0) {
+                    target = edgeCharList.size();
+                    edgeCharList.add(new char[0]);
+                    edgeTargetList.add(new int[0]);
+                    outputList.add(new int[0]);
+                    insertEdge(edgeCharList, edgeTargetList, state, c, target);
+                }
+                state = target;
+            }
+            if (outputList.get(state).length == 0) {
+                outputList.set(state, new int[]{patterns.size()});
+                patterns.add(new int[]{labelId, pattern.length()});
+            }
+        }
+
+        int stateCount = edgeCharList.size();
+        char[][] edgeChars = edgeCharList.toArray(new char[0][]);
+        int[][] edgeTargets = edgeTargetList.toArray(new int[0][]);
+        int[][] outputs = outputList.toArray(new int[0][]);
+        int[] fail = new int[stateCount];
+
+        // Breadth-first failure links; outputs are merged along them so a state reports every suffix match
+        int[] queue = new int[stateCount];
+        int head = 0;
+        int tail = 0;
+        for (int target : edgeTargets[ROOT]) {
+            fail[target] = ROOT;
+            queue[tail++] = target;
+        }
+        while (head < tail) {
+            int state = queue[head++];
+            for (int i = 0; i < edgeChars[state].length; i++) {
+                char c = edgeChars[state][i];
+                int target = edgeTargets[state][i];
+                int fallback = fail[state];
+                int next;
+                while ((next = find(edgeChars[fallback], edgeTargets[fallback], c)) < 0 && fallback != ROOT) {
+                    fallback = fail[fallback];
+                }
+                fail[target] = next >= 0 && next != target ? next : ROOT;
+                if (outputs[fail[target]].length > 0) {
+                    outputs[target] = merge(outputs[target], outputs[fail[target]]);
+                }
+                queue[tail++] = target;
+            }
+        }
+
+        int[] patternLabels = new int[patterns.size()];
+        int[] patternLengths = new int[patterns.size()];
+        for (int i = 0; i < patterns.size(); i++) {
+            patternLabels[i] = patterns.get(i)[0];
+            patternLengths[i] = patterns.get(i)[1];
+        }
+        return new KeywordMatcher(labelIds.keySet().toArray(new String[0]), Map.copyOf(labelIds),
+                patternLabels, patternLengths, edgeChars, edgeTargets, fail, outputs);
+    }
+
+    /**
+     * @return The number of distinct labels
+     */
+    public int size() {
+        return labels.length;
+    }
+
+    public String label(int id) {
+        return labels[id];
+    }
+
+    /**
+     * @return The id of a label, or -1 if this matcher does not know it
+     */
+    public int idOf(String label) {
+        Integer id = labelIds.get(label);
+        return id != null ? id : -1;
+    }
+
+    /**
+     * Converts labels (e.g. skills stored on an earlier result) to this matcher's ids
+     */
+    public BitSet idsOf(Iterable<String> labels) {
+        BitSet ids = new BitSet(size());
+        for (String label : labels) {
+            int id = idOf(label);
+            if (id >= 0) {
+                ids.set(id);
+            }
+        }
+        return ids;
+    }
+
+    public List<String> labelsOf(BitSet ids) {
+        List<String> result = new ArrayList<>(ids.cardinality());
+        for (int id = ids.nextSetBit(0); id >= 0; id = ids.nextSetBit(id + 1)) {
+            result.add(labels[id]);
+        }
+        return result;
+    }
+
+    /**
+     * @return The ids of every label that occurs in the text
+     */
+    public BitSet match(CharSequence text) {
+        Cursor cursor = newCursor();
+        if (text != null) {
+            for (int i = 0; i < text.length(); i++) {
+                cursor.feed(text.charAt(i));
+            }
+        }
+        return cursor.finish();
+    }
+
+    public Cursor newCursor() {
+        return new Cursor();
+    }
+
+    private int next(int state, char c) {
+        while (true) {
+            if (state == ROOT) {
+                if (c < ASCII) {
+                    return rootAscii[c];
+                }
+                int target = find(edgeChars[ROOT], edgeTargets[ROOT], c);
+                return target >= 0 ? target : ROOT;
+            }
+            int target = find(edgeChars[state], edgeTargets[state], c);
+            if (target >= 0) {
+                return target;
+            }
+            state = fail[state];
+        }
+    }
+
+    /**
+     * Streaming match state for one text. Characters are normalized as they arrive:
+     * letters are lower-cased, characters that commonly appear inside skill names
+     * ({@code + # .}) are kept, and everything else collapses to a single separator,
+     * so "CI/CD" and "C/C++" split the same way their dictionary entries do.
+     */
+    public final class Cursor {
+
+        private long[] occurrences = new long[16];
+        private int occurrenceCount;
+        private int position = 1;
+        private int state = startState;
+        private boolean lastWasSeparator = true;
+        private boolean pendingDot;
+
+        public void feed(char c) {
+            char normalized = normalize(c);
+            if (normalized == SEPARATOR) {
+                // A dot right before a separator ends a sentence rather than belonging to a name
+                pendingDot = false;
+                if (!lastWasSeparator) {
+                    step(SEPARATOR);
+                    lastWasSeparator = true;
+                }
+                return;
+            }
+            if (normalized == '.') {
+                if (pendingDot) {
+                    step('.');
+                }
+                pendingDot = true;
+                return;
+            }
+            if (pendingDot) {
+                step('.');
+                pendingDot = false;
+            }
+            step(normalized);
+            lastWasSeparator = false;
+        }
+
+        /**
+         * @return The ids of every label matched, ignoring matches contained in a longer match
+         */
+        public BitSet finish() {
+            feed(SEPARATOR);
+            BitSet matches = new BitSet(labels.length);
+
+            // Sorted by start, longest first: a match is contained in an earlier one that reaches at least as far
+            long[] sorted = Arrays.copyOf(occurrences, occurrenceCount);
+            Arrays.sort(sorted);
+            int furthestEnd = -1;
+            int furthestStart = -1;
+            for (long occurrence : sorted) {
+                int start = (int) (occurrence >>> 32);
+                int patternId = (int) (occurrence & 0xFFFFF);
+                int end = start + patternLengths[patternId];
+                boolean contained = furthestEnd > end || (furthestEnd == end && furthestStart < start);
+                if (!contained) {
+                    matches.set(patternLabels[patternId]);
+                }
+                if (end > furthestEnd) {
+                    furthestEnd = end;
+                    furthestStart = start;
+                }
+            }
+            return matches;
+        }
+
+        private void step(char c) {
+            position++;
+            state = next(state, c);
+            for (int patternId : outputs[state]) {
+                record(position - patternLengths[patternId], patternId);
+            }
+        }
+
+        private void record(int start, int patternId) {
+            if (occurrenceCount == MAX_RECORDED_MATCHES) {
+                return;
+            }
+            if (occurrenceCount == occurrences.length) {
+                occurrences = Arrays.copyOf(occurrences, occurrences.length * 2);
+            }
+            long longestFirst = MAX_PATTERN_LENGTH - patternLengths[patternId];
+            occurrences[occurrenceCount++] = ((long) start << 32) | (longestFirst << 20) | patternId;
+        }
+    }
+
+    private static char normalize(char c) {
+        if (c < ASCII) {
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                return c;
+            }
+            if (c >= 'A' && c <= 'Z') {
+                return (char) (c + ('a' - 'A'));
+            }
+            return c == '+' || c == '#' || c == '.' ? c : SEPARATOR;
+        }
+        return Character.isLetterOrDigit(c) ? Character.toLowerCase(c) : SEPARATOR;
+    }
+
+    /**
+     * Normalizes a keyword the same way {@link Cursor} normalizes text, wrapped in separators
+     */
+    private static String normalize(String keyword) {
+        StringBuilder sb = new StringBuilder(keyword.length() + 2).append(SEPARATOR);
+        for (int i = 0; i < keyword.length(); i++) {
+            char c = normalize(keyword.charAt(i));
+            if (c != SEPARATOR || sb.charAt(sb.length() - 1) != SEPARATOR) {
+                sb.append(c);
+            }
+        }
+        // Mirror the cursor: a trailing dot is sentence punctuation
+        while (sb.length() > 1 && (sb.charAt(sb.length() - 1) == '.' || sb.charAt(sb.length() - 1) == SEPARATOR)) {
+            sb.setLength(sb.length() - 1);
+        }
+        return sb.append(SEPARATOR).toString();
+    }
+
+    private static int find(char[] chars, int[] targets, char c) {
+        int index = Arrays.binarySearch(chars, c);
+        return index >= 0 ? targets[index] : -1;
+    }
+
+    private static void insertEdge(List<char[]> edgeChars, List<int[]> edgeTargets, int state, char c, int target) {
+        char[] chars = edgeChars.get(state);
+        int[] targets = edgeTargets.get(state);
+        int insertAt = -(Arrays.binarySearch(chars, c) + 1);
+        char[] newChars = new char[chars.length + 1];
+        int[] newTargets = new int[targets.length + 1];
+        System.arraycopy(chars, 0, newChars, 0, insertAt);
+        System.arraycopy(targets, 0, newTargets, 0, insertAt);
+        newChars[insertAt] = c;
+        newTargets[insertAt] = target;
+        System.arraycopy(chars, insertAt, newChars, insertAt + 1, chars.length - insertAt);
+        System.arraycopy(targets, insertAt, newTargets, insertAt + 1, targets.length - insertAt);
+        edgeChars.set(state, newChars);
+        edgeTargets.set(state, newTargets);
+    }
+
+    private static int[] append(int[] values, int value) {
+        for (int existing : values) {
+            if (existing == value) {
+                return values;
+            }
+        }
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] merge(int[] values, int[] more) {
+        int[] result = values;
+        for (int value : more) {
+            result = append(result, value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,204 @@
+package com.placement.expo.service;
+
+import com.placement.expo.model.ResumeObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Keeps resumes in {@code <app.upload.dir>/resumes} on this node's disk. This is the
+ * default, and is enough for a single node or for nodes sharing a network mount.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "local", matchIfMissing = true)
+@Slf4j
+public class LocalResumeStorage implements ResumeStorage {
+
+    private static final String PARTIAL_SUFFIX = ".part";
+
+    private final Path root;
+
+    public LocalResumeStorage(@Value("${app.upload.dir:uploads}") String uploadDir) {
+        this.root = Paths.get(uploadDir, "resumes");
+    }
+
+    @Override
+    public Upload create(String key) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(root);
+        // Written under a temporary name so a half-received upload is never picked up by scoring or batch jobs
+        Path partial = target.resolveSibling(key + PARTIAL_SUFFIX);
+        FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        return new FileUpload(key, target, partial, channel);
+    }
+
+    @Override
+    public void put(String key, byte[] content) throws IOException {
+        Files.write(resolve(key), content);
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return Files.newInputStream(resolve(key));
+    }
+
+    @Override
+    public InputStream open(String key, long start, long end) throws IOException {
+        FileChannel channel = FileChannel.open(resolve(key), StandardOpenOption.READ);
+        channel.position(start);
+        return new FilterInputStream(Channels.newInputStream(channel)) {
+            private long remaining = end - start;
+
+            @Override
+            public int read() throws IOException {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int b = super.read();
+                if (b >= 0) {
+                    remaining--;
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int read = super.read(buffer, offset, (int) Math.min(length, remaining));
+                if (read > 0) {
+                    remaining -= read;
+                }
+                return read;
+            }
+        };
+    }
+
+    @Override
+    public Optional<ResumeObject> stat(String key) throws IOException {
+        Path path = resolve(key);
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            return attributes.isRegularFile() ? Optional.of(toObject(key, attributes)) : Optional.empty();
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<ResumeObject> list() throws IOException {
+        List<ResumeObject> objects = new ArrayList<>();
+        if (!Files.isDirectory(root)) {
+            return objects;
+        }
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(root)) {
+            for (Path path : stream) {
+                String key = path.getFileName().toString();
+                if (key.startsWith(".") || key.endsWith(PARTIAL_SUFFIX)) {
+                    continue;
+                }
+                BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attributes.isRegularFile()) {
+                    objects.add(toObject(key, attributes));
+                }
+            }
+        }
+        return objects;
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        return Files.deleteIfExists(resolve(key));
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.of(resolve(key).toAbsolutePath());
+    }
+
+    private Path resolve(String key) {
+        if (key.isEmpty() || key.contains("/") || key.contains("\\") || key.contains("..")) {
+            throw new IllegalArgumentException("Invalid resume key: " + key);
+        }
+        return root.resolve(key);
+    }
+
+    private static ResumeObject toObject(String key, BasicFileAttributes attributes) {
+        return ResumeObject.builder()
+                .key(key)
+                .size(attributes.size())
+                .lastModified(attributes.lastModifiedTime().toMillis())
+                .build();
+    }
+
+    private static final class FileUpload implements Upload {
+        private final String key;
+        private final Path target;
+        private final Path partial;
+        private final FileChannel channel;
+        private boolean finished;
+
+        private FileUpload(String key, Path target, Path partial, FileChannel channel) {
+            this.key = key;
+            this.target = target;
+            this.partial = partial;
+            this.channel = channel;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            return channel.write(src);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !finished;
+        }
+
+        @Override
+        public ResumeObject commit() throws IOException {
+            channel.close();
+            Files.move(partial, target, StandardCopyOption.ATOMIC_MOVE);
+            finished = true;
+            return toObject(key, Files.readAttributes(target, BasicFileAttributes.class));
+        }
+
+        @Override
+        public void abort() {
+            finished = true;
+            try {
+                channel.close();
+                Files.deleteIfExists(partial);
+            } catch (IOException e) {
+                log.warn("Could not remove partial upload {}: {}", partial.getFileName(), e.getMessage());
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!finished) {
+                abort();
+            }
+        }
+    }
+}
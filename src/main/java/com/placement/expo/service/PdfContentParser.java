@@ -0,0 +1,261 @@
+package com.placement.expo.service;
+
+/**
+ * Streaming parser for decoded PDF content streams. It recognises the text
+ * showing operators (Tj, TJ, ', ") inside BT/ET blocks and forwards the string
+ * operands to a {@link ResumeTokenizer}. Input may arrive in arbitrary chunks.
+ */
+class PdfContentParser {
+
+    private static final int MAX_OPERATOR_LENGTH = 8;
+    private static final int MAX_NUMBER_LENGTH = 16;
+    /** TJ displacement (thousandths of an em) that is wide enough to be a word gap */
+    private static final double WORD_GAP = -180;
+
+    private enum State { NORMAL, LITERAL, LITERAL_ESCAPE, HEX, COMMENT }
+
+    private final ResumeTokenizer tokenizer;
+
+    private State state = State.NORMAL;
+    private int literalDepth;
+    private int octalValue;
+    private int octalDigits;
+    private int hexHigh = -1;
+    private boolean pendingLessThan;
+    private boolean inTextObject;
+    private boolean inArray;
+    private final StringBuilder operator = new StringBuilder(MAX_OPERATOR_LENGTH);
+    private final StringBuilder number = new StringBuilder(MAX_NUMBER_LENGTH);
+
+    // Two-byte hex strings (CID fonts) are detected per string from the zero high bytes
+    private final byte[] hexBuffer = new byte[256];
+    private int hexLength;
+
+    PdfContentParser(ResumeTokenizer tokenizer) {
+        this.tokenizer = tokenizer;
+    }
+
+    void feed(byte[] data, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            feed(data[i] & 0xFF);
+        }
+    }
+
+    void finish() {
+        endWord();
+        if (state == State.HEX) {
+            flushHex();
+        }
+        state = State.NORMAL;
+        tokenizer.endLine();
+    }
+
+    private void feed(int b) {
+        switch (state) {
+            case LITERAL -> literal(b);
+            case LITERAL_ESCAPE -> escape(b);
+            case HEX -> hex(b);
+            case COMMENT -> {
+                if (b == '\n' || b == '\r') {
+                    state = State.NORMAL;
+                }
+            }
+            default -> normal(b);
+        }
+    }
+
+    private void normal(int b) {
+        if (pendingLessThan) {
+            pendingLessThan = false;
+            if (b == '<') {
+                return; // dictionary start
+            }
+            state = State.HEX;
+            hexHigh = -1;
+            hexLength = 0;
+            hex(b);
+            return;
+        }
+
+        switch (b) {
+            case '(' -> {
+                endWord();
+                state = State.LITERAL;
+                literalDepth = 1;
+            }
+            case '<' -> {
+                endWord();
+                pendingLessThan = true;
+            }
+            case '[' -> {
+                endWord();
+                inArray = true;
+            }
+            case ']' -> {
+                endWord();
+                inArray = false;
+            }
+            case '%' -> {
+                endWord();
+                state = State.COMMENT;
+            }
+            case ' ', '\n', '\r', '\t', '\f', 0, '>', '/', '{', '}' -> endWord();
+            default -> {
+                if ((b >= '0' && b <= '9') || b == '-' || b == '.' || b == '+') {
+                    if (operator.length() > 0) {
+                        endWord();
+                    }
+                    if (number.length() < MAX_NUMBER_LENGTH) {
+                        number.append((char) b);
+                    }
+                } else {
+                    if (number.length() > 0) {
+                        endWord();
+                    }
+                    if (operator.length() < MAX_OPERATOR_LENGTH) {
+                        operator.append((char) b);
+                    }
+                }
+            }
+        }
+    }
+
+    private void endWord() {
+        if (number.length() > 0) {
+            if (inArray && inTextObject) {
+                try {
+                    if (Double.parseDouble(number.toString()) < WORD_GAP) {
+                        tokenizer.accept(' ');
+                    }
+                } catch (NumberFormatException ignored) {
+                    // malformed operand, nothing to emit
+                }
+            }
+            number.setLength(0);
+        }
+        if (operator.length() > 0) {
+            onOperator(operator.toString());
+            operator.setLength(0);
+        }
+    }
+
+    private void onOperator(String op) {
+        switch (op) {
+            case "BT" -> inTextObject = true;
+            case "ET" -> {
+                inTextObject = false;
+                tokenizer.endLine();
+            }
+            case "Td", "TD", "T*", "'", "\"" -> {
+                if (inTextObject) {
+                    tokenizer.endLine();
+                }
+            }
+            case "Tj", "TJ" -> {
+                if (inTextObject) {
+                    tokenizer.accept(' ');
+                }
+            }
+            default -> {
+                // graphics and state operators carry no text
+            }
+        }
+    }
+
+    private void literal(int b) {
+        switch (b) {
+            case '\\' -> {
+                state = State.LITERAL_ESCAPE;
+                octalDigits = 0;
+                octalValue = 0;
+            }
+            case '(' -> {
+                literalDepth++;
+                emit(b);
+            }
+            case ')' -> {
+                if (--literalDepth == 0) {
+                    state = State.NORMAL;
+                } else {
+                    emit(b);
+                }
+            }
+            default -> emit(b);
+        }
+    }
+
+    private void escape(int b) {
+        if (b >= '0' && b <= '7') {
+            octalValue = octalValue * 8 + (b - '0');
+            if (++octalDigits == 3) {
+                emit(octalValue & 0xFF);
+                state = State.LITERAL;
+            }
+            return;
+        }
+        if (octalDigits > 0) {
+            emit(octalValue & 0xFF);
+            state = State.LITERAL;
+            literal(b);
+            return;
+        }
+        state = State.LITERAL;
+        switch (b) {
+            case 'n', 'r' -> tokenizer.endLine();
+            case 't', 'b', 'f' -> emit(' ');
+            case '\r', '\n' -> {
+                // line continuation
+            }
+            default -> emit(b);
+        }
+    }
+
+    private void hex(int b) {
+        if (b == '>') {
+            flushHex();
+            state = State.NORMAL;
+            return;
+        }
+        int value = Character.digit(b, 16);
+        if (value < 0) {
+            return;
+        }
+        if (hexHigh < 0) {
+            hexHigh = value;
+        } else {
+            if (hexLength < hexBuffer.length) {
+                hexBuffer[hexLength++] = (byte) ((hexHigh << 4) | value);
+            }
+            hexHigh = -1;
+        }
+    }
+
+    private void flushHex() {
+        if (hexHigh >= 0 && hexLength < hexBuffer.length) {
+            hexBuffer[hexLength++] = (byte) (hexHigh << 4);
+        }
+        hexHigh = -1;
+        boolean twoByte = hexLength >= 2 && hexLength % 2 == 0;
+        for (int i = 0; twoByte && i < hexLength; i += 2) {
+            if (hexBuffer[i] != 0) {
+                twoByte = false;
+            }
+        }
+        if (twoByte) {
+            for (int i = 0; i < hexLength; i += 2) {
+                emit(((hexBuffer[i] & 0xFF) << 8) | (hexBuffer[i + 1] & 0xFF));
+            }
+        } else {
+            for (int i = 0; i < hexLength; i++) {
+                emit(hexBuffer[i] & 0xFF);
+            }
+        }
+        hexLength = 0;
+    }
+
+    private void emit(int c) {
+        if (inTextObject) {
+            tokenizer.accept((char) c);
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.placement.expo.service;
+
+import com.placement.expo.entity.Company;
+import com.placement.expo.entity.JobApplication;
+import com.placement.expo.entity.PlacementStatistics;
+import com.placement.expo.event.EntityChangeEvent;
+import com.placement.expo.repository.CompanyRepository;
+import com.placement.expo.repository.JobApplicationRepository;
+import com.placement.expo.repository.PlacementStatisticsRepository;
+import com.placement.expo.repository.UserProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PreDestroy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps each student's {@link PlacementStatistics} row current from job application changes.
+ * Every insert, update or delete is turned into a counter delta against the state it replaced;
+ * committed deltas are merged per student and written in one batch on each flush, so the
+ * dashboard reads a single row instead of aggregating the student's applications. Queued deltas
+ * live only in memory, so the rows are also rebuilt from job_applications with the V3 Flyway
+ * migration's SQL on startup and on an interval, which restores anything lost in a crash.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PlacementStatisticsService {
+
+    private final PlacementStatisticsRepository statisticsRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+    private final UserProfileRepository userProfileRepository;
+    private final CompanyRepository companyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    /** The migration that first rebuilt the rows; rerunning it recounts every student */
+    private static final Resource RECONCILE_SCRIPT = new ClassPathResource("db/migration/V3__backfill_placement_statistics.sql");
+
+    /** Committed deltas not yet written, by user profile ID */
+    private final Map<Long, Delta> pending = new ConcurrentHashMap<>();
+
+    /**
+     * Runs inside the writing transaction, while the application still remembers the state
+     * the change replaced; the delta itself is only queued once that transaction commits.
+     */
+    @EventListener
+    public void onApplicationChanged(EntityChangeEvent event) {
+        if (!event.isFor(JobApplication.class)) {
+            return;
+        }
+        JobApplication application = event.getEntity(JobApplication.class);
+        if (application.getUserProfile() == null) {
+            return;
+        }
+        Delta delta = Delta.between(
+                event.getChangeType() == EntityChangeEvent.ChangeType.CREATED ? null : Outcome.saved(application),
+                event.getChangeType() == EntityChangeEvent.ChangeType.DELETED ? null : Outcome.current(application),
+                application.getCompany() != null ? application.getCompany().getId() : null);
+        if (!delta.isEmpty()) {
+            eventPublisher.publishEvent(new ApplicationDelta(application.getUserProfile().getId(), delta));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeltaCommitted(ApplicationDelta committed) {
+        pending.merge(committed.userProfileId(), committed.delta(), Delta::plus);
+    }
+
+    /**
+     * Writes the queued deltas in one transaction; on failure they are queued again for the next flush
+     */
+    @Scheduled(fixedDelayString = "${app.placement-stats.flush-interval-ms:2000}")
+    @PreDestroy
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        Map<Long, Delta> batch = new HashMap<>();
+        for (Long userProfileId : new ArrayList<>(pending.keySet())) {
+            Delta delta = pending.remove(userProfileId);
+            if (delta != null) {
+                batch.put(userProfileId, delta);
+            }
+        }
+
+        long start = System.nanoTime();
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(batch));
+        } catch (RuntimeException e) {
+            log.warn("Could not write placement statistics for {} students, retrying on the next flush: {}",
+                    batch.size(), e.getMessage());
+            batch.forEach((userProfileId, delta) -> pending.merge(userProfileId, delta, Delta::plus));
+            return;
+        }
+        log.debug("Wrote placement statistics for {} students in {}ms", batch.size(),
+                String.format("%.2f", (System.nanoTime() - start) / 1_000_000.0));
+    }
+
+    /**
+     * Recounts every student's statistics from their applications. Queued deltas are dropped
+     * first since the recount already includes their committed changes; a change committing
+     * while the recount runs may be counted twice until the next one.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.placement-stats.reconcile-interval-ms:21600000}",
+               initialDelayString = "${app.placement-stats.reconcile-interval-ms:21600000}")
+    public synchronized void reconcile() {
+        Map<Long, Delta> dropped = new HashMap<>();
+        for (Long userProfileId : new ArrayList<>(pending.keySet())) {
+            Delta delta = pending.remove(userProfileId);
+            if (delta != null) {
+                dropped.put(userProfileId, delta);
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                ScriptUtils.executeSqlScript(connection, RECONCILE_SCRIPT);
+                return null;
+            }));
+        } catch (RuntimeException e) {
+            log.warn("Could not reconcile placement statistics, keeping the queued deltas: {}", e.getMessage());
+            dropped.forEach((userProfileId, delta) -> pending.merge(userProfileId, delta, Delta::plus));
+            return;
+        }
+        log.info("Reconciled placement statistics from job applications in {}ms", System.currentTimeMillis() - start);
+    }
+
+    private void apply(Map<Long, Delta> batch) {
+        Map<Long, PlacementStatistics> rows = new HashMap<>();
+        for (PlacementStatistics row : statisticsRepository.findForUpdateByUserProfileIdIn(batch.keySet())) {
+            rows.put(row.getUserProfileId(), row);
+        }
+        createMissingRows(batch.keySet(), rows);
+
+        Set<Long> offeringCompanies = new HashSet<>();
+        batch.values().forEach(delta -> {
+            if (delta.bestCompanyId() != null) {
+                offeringCompanies.add(delta.bestCompanyId());
+            }
+        });
+        Map<Long, String> companyNames = new HashMap<>();
+        for (Company company : companyRepository.findAllById(offeringCompanies)) {
+            companyNames.put(company.getId(), company.getCompanyName());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (Map.Entry<Long, Delta> entry : batch.entrySet()) {
+            PlacementStatistics row = rows.get(entry.getKey());
+            if (row == null) {
+                continue;
+            }
+            Delta delta = entry.getValue();
+            row.addCounts(delta.applications(), delta.pending(), delta.rejected(), delta.interviews(), delta.offers());
+            applyBestOffer(entry.getKey(), row, delta, companyNames);
+            row.setLastActivityDate(now);
+        }
+        statisticsRepository.saveAll(rows.values());
+    }
+
+    private void createMissingRows(Set<Long> userProfileIds, Map<Long, PlacementStatistics> rows) {
+        Set<Long> missing = new HashSet<>(userProfileIds);
+        missing.removeAll(rows.keySet());
+        if (missing.isEmpty()) {
+            return;
+        }
+        for (Object[] profile : userProfileRepository.findAppwriteUserIds(missing)) {
+            Long userProfileId = (Long) profile[0];
+            rows.put(userProfileId, PlacementStatistics.builder()
+                    .userProfile(userProfileRepository.getReferenceById(userProfileId))
+                    .userProfileId(userProfileId)
+                    .appwriteUserId((String) profile[1])
+                    .build());
+        }
+    }
+
+    private void applyBestOffer(Long userProfileId, PlacementStatistics row, Delta delta, Map<Long, String> companyNames) {
+        BigDecimal highest = row.getHighestPackageOffered();
+        if (delta.withdrawnPackage() != null && highest != null && delta.withdrawnPackage().compareTo(highest) >= 0) {
+            // The best offer may be gone; only then is it worth asking the database for the next one
+            List<Object[]> best = jobApplicationRepository.findOffersByPackageDesc(userProfileId, PageRequest.of(0, 1));
+            row.setHighestPackageOffered(best.isEmpty() ? null : (BigDecimal) best.get(0)[0]);
+            row.setBestCompanySelected(best.isEmpty() ? null : (String) best.get(0)[1]);
+            return;
+        }
+        if (delta.bestPackage() != null && (highest == null || delta.bestPackage().compareTo(highest) > 0)) {
+            row.setHighestPackageOffered(delta.bestPackage());
+            row.setBestCompanySelected(companyNames.get(delta.bestCompanyId()));
+        }
+    }
+
+    /** What one application contributes to its student's statistics */
+    private record Outcome(JobApplication.ApplicationStatus status, boolean interviewed, BigDecimal offeredPackage) {
+
+        static Outcome saved(JobApplication application) {
+            return new Outcome(application.getSavedStatus(), application.getSavedInterviewDate() != null,
+                    application.getSavedOfferedPackage());
+        }
+
+        static Outcome current(JobApplication application) {
+            return new Outcome(application.getStatus(), application.getInterviewDate() != null,
+                    application.getOfferedPackage());
+        }
+
+        boolean isPending() {
+            return status == JobApplication.ApplicationStatus.APPLIED
+                    || status == JobApplication.ApplicationStatus.SCREENING
+                    || status == JobApplication.ApplicationStatus.INTERVIEW;
+        }
+    }
+
+    /**
+     * Counter changes for one student. Packages can only be merged as a maximum: the best new
+     * offer, and the best offer that was withdrawn or lowered (which may force a re-read).
+     */
+    record Delta(int applications, int pending, int rejected, int interviews, int offers,
+                 BigDecimal bestPackage, Long bestCompanyId, BigDecimal withdrawnPackage) {
+
+        static Delta between(Outcome before, Outcome after, Long companyId) {
+            BigDecimal oldPackage = before != null ? before.offeredPackage() : null;
+            BigDecimal newPackage = after != null ? after.offeredPackage() : null;
+            boolean packageLowered = oldPackage != null && (newPackage == null || newPackage.compareTo(oldPackage) < 0);
+            return new Delta(
+                    count(after != null) - count(before != null),
+                    count(after != null && after.isPending()) - count(before != null && before.isPending()),
+                    count(after, JobApplication.ApplicationStatus.REJECTED) - count(before, JobApplication.ApplicationStatus.REJECTED),
+                    count(after != null && after.interviewed()) - count(before != null && before.interviewed()),
+                    count(after, JobApplication.ApplicationStatus.SELECTED) - count(before, JobApplication.ApplicationStatus.SELECTED),
+                    newPackage,
+                    newPackage != null ? companyId : null,
+                    packageLowered ? oldPackage : null);
+        }
+
+        Delta plus(Delta other) {
+            boolean otherBetter = other.bestPackage != null
+                    && (bestPackage == null || other.bestPackage.compareTo(bestPackage) > 0);
+            return new Delta(
+                    applications + other.applications,
+                    pending + other.pending,
+                    rejected + other.rejected,
+                    interviews + other.interviews,
+                    offers + other.offers,
+                    otherBetter ? other.bestPackage : bestPackage,
+                    otherBetter ? other.bestCompanyId : bestCompanyId,
+                    max(withdrawnPackage, other.withdrawnPackage));
+        }
+
+        boolean isEmpty() {
+            return applications == 0 && pending == 0 && rejected == 0 && interviews == 0 && offers == 0
+                    && bestPackage == null && withdrawnPackage == null;
+        }
+
+        private static int count(boolean condition) {
+            return condition ? 1 : 0;
+        }
+
+        private static int count(Outcome outcome, JobApplication.ApplicationStatus status) {
+            return outcome != null && outcome.status() == status ? 1 : 0;
+        }
+
+        private static BigDecimal max(BigDecimal a, BigDecimal b) {
+            return a == null ? b : b == null ? a : a.max(b);
+        }
+    }
+
+    /** A committed change to one student's applications */
+    record ApplicationDelta(Long userProfileId, Delta delta) {
+    }
+}
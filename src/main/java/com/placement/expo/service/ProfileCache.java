@@ -0,0 +1,101 @@
+package com.placement.expo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.event.EntityChangeEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of profiles keyed by Appwrite user ID. Entries are dropped once a
+ * change to the profile commits, and expire after a TTL so other nodes' writes are seen
+ * within that window. Users without a profile are cached too, with a shorter TTL, so a
+ * new student polling the dashboard before registering costs one database lookup per
+ * window. Callers get a copy, so changing a returned profile without saving it never
+ * leaks into the cache. Hit/miss/eviction counts are published as cache.* metrics under
+ * the name "userProfiles".
+ */
+@Component
+@Slf4j
+public class ProfileCache {
+
+    private final Cache<String, Optional<UserProfileSimple>> cache;
+
+    public ProfileCache(MeterRegistry meterRegistry,
+                        @Value("${app.profile-cache.max-entries:20000}") long maxEntries,
+                        @Value("${app.profile-cache.ttl:5m}") Duration ttl,
+                        @Value("${app.profile-cache.missing-ttl:30s}") Duration missingTtl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, Optional<UserProfileSimple>>() {
+                    @Override
+                    public long expireAfterCreate(String id, Optional<UserProfileSimple> profile, long currentTime) {
+                        return (profile.isPresent() ? ttl : missingTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String id, Optional<UserProfileSimple> profile,
+                                                  long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, profile, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String id, Optional<UserProfileSimple> profile,
+                                                long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userProfiles");
+        log.info("Profile cache initialised with capacity {}, TTL {} and missing-profile TTL {}",
+                maxEntries, ttl, missingTtl);
+    }
+
+    /**
+     * @param appwriteUserId The profile's Appwrite user ID
+     * @param loader Loads the profile on a miss
+     * @return A copy of the profile, or empty if it does not exist
+     */
+    public Optional<UserProfileSimple> get(String appwriteUserId,
+                                           Function<String, Optional<UserProfileSimple>> loader) {
+        if (appwriteUserId == null) {
+            return Optional.empty();
+        }
+        return cache.get(appwriteUserId, loader).map(profile -> profile.toBuilder().build());
+    }
+
+    public void invalidate(String appwriteUserId) {
+        if (appwriteUserId != null) {
+            cache.invalidate(appwriteUserId);
+        }
+    }
+
+    /**
+     * Drops profiles changed outside JPA, e.g. by JDBC batch updates
+     */
+    public void invalidateAll(Collection<String> appwriteUserIds) {
+        cache.invalidateAll(appwriteUserIds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProfileChanged(EntityChangeEvent event) {
+        if (event.isFor(UserProfileSimple.class)) {
+            // Invalidate rather than store: events from concurrent commits may arrive out of order.
+            // This also clears the cached absence when a profile is first created.
+            invalidate(event.getEntity(UserProfileSimple.class).getAppwriteUserId());
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.placement.expo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.repository.UserProfileSimpleRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+
+/**
+ * Writes every profile to a stream as JSON, NDJSON or CSV. Profiles are read through a
+ * JDBC cursor and written as they arrive, and the summary is computed in the same pass,
+ * so memory use stays flat however many students are registered.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileExportService {
+
+    private static final String[] CSV_COLUMNS = {
+        "id", "appwriteUserId", "fullName", "email", "phone", "department", "currentYear", "currentCgpa",
+        "backlogs", "linkedinUrl", "githubUrl", "portfolioUrl", "resumeUrl", "completionPercentage",
+        "createdAt", "updatedAt"
+    };
+
+    private final UserProfileSimpleRepository repository;
+    private final ObjectMapper objectMapper;
+
+    public enum Format {
+        /** One JSON document, same shape as the original export: profiles first, then the summary */
+        JSON("application/json", "json"),
+        /** One profile per line, followed by a final {"summary": ...} line */
+        NDJSON("application/x-ndjson", "ndjson"),
+        /** A header row and one row per profile; the summary is only logged */
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        /**
+         * @throws IllegalArgumentException for unknown formats
+         */
+        public static Format parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * Streams all profiles
+     *
+     * @param format The output format
+     * @param out Where to write; not closed
+     * @return The number of profiles written
+     */
+    public long export(Format format, OutputStream out) throws IOException {
+        Summary summary = new Summary();
+        switch (format) {
+            case JSON -> writeJson(out, summary);
+            case NDJSON -> writeNdjson(out, summary);
+            case CSV -> writeCsv(out, summary);
+        }
+        log.info("✅ Exported {} profiles as {} (average completion {}%)",
+                summary.count, format, String.format("%.1f", summary.averageCompletion()));
+        return summary.count;
+    }
+
+    private void writeJson(OutputStream out, Summary summary) throws IOException {
+        try (JsonGenerator json = newGenerator(out)) {
+            json.writeStartObject();
+            json.writeBooleanField("success", true);
+            json.writeStringField("timestamp", LocalDateTime.now().toString());
+            json.writeArrayFieldStart("profiles");
+            forEachProfile(profile -> {
+                summary.add(profile);
+                writeProfile(json, profile);
+            });
+            json.writeEndArray();
+            json.writeNumberField("totalRecords", summary.count);
+            json.writeFieldName("summary");
+            writeSummary(json, summary);
+            json.writeEndObject();
+        }
+    }
+
+    private void writeNdjson(OutputStream out, Summary summary) throws IOException {
+        try (JsonGenerator json = newGenerator(out)) {
+            // Root-level values are separated by a space by default; each record ends with its own newline instead
+            json.setRootValueSeparator(null);
+            forEachProfile(profile -> {
+                summary.add(profile);
+                writeProfile(json, profile);
+                writeRaw(json, "\n");
+            });
+            json.writeStartObject();
+            json.writeFieldName("summary");
+            writeSummary(json, summary);
+            json.writeEndObject();
+            json.writeRaw('\n');
+        }
+    }
+
+    private void writeCsv(OutputStream out, Summary summary) throws IOException {
+        Writer csv = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 64 * 1024);
+        csv.write(String.join(",", CSV_COLUMNS));
+        csv.write("\r\n");
+        forEachProfile(profile -> {
+            summary.add(profile);
+            try {
+                writeCsvRow(csv, profile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        csv.flush();
+    }
+
+    private JsonGenerator newGenerator(OutputStream out) throws IOException {
+        // The caller owns the stream, e.g. to finish a gzip trailer after the export
+        return objectMapper.createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private void forEachProfile(Consumer<UserProfileSimple> action) throws IOException {
+        try {
+            repository.forEachProfile(action);
+        } catch (UncheckedIOException e) {
+            // Usually the client went away mid-download
+            throw e.getCause();
+        }
+    }
+
+    private static void writeProfile(JsonGenerator json, UserProfileSimple profile) {
+        try {
+            json.writeStartObject();
+            json.writeNumberField("id", profile.getId());
+            json.writeStringField("appwriteUserId", profile.getAppwriteUserId());
+            json.writeStringField("fullName", profile.getFullName());
+            json.writeStringField("email", profile.getEmail());
+            json.writeStringField("phone", profile.getPhone());
+            json.writeStringField("department", profile.getDepartment());
+            json.writeObjectField("currentYear", profile.getCurrentYear());
+            json.writeObjectField("currentCgpa", profile.getCurrentCgpa());
+            json.writeObjectField("backlogs", profile.getBacklogs());
+            json.writeStringField("linkedinUrl", profile.getLinkedinUrl());
+            json.writeStringField("githubUrl", profile.getGithubUrl());
+            json.writeStringField("portfolioUrl", profile.getPortfolioUrl());
+            json.writeStringField("resumeUrl", profile.getResumeUrl());
+            json.writeObjectField("completionPercentage", profile.getProfileCompletionPercentage());
+            json.writeObjectField("createdAt", profile.getCreatedAt());
+            json.writeObjectField("updatedAt", profile.getUpdatedAt());
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRaw(JsonGenerator json, String text) {
+        try {
+            json.writeRaw(text);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeSummary(JsonGenerator json, Summary summary) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("totalProfiles", summary.count);
+        json.writeArrayFieldStart("departments");
+        for (String department : summary.departments) {
+            json.writeString(department);
+        }
+        json.writeEndArray();
+        json.writeNumberField("averageCompletion", summary.averageCompletion());
+        json.writeEndObject();
+    }
+
+    private static void writeCsvRow(Writer csv, UserProfileSimple profile) throws IOException {
+        Object[] values = {
+            profile.getId(), profile.getAppwriteUserId(), profile.getFullName(), profile.getEmail(),
+            profile.getPhone(), profile.getDepartment(), profile.getCurrentYear(), profile.getCurrentCgpa(),
+            profile.getBacklogs(), profile.getLinkedinUrl(), profile.getGithubUrl(), profile.getPortfolioUrl(),
+            profile.getResumeUrl(), profile.getProfileCompletionPercentage(), profile.getCreatedAt(),
+            profile.getUpdatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                csv.write(',');
+            }
+            if (values[i] != null) {
+                writeCsvValue(csv, values[i].toString());
+            }
+        }
+        csv.write("\r\n");
+    }
+
+    private static void writeCsvValue(Writer csv, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        // Leading formula characters are neutralised so spreadsheets do not evaluate them
+        if (!value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0 && !isNumber(value)) {
+            value = "'" + value;
+        }
+        if (!quote) {
+            csv.write(value);
+            return;
+        }
+        csv.write('"');
+        csv.write(value.replace("\"", "\"\""));
+        csv.write('"');
+    }
+
+    private static boolean isNumber(String value) {
+        try {
+            Double.parseDouble(value);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static final class Summary {
+        private long count;
+        private long completionTotal;
+        private final Set<String> departments = new TreeSet<>();
+
+        private void add(UserProfileSimple profile) {
+            count++;
+            Integer completion = profile.getProfileCompletionPercentage();
+            completionTotal += completion != null ? completion : 0;
+            String department = profile.getDepartment();
+            if (department != null && !department.isEmpty()) {
+                departments.add(department);
+            }
+        }
+
+        private double averageCompletion() {
+            return count == 0 ? 0.0 : (double) completionTotal / count;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.placement.expo.service;
+
+import com.placement.expo.entity.AcademicRecord;
+import com.placement.expo.entity.Certification;
+import com.placement.expo.entity.Experience;
+import com.placement.expo.entity.JobApplication;
+import com.placement.expo.entity.Project;
+import com.placement.expo.entity.Skill;
+import com.placement.expo.entity.UserProfile;
+import com.placement.expo.model.ProfileView;
+import com.placement.expo.model.RecruiterCard;
+import com.placement.expo.repository.AcademicRecordRepository;
+import com.placement.expo.repository.CertificationRepository;
+import com.placement.expo.repository.ExperienceRepository;
+import com.placement.expo.repository.JobApplicationRepository;
+import com.placement.expo.repository.ProjectRepository;
+import com.placement.expo.repository.SkillRepository;
+import com.placement.expo.repository.UserProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Read models over the full {@link UserProfile} aggregate. The number of queries does not
+ * depend on how many profiles are read: full profiles take one query for the profiles and
+ * their statistics plus one per collection, recruiter cards take two.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProfileViewService {
+
+    /** Skills shown on a recruiter card */
+    public static final int CARD_SKILLS = 8;
+
+    private final UserProfileRepository userProfileRepository;
+    private final AcademicRecordRepository academicRecordRepository;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final ExperienceRepository experienceRepository;
+    private final CertificationRepository certificationRepository;
+    private final JobApplicationRepository jobApplicationRepository;
+
+    /**
+     * @param appwriteUserId The student's Appwrite user ID
+     * @return The student's full profile, or empty if they have none
+     */
+    @Transactional(readOnly = true)
+    public Optional<ProfileView> getFullProfile(String appwriteUserId) {
+        return getFullProfiles(List.of(appwriteUserId)).stream().findFirst();
+    }
+
+    /**
+     * @param appwriteUserIds Appwrite user IDs; unknown ones are skipped
+     * @return The full profiles in the order the IDs were given
+     */
+    @Transactional(readOnly = true)
+    public List<ProfileView> getFullProfiles(Collection<String> appwriteUserIds) {
+        if (appwriteUserIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, UserProfile> byUser = new HashMap<>();
+        for (UserProfile profile : userProfileRepository.findByAppwriteUserIdIn(appwriteUserIds)) {
+            byUser.put(profile.getAppwriteUserId(), profile);
+        }
+        Map<Long, ProfileView> views = new LinkedHashMap<>();
+        for (String appwriteUserId : appwriteUserIds) {
+            UserProfile profile = byUser.get(appwriteUserId);
+            if (profile != null && !views.containsKey(profile.getId())) {
+                views.put(profile.getId(), ProfileView.builder()
+                        .profile(profile)
+                        .statistics(profile.getPlacementStatistics())
+                        .build());
+            }
+        }
+        if (views.isEmpty()) {
+            return List.of();
+        }
+
+        Collection<Long> ids = views.keySet();
+        attach(views, academicRecordRepository.findByUserProfileIdInOrderByEducationLevelAsc(ids),
+                AcademicRecord::getUserProfile, (view, item) -> view.getAcademicRecords().add(item));
+        attach(views, skillRepository.findByUserProfileIdInOrderBySkillCategoryAscProficiencyLevelDesc(ids),
+                Skill::getUserProfile, (view, item) -> view.getSkills().add(item));
+        attach(views, projectRepository.findByUserProfileIdInOrderByDisplayOrderAscCreatedAtDesc(ids),
+                Project::getUserProfile, (view, item) -> view.getProjects().add(item));
+        attach(views, experienceRepository.findByUserProfileIdInOrderByStartDateDesc(ids),
+                Experience::getUserProfile, (view, item) -> view.getExperiences().add(item));
+        attach(views, certificationRepository.findByUserProfileIdInOrderByIssueDateDesc(ids),
+                Certification::getUserProfile, (view, item) -> view.getCertifications().add(item));
+        attach(views, jobApplicationRepository.findByUserProfileIdInOrderByApplicationDateDesc(ids),
+                JobApplication::getUserProfile, (view, item) -> view.getApplications().add(item));
+        return new ArrayList<>(views.values());
+    }
+
+    /**
+     * @param appwriteUserIds Appwrite user IDs; unknown ones are skipped
+     * @return The students' recruiter cards in the order the IDs were given
+     */
+    @Transactional(readOnly = true)
+    public List<RecruiterCard> getRecruiterCards(Collection<String> appwriteUserIds) {
+        if (appwriteUserIds.isEmpty()) {
+            return List.of();
+        }
+        Map<String, RecruiterCard> byUser = new HashMap<>();
+        Map<Long, RecruiterCard> byProfile = new HashMap<>();
+        for (RecruiterCard card : userProfileRepository.findRecruiterCards(appwriteUserIds)) {
+            byUser.put(card.getAppwriteUserId(), card);
+            byProfile.put(card.getProfileId(), card);
+        }
+        if (byProfile.isEmpty()) {
+            return List.of();
+        }
+        for (Object[] row : skillRepository.findSkillNamesByUserProfileIdIn(byProfile.keySet())) {
+            RecruiterCard card = byProfile.get((Long) row[0]);
+            if (card != null && card.getSkills().size() < CARD_SKILLS) {
+                card.getSkills().add((String) row[1]);
+            }
+        }
+
+        List<RecruiterCard> cards = new ArrayList<>();
+        for (String appwriteUserId : new LinkedHashSet<>(appwriteUserIds)) {
+            RecruiterCard card = byUser.get(appwriteUserId);
+            if (card != null) {
+                cards.add(card);
+            }
+        }
+        return cards;
+    }
+
+    /**
+     * Hands each item to its profile's view. The owning profile is already in the persistence
+     * context, so reading its ID from the many-to-one does not query.
+     */
+    private static <T> void attach(Map<Long, ProfileView> views, List<T> items,
+                                   Function<T, UserProfile> owner, BiConsumer<ProfileView, T> add) {
+        for (T item : items) {
+            ProfileView view = views.get(owner.apply(item).getId());
+            if (view != null) {
+                add.accept(view, item);
+            }
+        }
+    }
+}
@@ -0,0 +1,516 @@
+package com.placement.expo.service;
+
+import com.placement.expo.entity.Project;
+import com.placement.expo.entity.Skill;
+import com.placement.expo.entity.UserProfile;
+import com.placement.expo.event.EntityChangeEvent;
+import com.placement.expo.model.RecruiterHit;
+import com.placement.expo.model.RecruiterQuery;
+import com.placement.expo.model.RecruiterSearchResult;
+import com.placement.expo.repository.ProjectRepository;
+import com.placement.expo.repository.SkillRepository;
+import com.placement.expo.repository.UserProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Recruiter search over full student profiles. Each student is kept as one denormalized
+ * document holding their profile's numbers, their skills (by whole name and by word) and
+ * their projects' technologies, with skills and departments also kept as bitsets. A search
+ * is a few bitset ANDs/ORs, one pass over the remaining students' numeric columns and a
+ * top-k over their scores.
+ * <p>
+ * Profile, skill and project changes mark their student; marked students are re-read in
+ * one batch shortly after, and everything is reloaded periodically to pick up other
+ * nodes' writes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RecruiterSearchIndex {
+
+    private static final int NO_VALUE = -1;
+
+    private final UserProfileRepository userProfileRepository;
+    private final SkillRepository skillRepository;
+    private final ProjectRepository projectRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Documents documents = new Documents();
+    /** Students whose committed changes are not yet in the index */
+    private final Set<Long> changed = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param query What to look for
+     * @param offset The number of results to skip
+     * @param limit The maximum number of results to return
+     * @return The page of matching students, best match first, and how many match in total
+     */
+    public RecruiterSearchResult search(RecruiterQuery query, int offset, int limit) {
+        Set<String> wantedSkills = new HashSet<>();
+        wantedSkills.addAll(terms(query.getAllSkills()));
+        wantedSkills.addAll(terms(query.getAnySkills()));
+
+        lock.readLock().lock();
+        try {
+            Documents docs = documents;
+            BitSet matches = docs.matching(query);
+            int wanted = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+            // Min-heap of (score, ordinal) packed into a long; scores are never negative, so
+            // their float bits order the same way as the values
+            PriorityQueue<Long> top = new PriorityQueue<>(Math.max(1, Math.min(wanted, 1024) + 1));
+            int total = 0;
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                total++;
+                long entry = ((long) Float.floatToIntBits(docs.score(ordinal, wantedSkills)) << 32)
+                        | (Integer.MAX_VALUE - ordinal);
+                if (top.size() < wanted) {
+                    top.add(entry);
+                } else if (wanted > 0 && entry > top.peek()) {
+                    top.poll();
+                    top.add(entry);
+                }
+            }
+
+            // The heap drains worst first; only the requested page is turned into hits
+            List<RecruiterHit> hits = new ArrayList<>(Math.max(0, top.size() - offset));
+            while (top.size() > offset) {
+                long entry = top.poll();
+                hits.add(docs.toHit(Integer.MAX_VALUE - (int) entry, Float.intBitsToFloat((int) (entry >>> 32)), wantedSkills));
+            }
+            Collections.reverse(hits);
+            return RecruiterSearchResult.builder()
+                    .query(query)
+                    .total(total)
+                    .hits(hits)
+                    .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Runs inside the writing transaction, where the owning profile's ID can still be read
+     * from the association; the student is only marked once the transaction commits.
+     */
+    @EventListener
+    public void onEntityChanged(EntityChangeEvent event) {
+        UserProfile owner = null;
+        if (event.isFor(UserProfile.class)) {
+            owner = event.getEntity(UserProfile.class);
+        } else if (event.isFor(Skill.class)) {
+            owner = event.getEntity(Skill.class).getUserProfile();
+        } else if (event.isFor(Project.class)) {
+            owner = event.getEntity(Project.class).getUserProfile();
+        }
+        if (owner != null && owner.getId() != null) {
+            eventPublisher.publishEvent(new StudentChanged(owner.getId()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStudentChanged(StudentChanged change) {
+        changed.add(change.userProfileId());
+    }
+
+    /**
+     * Re-reads every student changed since the last refresh, three queries for the whole batch
+     */
+    @Scheduled(fixedDelayString = "${app.recruiter-search.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        if (changed.isEmpty()) {
+            return;
+        }
+        List<Long> batch = new ArrayList<>(changed);
+        changed.removeAll(batch);
+        Map<Long, Document> loaded;
+        try {
+            loaded = load(batch);
+        } catch (Exception e) {
+            log.warn("Could not refresh {} students in the recruiter index, retrying: {}", batch.size(), e.getMessage());
+            changed.addAll(batch);
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (Long id : batch) {
+                Document document = loaded.get(id);
+                if (document != null) {
+                    documents.put(document);
+                } else {
+                    documents.remove(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads every student. Changes committed meanwhile stay marked and are re-read by the
+     * next refresh, which cannot run until this finishes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.recruiter-search.rebuild-interval-ms:3600000}",
+               initialDelayString = "${app.recruiter-search.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        Documents rebuilt = new Documents();
+        try {
+            load(null).values().forEach(rebuilt::put);
+        } catch (Exception e) {
+            log.warn("Could not reload the recruiter index, keeping {} students: {}",
+                    documents.ordinalsById.size(), e.getMessage());
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            documents = rebuilt;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Recruiter index loaded with {} students in {}ms",
+                rebuilt.ordinalsById.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * @param ids The students to load, or null for all of them
+     */
+    private Map<Long, Document> load(Collection<Long> ids) {
+        Map<Long, Document> loaded = new LinkedHashMap<>();
+        for (Object[] row : ids == null ? userProfileRepository.findRecruiterSearchRows()
+                                        : userProfileRepository.findRecruiterSearchRows(ids)) {
+            Document document = new Document(row);
+            loaded.put(document.id, document);
+        }
+        for (Object[] row : ids == null ? skillRepository.findRecruiterSearchRows()
+                                        : skillRepository.findRecruiterSearchRows(ids)) {
+            Document document = loaded.get((Long) row[0]);
+            if (document != null) {
+                document.addSkill((String) row[1], (Skill.ProficiencyLevel) row[2], Boolean.TRUE.equals(row[3]));
+            }
+        }
+        for (Object[] row : ids == null ? projectRepository.findRecruiterSearchRows()
+                                        : projectRepository.findRecruiterSearchRows(ids)) {
+            Document document = loaded.get((Long) row[0]);
+            if (document != null) {
+                document.addProject(Boolean.TRUE.equals(row[1]), (String) row[2]);
+            }
+        }
+        return loaded;
+    }
+
+    private static List<String> terms(Collection<String> skills) {
+        List<String> terms = new ArrayList<>();
+        if (skills != null) {
+            for (String skill : skills) {
+                String term = normalize(skill);
+                if (!term.isEmpty()) {
+                    terms.add(term);
+                }
+            }
+        }
+        return terms;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+    }
+
+    /**
+     * The whole name plus its words, so "spring" finds "Spring Boot". Symbols that are part of
+     * skill names (C++, C#, .NET, Node.js) are kept.
+     */
+    private static List<String> skillTerms(String skill) {
+        String name = normalize(skill);
+        List<String> terms = new ArrayList<>();
+        if (name.isEmpty()) {
+            return terms;
+        }
+        terms.add(name);
+        for (String word : name.split("[\\s,/()\\-]+")) {
+            if (!word.isEmpty() && !word.equals(name)) {
+                terms.add(word);
+            }
+        }
+        return terms;
+    }
+
+    private static int hundredths(BigDecimal cgpa, RoundingMode rounding) {
+        return cgpa == null ? NO_VALUE : cgpa.setScale(2, rounding).unscaledValue().intValueExact();
+    }
+
+    /** One student as searched: their profile's numbers, skills and project technologies */
+    private static final class Document {
+        private final Long id;
+        private final String appwriteUserId;
+        private final String fullName;
+        private final String department;
+        private final Integer currentYear;
+        private final BigDecimal currentCgpa;
+        private final int backlogs;
+        /** Skill terms with the best weight among the skills they came from */
+        private final Map<String, Float> skills = new HashMap<>();
+        /** Skill terms with the listed name they came from, for showing what matched */
+        private final Map<String, String> skillNames = new HashMap<>();
+        private final Set<String> technologies = new HashSet<>();
+        private int projects;
+        private boolean featuredProject;
+
+        private Document(Object[] row) {
+            this.id = (Long) row[0];
+            this.appwriteUserId = (String) row[1];
+            this.fullName = row[2] + " " + row[3];
+            this.department = (String) row[4];
+            this.currentYear = (Integer) row[5];
+            this.currentCgpa = (BigDecimal) row[6];
+            this.backlogs = row[7] != null ? (Integer) row[7] : 0;
+        }
+
+        private void addSkill(String name, Skill.ProficiencyLevel level, boolean verified) {
+            float weight = proficiencyWeight(level) + (verified ? 0.25f : 0f);
+            for (String term : skillTerms(name)) {
+                if (weight > skills.getOrDefault(term, -1f)) {
+                    skills.put(term, weight);
+                    skillNames.put(term, name.trim());
+                }
+            }
+        }
+
+        private void addProject(boolean featured, String technologiesUsed) {
+            projects++;
+            featuredProject |= featured;
+            if (technologiesUsed != null) {
+                // Stored as a JSON array of names; the quotes and brackets are all that need stripping
+                for (String technology : technologiesUsed.replaceAll("[\\[\\]\"]", "").split(",")) {
+                    technologies.addAll(skillTerms(technology));
+                }
+            }
+        }
+
+        private static float proficiencyWeight(Skill.ProficiencyLevel level) {
+            if (level == null) {
+                return 0.25f;
+            }
+            return switch (level) {
+                case BEGINNER -> 0.25f;
+                case INTERMEDIATE -> 0.5f;
+                case ADVANCED -> 0.75f;
+                case EXPERT -> 1f;
+            };
+        }
+    }
+
+    /**
+     * Documents by ordinal with per-term bitsets and numeric columns. A changed student keeps
+     * their ordinal; a deleted one's is cleared and freed on the next reload. Not thread-safe;
+     * guarded by the outer lock.
+     */
+    private static final class Documents {
+        private final Map<Long, Integer> ordinalsById = new HashMap<>();
+        private final Map<String, BitSet> bySkill = new HashMap<>();
+        private final Map<String, BitSet> byDepartment = new HashMap<>();
+        private final Map<Integer, BitSet> byYear = new HashMap<>();
+        private final BitSet live = new BitSet();
+        private final BitSet featured = new BitSet();
+        private int[] cgpa = new int[1024];
+        private int[] backlogs = new int[1024];
+        private int[] projects = new int[1024];
+        private Document[] docs = new Document[1024];
+        private int size;
+
+        private void put(Document document) {
+            Integer ordinal = ordinalsById.get(document.id);
+            if (ordinal == null) {
+                ordinal = size++;
+                if (ordinal == docs.length) {
+                    cgpa = Arrays.copyOf(cgpa, ordinal * 2);
+                    backlogs = Arrays.copyOf(backlogs, ordinal * 2);
+                    projects = Arrays.copyOf(projects, ordinal * 2);
+                    docs = Arrays.copyOf(docs, ordinal * 2);
+                }
+                ordinalsById.put(document.id, ordinal);
+            } else {
+                clear(ordinal);
+            }
+            docs[ordinal] = document;
+            cgpa[ordinal] = hundredths(document.currentCgpa, RoundingMode.DOWN);
+            backlogs[ordinal] = document.backlogs;
+            projects[ordinal] = document.projects;
+            featured.set(ordinal, document.featuredProject);
+            for (String term : document.skills.keySet()) {
+                bySkill.computeIfAbsent(term, key -> new BitSet()).set(ordinal);
+            }
+            byDepartment.computeIfAbsent(normalize(document.department), key -> new BitSet()).set(ordinal);
+            if (document.currentYear != null) {
+                byYear.computeIfAbsent(document.currentYear, key -> new BitSet()).set(ordinal);
+            }
+            live.set(ordinal);
+        }
+
+        private void remove(Long id) {
+            Integer ordinal = ordinalsById.remove(id);
+            if (ordinal != null) {
+                clear(ordinal);
+                docs[ordinal] = null;
+            }
+        }
+
+        private void clear(int ordinal) {
+            Document previous = docs[ordinal];
+            live.clear(ordinal);
+            featured.clear(ordinal);
+            for (String term : previous.skills.keySet()) {
+                BitSet members = bySkill.get(term);
+                members.clear(ordinal);
+                if (members.isEmpty()) {
+                    bySkill.remove(term);
+                }
+            }
+            byDepartment.get(normalize(previous.department)).clear(ordinal);
+            if (previous.currentYear != null) {
+                byYear.get(previous.currentYear).clear(ordinal);
+            }
+        }
+
+        private BitSet matching(RecruiterQuery query) {
+            BitSet matches = (BitSet) live.clone();
+            for (String term : terms(query.getAllSkills())) {
+                BitSet members = bySkill.get(term);
+                if (members == null) {
+                    return new BitSet();
+                }
+                matches.and(members);
+            }
+            List<String> anySkills = terms(query.getAnySkills());
+            if (!anySkills.isEmpty()) {
+                matches.and(union(bySkill, anySkills));
+            }
+            for (String term : terms(query.getExcludedSkills())) {
+                BitSet members = bySkill.get(term);
+                if (members != null) {
+                    matches.andNot(members);
+                }
+            }
+            if (query.getDepartments() != null && !query.getDepartments().isEmpty()) {
+                matches.and(union(byDepartment, terms(query.getDepartments())));
+            }
+            if (query.getYears() != null && !query.getYears().isEmpty()) {
+                matches.and(union(byYear, query.getYears()));
+            }
+            if (Boolean.TRUE.equals(query.getFeaturedProject())) {
+                matches.and(featured);
+            }
+
+            int minCgpa = hundredths(query.getMinCgpa(), RoundingMode.CEILING);
+            int maxCgpa = hundredths(query.getMaxCgpa(), RoundingMode.FLOOR);
+            int maxBacklogs = query.getMaxBacklogs() != null ? query.getMaxBacklogs() : NO_VALUE;
+            int minProjects = query.getMinProjects() != null ? query.getMinProjects() : NO_VALUE;
+            if (minCgpa != NO_VALUE || maxCgpa != NO_VALUE || maxBacklogs != NO_VALUE || minProjects != NO_VALUE) {
+                for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                    // A student without a CGPA meets neither bound
+                    if ((minCgpa != NO_VALUE && cgpa[ordinal] < minCgpa)
+                            || (maxCgpa != NO_VALUE && (cgpa[ordinal] == NO_VALUE || cgpa[ordinal] > maxCgpa))
+                            || (maxBacklogs != NO_VALUE && backlogs[ordinal] > maxBacklogs)
+                            || (minProjects != NO_VALUE && projects[ordinal] < minProjects)) {
+                        matches.clear(ordinal);
+                    }
+                }
+            }
+            return matches;
+        }
+
+        private static <K> BitSet union(Map<K, BitSet> index, Collection<K> keys) {
+            BitSet union = new BitSet();
+            for (K key : keys) {
+                BitSet members = index.get(key);
+                if (members != null) {
+                    union.or(members);
+                }
+            }
+            return union;
+        }
+
+        /**
+         * Searched skills count by proficiency (more if verified or also used in a project),
+         * then CGPA and projects break ties between similar skill sets
+         */
+        private float score(int ordinal, Set<String> wantedSkills) {
+            Document document = docs[ordinal];
+            float score = 0f;
+            for (String term : wantedSkills) {
+                Float weight = document.skills.get(term);
+                if (weight != null) {
+                    score += weight;
+                }
+                if (document.technologies.contains(term)) {
+                    score += 0.5f;
+                }
+            }
+            if (cgpa[ordinal] > 0) {
+                score += cgpa[ordinal] / 1000f;
+            }
+            score += Math.min(projects[ordinal], 5) * 0.05f;
+            if (featured.get(ordinal)) {
+                score += 0.25f;
+            }
+            return score;
+        }
+
+        private RecruiterHit toHit(int ordinal, float score, Set<String> wantedSkills) {
+            Document document = docs[ordinal];
+            Set<String> matched = new LinkedHashSet<>();
+            for (String term : wantedSkills) {
+                String name = document.skillNames.get(term);
+                if (name != null) {
+                    matched.add(name);
+                }
+            }
+            return RecruiterHit.builder()
+                    .profileId(document.id)
+                    .appwriteUserId(document.appwriteUserId)
+                    .fullName(document.fullName)
+                    .department(document.department)
+                    .currentYear(document.currentYear)
+                    .currentCgpa(document.currentCgpa)
+                    .backlogs(document.backlogs)
+                    .matchedSkills(new ArrayList<>(matched))
+                    .projects(document.projects)
+                    .featuredProject(document.featuredProject)
+                    .score(score)
+                    .build();
+        }
+    }
+
+    /** A committed change to one student's profile, skills or projects */
+    record StudentChanged(Long userProfileId) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.placement.expo.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.placement.expo.model.ResumeFileInfo;
+import com.placement.expo.model.ResumeObject;
+import com.placement.expo.model.StoredResume;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Optional;
+
+/**
+ * In-memory index of stored resume metadata (size, modification time, content hash).
+ * Stored names contain a UUID and files are never rewritten, so entries stay valid until
+ * the file is deleted. The hash is also kept in a {@code .sha256} sidecar next to the
+ * resume in {@link ResumeStorage}, so it survives restarts and is shared between nodes.
+ */
+@Component
+@Slf4j
+public class ResumeFileIndex {
+
+    private static final String HASH_SUFFIX = ".sha256";
+
+    private final ResumeStorage resumeStorage;
+    private final Cache<String, ResumeFileInfo> entries;
+
+    public ResumeFileIndex(ResumeStorage resumeStorage,
+                           @Value("${app.upload.resume-index.max-entries:50000}") long maxEntries) {
+        this.resumeStorage = resumeStorage;
+        this.entries = Caffeine.newBuilder().maximumSize(maxEntries).build();
+    }
+
+    /**
+     * Records a freshly written resume and persists its hash sidecar
+     *
+     * @param lastModified The modification time reported by the storage
+     */
+    public void register(StoredResume stored, long lastModified) throws IOException {
+        resumeStorage.put(stored.getFileName() + HASH_SUFFIX, stored.getContentHash().getBytes(StandardCharsets.US_ASCII));
+        entries.put(stored.getFileName(), ResumeFileInfo.builder()
+                .fileName(stored.getFileName())
+                .size(stored.getSize())
+                .lastModified(lastModified)
+                .contentHash(stored.getContentHash())
+                .build());
+    }
+
+    /**
+     * @param fileName A stored resume file name (no directories)
+     * @return The resume's metadata, or empty if no such resume exists
+     */
+    public Optional<ResumeFileInfo> lookup(String fileName) throws IOException {
+        ResumeFileInfo cached = entries.getIfPresent(fileName);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<ResumeObject> object = resumeStorage.stat(fileName);
+        if (object.isEmpty()) {
+            return Optional.empty();
+        }
+        ResumeFileInfo info = ResumeFileInfo.builder()
+                .fileName(fileName)
+                .size(object.get().getSize())
+                .lastModified(object.get().getLastModified())
+                .contentHash(readOrComputeHash(fileName))
+                .build();
+        entries.put(fileName, info);
+        return Optional.of(info);
+    }
+
+    /**
+     * Deletes a resume together with its sidecar
+     *
+     * @return true if the resume existed
+     */
+    public boolean delete(String fileName) throws IOException {
+        entries.invalidate(fileName);
+        resumeStorage.delete(fileName + HASH_SUFFIX);
+        return resumeStorage.delete(fileName);
+    }
+
+    private String readOrComputeHash(String fileName) throws IOException {
+        try (InputStream in = resumeStorage.open(fileName + HASH_SUFFIX)) {
+            String hash = new String(in.readAllBytes(), StandardCharsets.US_ASCII).trim();
+            if (hash.length() == 64) {
+                return hash;
+            }
+        } catch (NoSuchFileException e) {
+            // no sidecar yet
+        }
+
+        // Resumes uploaded before hashes were recorded: hash once and keep the sidecar
+        MessageDigest digest = AtsResultCache.newDigest();
+        try (InputStream in = new DigestInputStream(resumeStorage.open(fileName), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        String hash = AtsResultCache.toHex(digest.digest());
+        try {
+            resumeStorage.put(fileName + HASH_SUFFIX, hash.getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            log.warn("Could not write hash sidecar for {}: {}", fileName, e.getMessage());
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,85 @@
+package com.placement.expo.service;
+
+import com.placement.expo.model.ResumeObject;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Where resume files live. Keys are stored file names without directories. The local
+ * implementation keeps them under {@code app.upload.dir}; the S3 one lets every node
+ * behind the load balancer see the same resumes. Selected with {@code app.storage.type}.
+ */
+public interface ResumeStorage {
+
+    /**
+     * Starts writing a new object. Nothing is visible under the key until
+     * {@link Upload#commit()} succeeds.
+     *
+     * @param key The stored file name
+     * @return The upload to write the bytes to
+     */
+    Upload create(String key) throws IOException;
+
+    /**
+     * Stores a small object, such as a hash sidecar, in one request
+     */
+    void put(String key, byte[] content) throws IOException;
+
+    /**
+     * @return The object's bytes
+     * @throws NoSuchFileException if there is no such object
+     */
+    InputStream open(String key) throws IOException;
+
+    /**
+     * @param start The first byte to read
+     * @param end The byte after the last one to read
+     * @return The requested slice of the object
+     * @throws NoSuchFileException if there is no such object
+     */
+    InputStream open(String key, long start, long end) throws IOException;
+
+    /**
+     * @return The object's size and modification time, or empty if there is no such object
+     */
+    Optional<ResumeObject> stat(String key) throws IOException;
+
+    /**
+     * @return Every stored object
+     */
+    List<ResumeObject> list() throws IOException;
+
+    /**
+     * @return true if the object existed
+     */
+    boolean delete(String key) throws IOException;
+
+    /**
+     * @return The object's file if it is on this node's disk, which allows sendfile
+     */
+    Optional<Path> localPath(String key);
+
+    /**
+     * An object being written. Closing an upload that was not committed aborts it.
+     */
+    interface Upload extends WritableByteChannel {
+
+        /**
+         * Makes the object visible under its key
+         *
+         * @return The stored object
+         */
+        ResumeObject commit() throws IOException;
+
+        /**
+         * Discards everything written so far
+         */
+        void abort();
+    }
+}
@@ -0,0 +1,491 @@
+package com.placement.expo.service;
+
+import com.placement.expo.model.ResumeDocument;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Streams text out of PDF, DOCX and legacy DOC resumes without buffering the file.
+ * Every document is read through fixed-size buffers and a bounded input window,
+ * so memory use per extraction is constant regardless of the upload size.
+ */
+@Component
+@Slf4j
+public class ResumeTextExtractor {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+    private static final int PDF_DICTIONARY_WINDOW = 1024;
+    private static final byte[] PDF_STREAM = "stream".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PDF_ENDSTREAM = "endstream".getBytes(StandardCharsets.US_ASCII);
+    private static final int MIN_DOC_RUN = 4;
+
+    private final XMLInputFactory xmlInputFactory;
+    private final SkillDictionary skillDictionary;
+
+    @Value("${app.ats.max-resume-bytes:10485760}")
+    private long maxResumeBytes;
+
+    @Value("${app.ats.max-inflated-bytes:33554432}")
+    private long maxInflatedBytes;
+
+    @Value("${app.ats.max-characters:200000}")
+    private int maxCharacters;
+
+    @Value("${app.ats.max-distinct-terms:5000}")
+    private int maxDistinctTerms;
+
+    public ResumeTextExtractor(SkillDictionary skillDictionary) {
+        this.skillDictionary = skillDictionary;
+        this.xmlInputFactory = XMLInputFactory.newFactory();
+        this.xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        this.xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, false);
+    }
+
+    /**
+     * Extracts and tokenizes a resume. The stream is read once and is not closed.
+     *
+     * @param input The raw resume bytes
+     * @param fileName The original file name, used only as a format hint
+     * @return The tokenized document
+     */
+    public ResumeDocument extract(InputStream input, String fileName) throws IOException {
+        BoundedInputStream bounded = new BoundedInputStream(input, maxResumeBytes);
+        BufferedInputStream in = new BufferedInputStream(bounded, BUFFER_SIZE);
+        ResumeTokenizer tokenizer = new ResumeTokenizer(maxCharacters, maxDistinctTerms, skillDictionary.matcher());
+
+        ResumeDocument.Format format = sniffFormat(in, fileName);
+        switch (format) {
+            case PDF -> extractPdf(in, tokenizer);
+            case DOCX -> extractDocx(in, tokenizer);
+            case TEXT -> extractText(in, tokenizer);
+            default -> extractPrintableRuns(in, tokenizer);
+        }
+
+        ResumeDocument document = tokenizer.finish(format, bounded.getCount(), bounded.isLimitReached());
+        log.debug("Extracted {} resume: {} bytes, {} words, {} distinct terms, sections={}, skills={}",
+                format, document.getBytesRead(), document.getWordCount(),
+                document.getTermFrequencies().size(), document.getSections(), document.getSkills());
+        return document;
+    }
+
+    /**
+     * Detects the document format from its magic bytes, falling back to the file extension.
+     */
+    ResumeDocument.Format sniffFormat(BufferedInputStream in, String fileName) throws IOException {
+        byte[] header = new byte[8];
+        in.mark(header.length);
+        int read = in.readNBytes(header, 0, header.length);
+        in.reset();
+        return detectFormat(header, read, fileName);
+    }
+
+    /**
+     * Detects the document format from the first bytes of a file, falling back to the file extension
+     *
+     * @param header Up to the first 8 bytes of the file
+     * @param read The number of valid bytes in the header
+     * @param fileName The original file name, or null
+     */
+    static ResumeDocument.Format detectFormat(byte[] header, int read, String fileName) {
+        if (read >= 4 && header[0] == '%' && header[1] == 'P' && header[2] == 'D' && header[3] == 'F') {
+            return ResumeDocument.Format.PDF;
+        }
+        if (read >= 4 && header[0] == 'P' && header[1] == 'K' && header[2] == 3 && header[3] == 4) {
+            return ResumeDocument.Format.DOCX;
+        }
+        if (read >= 8 && (header[0] & 0xFF) == 0xD0 && (header[1] & 0xFF) == 0xCF
+                && (header[2] & 0xFF) == 0x11 && (header[3] & 0xFF) == 0xE0) {
+            return ResumeDocument.Format.DOC;
+        }
+        String name = fileName != null ? fileName.toLowerCase() : "";
+        if (name.endsWith(".txt")) {
+            return ResumeDocument.Format.TEXT;
+        }
+        return ResumeDocument.Format.UNKNOWN;
+    }
+
+    // ---------------------------------------------------------------- PDF
+
+    /**
+     * Scans the PDF byte stream for content streams. Flate-compressed streams are
+     * inflated on the fly and fed to {@link PdfContentParser}; images, fonts and
+     * cross-reference streams are skipped without being decoded.
+     */
+    private void extractPdf(BufferedInputStream buffered, ResumeTokenizer tokenizer) throws IOException {
+        PushbackInputStream in = new PushbackInputStream(buffered, BUFFER_SIZE);
+        byte[] window = new byte[PDF_DICTIONARY_WINDOW];
+        int windowPos = 0;
+        int windowFill = 0;
+        int matched = 0;
+        int previous = -1;
+        long inflatedTotal = 0;
+
+        int b;
+        while ((b = in.read()) != -1 && !tokenizer.isFull()) {
+            window[windowPos] = (byte) b;
+            windowPos = (windowPos + 1) % window.length;
+            windowFill = Math.min(windowFill + 1, window.length);
+
+            if (b == PDF_STREAM[matched]) {
+                if (matched == 0 && previous == 'd') {
+                    // part of "endstream"
+                    matched = 0;
+                } else if (++matched == PDF_STREAM.length) {
+                    matched = 0;
+                    String dictionary = lastDictionary(window, windowPos, windowFill);
+                    skipStreamEol(in);
+                    inflatedTotal += handlePdfStream(in, dictionary, tokenizer, maxInflatedBytes - inflatedTotal);
+                    if (inflatedTotal >= maxInflatedBytes) {
+                        log.warn("PDF inflation budget exhausted after {} bytes, stopping extraction", inflatedTotal);
+                        return;
+                    }
+                    windowFill = 0;
+                }
+            } else {
+                matched = b == PDF_STREAM[0] && previous != 'd' ? 1 : 0;
+            }
+            previous = b;
+        }
+    }
+
+    private long handlePdfStream(PushbackInputStream in, String dictionary, ResumeTokenizer tokenizer,
+                                 long inflateBudget) throws IOException {
+        String dict = dictionary.replaceAll("\\s+", "");
+        boolean nonText = dict.contains("/Subtype/Image") || dict.contains("/FontFile")
+                || dict.contains("/Length1") || dict.contains("/Type/XRef")
+                || dict.contains("/Type/ObjStm") || dict.contains("/Type/Metadata")
+                || dict.contains("/Type/EmbeddedFile") || dict.contains("/Subtype/Type1C")
+                || dict.contains("/Subtype/CIDFontType0C") || dict.contains("/Subtype/OpenType");
+
+        if (nonText) {
+            skipUntil(in, PDF_ENDSTREAM);
+            return 0;
+        }
+        if (dict.contains("/Filter/FlateDecode") || dict.contains("/Filter[/FlateDecode]")) {
+            return inflate(in, new PdfContentParser(tokenizer), inflateBudget);
+        }
+        if (!dict.contains("/Filter")) {
+            PdfContentParser parser = new PdfContentParser(tokenizer);
+            copyUntil(in, PDF_ENDSTREAM, parser);
+            parser.finish();
+            return 0;
+        }
+        // Other filters (DCT, LZW, ASCII85...) are not used for resume text in practice
+        skipUntil(in, PDF_ENDSTREAM);
+        return 0;
+    }
+
+    private long inflate(PushbackInputStream in, PdfContentParser parser, long budget) throws IOException {
+        Inflater inflater = new Inflater();
+        byte[] input = new byte[BUFFER_SIZE];
+        byte[] output = new byte[BUFFER_SIZE];
+        long produced = 0;
+        int chunkLength = 0;
+        try {
+            while (!inflater.finished() && produced < budget) {
+                if (inflater.needsInput()) {
+                    chunkLength = in.read(input);
+                    if (chunkLength == -1) {
+                        break;
+                    }
+                    inflater.setInput(input, 0, chunkLength);
+                }
+                int n = inflater.inflate(output);
+                if (n > 0) {
+                    produced += n;
+                    parser.feed(output, 0, n);
+                } else if (inflater.needsDictionary()) {
+                    break;
+                }
+            }
+            int remaining = inflater.getRemaining();
+            if (remaining > 0 && chunkLength > 0) {
+                // Hand back the bytes after the deflate stream so the scanner sees "endstream"
+                in.unread(input, chunkLength - remaining, remaining);
+            }
+        } catch (DataFormatException e) {
+            log.debug("Skipping corrupt PDF content stream: {}", e.getMessage());
+            skipUntil(in, PDF_ENDSTREAM);
+        } finally {
+            inflater.end();
+            parser.finish();
+        }
+        return produced;
+    }
+
+    private static String lastDictionary(byte[] window, int windowPos, int windowFill) {
+        byte[] ordered = new byte[windowFill];
+        int start = (windowPos - windowFill + window.length) % window.length;
+        for (int i = 0; i < windowFill; i++) {
+            ordered[i] = window[(start + i) % window.length];
+        }
+        String text = new String(ordered, StandardCharsets.ISO_8859_1);
+        int obj = text.lastIndexOf(" obj");
+        return obj >= 0 ? text.substring(obj) : text;
+    }
+
+    private static void skipStreamEol(PushbackInputStream in) throws IOException {
+        int b = in.read();
+        if (b == '\r') {
+            int next = in.read();
+            if (next != '\n' && next != -1) {
+                in.unread(next);
+            }
+        } else if (b != '\n' && b != -1) {
+            in.unread(b);
+        }
+    }
+
+    private static void skipUntil(InputStream in, byte[] marker) throws IOException {
+        copyUntil(in, marker, null);
+    }
+
+    private static void copyUntil(InputStream in, byte[] marker, PdfContentParser parser) throws IOException {
+        byte[] single = new byte[1];
+        int matched = 0;
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == (marker[matched] & 0xFF)) {
+                if (++matched == marker.length) {
+                    return;
+                }
+                continue;
+            }
+            if (parser != null && matched > 0) {
+                parser.feed(marker, 0, matched);
+            }
+            matched = b == (marker[0] & 0xFF) ? 1 : 0;
+            if (parser != null && matched == 0) {
+                single[0] = (byte) b;
+                parser.feed(single, 0, 1);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- DOCX
+
+    /**
+     * DOCX is a zip container; only word/document.xml is parsed, with a pull parser
+     * so the XML is never materialised.
+     */
+    private void extractDocx(InputStream in, ResumeTokenizer tokenizer) throws IOException {
+        ZipInputStream zip = new ZipInputStream(in);
+        ZipEntry entry;
+        while ((entry = zip.getNextEntry()) != null) {
+            if ("word/document.xml".equals(entry.getName())) {
+                parseWordXml(new NonClosingInputStream(zip), tokenizer);
+                return;
+            }
+        }
+        log.debug("DOCX archive has no word/document.xml entry");
+    }
+
+    private void parseWordXml(InputStream xml, ResumeTokenizer tokenizer) throws IOException {
+        XMLStreamReader reader = null;
+        try {
+            reader = xmlInputFactory.createXMLStreamReader(xml, StandardCharsets.UTF_8.name());
+            boolean inText = false;
+            while (reader.hasNext() && !tokenizer.isFull()) {
+                int event = reader.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("t".equals(name)) {
+                        inText = true;
+                    } else if ("tab".equals(name)) {
+                        tokenizer.accept(' ');
+                    } else if ("br".equals(name) || "cr".equals(name)) {
+                        tokenizer.endLine();
+                    }
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = reader.getLocalName();
+                    if ("t".equals(name)) {
+                        inText = false;
+                    } else if ("p".equals(name)) {
+                        tokenizer.endLine();
+                    }
+                } else if (inText && (event == XMLStreamConstants.CHARACTERS
+                        || event == XMLStreamConstants.CDATA)) {
+                    char[] chars = reader.getTextCharacters();
+                    int start = reader.getTextStart();
+                    int end = start + reader.getTextLength();
+                    for (int i = start; i < end; i++) {
+                        tokenizer.accept(chars[i]);
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed DOCX document: " + e.getMessage(), e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException ignored) {
+                    // nothing to release beyond the zip stream
+                }
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- DOC / TEXT
+
+    /**
+     * Legacy Word files store text as 8-bit or UTF-16LE runs inside the OLE container;
+     * collecting printable runs recovers the body text without an OLE parser.
+     */
+    private void extractPrintableRuns(InputStream in, ResumeTokenizer tokenizer) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        char[] run = new char[MIN_DOC_RUN];
+        int runLength = 0;
+        boolean previousZero = false;
+
+        int n;
+        while ((n = in.read(buffer)) != -1 && !tokenizer.isFull()) {
+            for (int i = 0; i < n; i++) {
+                int b = buffer[i] & 0xFF;
+                if (isPrintable(b)) {
+                    runLength = appendRun(run, runLength, (char) b, tokenizer);
+                    previousZero = false;
+                } else if (b == 0 && runLength > 0 && !previousZero) {
+                    // high byte of a UTF-16LE character, the run continues
+                    previousZero = true;
+                } else {
+                    runLength = endRun(run, runLength, tokenizer);
+                    previousZero = false;
+                }
+            }
+        }
+        endRun(run, runLength, tokenizer);
+    }
+
+    private void extractText(InputStream in, ResumeTokenizer tokenizer) throws IOException {
+        java.io.Reader reader = new java.io.InputStreamReader(in, StandardCharsets.UTF_8);
+        char[] buffer = new char[BUFFER_SIZE / 2];
+        int n;
+        while ((n = reader.read(buffer)) != -1 && !tokenizer.isFull()) {
+            for (int i = 0; i < n; i++) {
+                tokenizer.accept(buffer[i]);
+            }
+        }
+    }
+
+    /**
+     * Short runs are held back until they prove to be text; longer runs stream straight through.
+     */
+    private static int appendRun(char[] run, int runLength, char c, ResumeTokenizer tokenizer) {
+        if (runLength < run.length) {
+            run[runLength] = c;
+            if (runLength + 1 == run.length) {
+                for (char held : run) {
+                    tokenizer.accept(held);
+                }
+            }
+            return runLength + 1;
+        }
+        tokenizer.accept(c);
+        return runLength + 1;
+    }
+
+    private static int endRun(char[] run, int runLength, ResumeTokenizer tokenizer) {
+        if (runLength >= run.length) {
+            tokenizer.accept(' ');
+        }
+        return 0;
+    }
+
+    private static boolean isPrintable(int b) {
+        return (b >= 0x20 && b < 0x7F) || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    // ---------------------------------------------------------------- streams
+
+    /**
+     * Caps the number of bytes read from an upload; reading stops silently at the limit
+     * and the document is flagged as truncated.
+     */
+    private static final class BoundedInputStream extends FilterInputStream {
+        private final long limit;
+        private long count;
+
+        BoundedInputStream(InputStream in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        long getCount() {
+            return count;
+        }
+
+        boolean isLimitReached() {
+            return count >= limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (count >= limit) {
+                return -1;
+            }
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (count >= limit) {
+                return -1;
+            }
+            int n = super.read(b, off, (int) Math.min(len, limit - count));
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            long skipped = super.skip(Math.min(n, limit - count));
+            count += skipped;
+            return skipped;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        @Override
+        public void close() {
+            // the caller owns the underlying stream
+        }
+    }
+
+    private static final class NonClosingInputStream extends FilterInputStream {
+        NonClosingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public void close() {
+            // keep the enclosing zip stream open
+        }
+    }
+}
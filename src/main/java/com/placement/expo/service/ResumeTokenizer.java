@@ -0,0 +1,293 @@
+package com.placement.expo.service;
+
+import com.placement.expo.model.ResumeDocument;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Incremental tokenizer that turns a character stream into a {@link ResumeDocument}.
+ * Memory is bounded by the term table cap and the fixed token/line buffers,
+ * so it can be fed documents of any length.
+ */
+public class ResumeTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 64;
+    private static final int MAX_HEADING_LENGTH = 48;
+
+    private static final Map<String, String> SECTION_HEADINGS = new HashMap<>();
+    private static final Set<String> ACTION_VERBS = Set.of(
+        "achieved", "analyzed", "architected", "automated", "built", "collaborated",
+        "coordinated", "created", "delivered", "deployed", "designed", "developed",
+        "engineered", "implemented", "improved", "increased", "launched", "led",
+        "managed", "mentored", "optimized", "organized", "reduced", "spearheaded",
+        "streamlined", "resolved", "migrated", "integrated", "published", "won"
+    );
+
+    static {
+        SECTION_HEADINGS.put("education", "education");
+        SECTION_HEADINGS.put("academic", "education");
+        SECTION_HEADINGS.put("academics", "education");
+        SECTION_HEADINGS.put("qualification", "education");
+        SECTION_HEADINGS.put("qualifications", "education");
+        SECTION_HEADINGS.put("experience", "experience");
+        SECTION_HEADINGS.put("employment", "experience");
+        SECTION_HEADINGS.put("internship", "experience");
+        SECTION_HEADINGS.put("internships", "experience");
+        SECTION_HEADINGS.put("skills", "skills");
+        SECTION_HEADINGS.put("skill", "skills");
+        SECTION_HEADINGS.put("technologies", "skills");
+        SECTION_HEADINGS.put("projects", "projects");
+        SECTION_HEADINGS.put("project", "projects");
+        SECTION_HEADINGS.put("certifications", "certifications");
+        SECTION_HEADINGS.put("certification", "certifications");
+        SECTION_HEADINGS.put("certificates", "certifications");
+        SECTION_HEADINGS.put("achievements", "achievements");
+        SECTION_HEADINGS.put("awards", "achievements");
+        SECTION_HEADINGS.put("summary", "summary");
+        SECTION_HEADINGS.put("objective", "summary");
+        SECTION_HEADINGS.put("profile", "summary");
+    }
+
+    private final int maxCharacters;
+    private final int maxDistinctTerms;
+    private final KeywordMatcher skillMatcher;
+    private final KeywordMatcher.Cursor skillCursor;
+
+    private final StringBuilder token = new StringBuilder(MAX_TOKEN_LENGTH);
+    private final StringBuilder line = new StringBuilder(MAX_HEADING_LENGTH);
+    private final Map<String, Integer> termFrequencies = new HashMap<>();
+    private final Set<String> sections = new LinkedHashSet<>();
+
+    private boolean lineOverflow;
+    private boolean lineHasContent;
+    private int characterCount;
+    private int wordCount;
+    private int lineCount;
+    private int bulletCount;
+    private int emailCount;
+    private int phoneCount;
+    private int urlCount;
+    private int numericTokenCount;
+    private int actionVerbCount;
+    private boolean truncated;
+
+    public ResumeTokenizer(int maxCharacters, int maxDistinctTerms) {
+        this(maxCharacters, maxDistinctTerms, null);
+    }
+
+    /**
+     * @param skillMatcher Recognises skills in the same pass as tokenization; may be null
+     */
+    public ResumeTokenizer(int maxCharacters, int maxDistinctTerms, KeywordMatcher skillMatcher) {
+        this.maxCharacters = maxCharacters;
+        this.maxDistinctTerms = maxDistinctTerms;
+        this.skillMatcher = skillMatcher;
+        this.skillCursor = skillMatcher != null ? skillMatcher.newCursor() : null;
+    }
+
+    /**
+     * @return true once the character budget is exhausted; callers should stop feeding input
+     */
+    public boolean isFull() {
+        return truncated;
+    }
+
+    public void accept(char c) {
+        if (truncated) {
+            return;
+        }
+        if (c == '\n' || c == '\r' || c == '\f') {
+            endLine();
+            return;
+        }
+        if (Character.isISOControl(c) && c != '\t') {
+            return;
+        }
+        if (++characterCount > maxCharacters) {
+            truncated = true;
+            endLine();
+            return;
+        }
+        if (skillCursor != null) {
+            skillCursor.feed(c);
+        }
+
+        if (!lineHasContent && isBullet(c)) {
+            bulletCount++;
+            lineHasContent = true;
+            return;
+        }
+
+        if (Character.isWhitespace(c) || Character.isSpaceChar(c)) {
+            endToken();
+            appendToLine(' ');
+            return;
+        }
+
+        lineHasContent = true;
+        appendToLine(c);
+        if (isTokenChar(c)) {
+            if (token.length() < MAX_TOKEN_LENGTH) {
+                token.append(Character.toLowerCase(c));
+            }
+        } else {
+            endToken();
+        }
+    }
+
+    public void accept(CharSequence text) {
+        for (int i = 0; i < text.length() && !truncated; i++) {
+            accept(text.charAt(i));
+        }
+    }
+
+    public void endLine() {
+        if (skillCursor != null) {
+            skillCursor.feed('\n');
+        }
+        endToken();
+        if (lineHasContent) {
+            lineCount++;
+            detectHeading();
+        }
+        line.setLength(0);
+        lineOverflow = false;
+        lineHasContent = false;
+    }
+
+    public ResumeDocument finish(ResumeDocument.Format format, long bytesRead, boolean inputTruncated) {
+        endLine();
+        Set<String> skills = new TreeSet<>();
+        if (skillCursor != null) {
+            BitSet matched = skillCursor.finish();
+            skills.addAll(skillMatcher.labelsOf(matched));
+        }
+        return ResumeDocument.builder()
+                .format(format)
+                .bytesRead(bytesRead)
+                .characterCount(Math.min(characterCount, maxCharacters))
+                .wordCount(wordCount)
+                .lineCount(lineCount)
+                .bulletCount(bulletCount)
+                .emailCount(emailCount)
+                .phoneCount(phoneCount)
+                .urlCount(urlCount)
+                .numericTokenCount(numericTokenCount)
+                .actionVerbCount(actionVerbCount)
+                .sections(sections)
+                .termFrequencies(termFrequencies)
+                .skills(skills)
+                .truncated(truncated || inputTruncated)
+                .build();
+    }
+
+    private void endToken() {
+        if (token.length() == 0) {
+            return;
+        }
+        String raw = stripTrailingPunctuation(token);
+        token.setLength(0);
+        if (raw.isEmpty()) {
+            return;
+        }
+
+        wordCount++;
+        if (raw.indexOf('@') > 0 && raw.indexOf('.', raw.indexOf('@')) > 0) {
+            emailCount++;
+            return;
+        }
+        if (raw.startsWith("http") || raw.startsWith("www.") || raw.contains(".com/") || raw.contains(".io/")) {
+            urlCount++;
+            return;
+        }
+
+        int digits = 0;
+        for (int i = 0; i < raw.length(); i++) {
+            if (Character.isDigit(raw.charAt(i))) {
+                digits++;
+            }
+        }
+        if (digits >= 10 && digits >= raw.length() - 3) {
+            phoneCount++;
+            return;
+        }
+        if (digits > 0) {
+            numericTokenCount++;
+        }
+        if (ACTION_VERBS.contains(raw)) {
+            actionVerbCount++;
+        }
+
+        Integer count = termFrequencies.get(raw);
+        if (count != null) {
+            termFrequencies.put(raw, count + 1);
+        } else if (termFrequencies.size() < maxDistinctTerms) {
+            termFrequencies.put(raw, 1);
+        }
+    }
+
+    private void appendToLine(char c) {
+        if (line.length() < MAX_HEADING_LENGTH) {
+            line.append(c);
+        } else {
+            lineOverflow = true;
+        }
+    }
+
+    private void detectHeading() {
+        if (lineOverflow) {
+            return;
+        }
+        String heading = line.toString().trim().toLowerCase();
+        if (heading.endsWith(":")) {
+            heading = heading.substring(0, heading.length() - 1).trim();
+        }
+        if (heading.isEmpty()) {
+            return;
+        }
+        // Headings are short: "Technical Skills", "Work Experience", "Education"
+        String[] words = heading.split("[\\s&/,]+");
+        if (words.length > 4) {
+            return;
+        }
+        for (String word : words) {
+            String section = SECTION_HEADINGS.get(word);
+            if (section != null) {
+                sections.add(section);
+                return;
+            }
+        }
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '+' || c == '#' || c == '.' || c == '@'
+                || c == '-' || c == '_' || c == '/' || c == '%' || c == ':';
+    }
+
+    private static boolean isBullet(char c) {
+        return c == '\u2022' || c == '\u25CF' || c == '\u25AA' || c == '\u2023' || c == '\u25E6'
+                || c == '\u2043' || c == '\u2219' || c == '*' || c == '-' || c == '\u2013'
+                || c == '\u00B7' || c == '\uF0B7'; // Symbol-font bullet used by Word exports
+    }
+
+    private static String stripTrailingPunctuation(StringBuilder sb) {
+        int start = 0;
+        int end = sb.length();
+        while (start < end && isEdgePunctuation(sb.charAt(start))) {
+            start++;
+        }
+        while (end > start && isEdgePunctuation(sb.charAt(end - 1))) {
+            end--;
+        }
+        return sb.substring(start, end);
+    }
+
+    private static boolean isEdgePunctuation(char c) {
+        return c == '.' || c == ':' || c == '-' || c == '/' || c == '_';
+    }
+}
@@ -0,0 +1,103 @@
+package com.placement.expo.service;
+
+import com.placement.expo.model.ResumeDocument;
+import com.placement.expo.model.ResumeObject;
+import com.placement.expo.model.StoredResume;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Writes an incoming resume straight to resume storage in a single pass. The bytes are
+ * hashed, the format is sniffed from the magic bytes, and the size limit is enforced while
+ * they stream through, so nothing is buffered or copied a second time.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResumeUploadWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int SNIFF_BYTES = 8;
+    private static final Set<ResumeDocument.Format> ACCEPTED_FORMATS =
+            Set.of(ResumeDocument.Format.PDF, ResumeDocument.Format.DOCX, ResumeDocument.Format.DOC);
+
+    private final ResumeStorage resumeStorage;
+    private final ResumeFileIndex resumeFileIndex;
+
+    /**
+     * Streams a resume into {@link ResumeStorage}
+     *
+     * @param in The resume bytes; not closed
+     * @param appwriteUserId The owner, used as the stored file name prefix
+     * @param sanitizedFilename The client's file name with path characters removed
+     * @param maxBytes The largest accepted resume
+     * @return The stored resume
+     * @throws MaxUploadSizeExceededException if the stream is longer than maxBytes
+     * @throws IllegalArgumentException if the content is not a PDF, DOC or DOCX file
+     */
+    public StoredResume write(InputStream in, String appwriteUserId, String sanitizedFilename, long maxBytes)
+            throws IOException {
+        String fileExtension = sanitizedFilename.substring(sanitizedFilename.lastIndexOf("."));
+        String baseFileName = sanitizedFilename.substring(0, sanitizedFilename.lastIndexOf("."));
+        String fileName = appwriteUserId + "_" + baseFileName + "_" + UUID.randomUUID() + fileExtension;
+
+        MessageDigest digest = AtsResultCache.newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        byte[] header = new byte[SNIFF_BYTES];
+        int headerLength = 0;
+        long size = 0;
+
+        // Closing an upload that was not committed discards it
+        try (ResumeStorage.Upload out = resumeStorage.create(fileName)) {
+            ReadableByteChannel source = Channels.newChannel(in);
+            while (source.read(buffer) >= 0) {
+                buffer.flip();
+                if (!buffer.hasRemaining()) {
+                    buffer.clear();
+                    continue;
+                }
+                size += buffer.remaining();
+                if (size > maxBytes) {
+                    throw new MaxUploadSizeExceededException(maxBytes);
+                }
+                if (headerLength < SNIFF_BYTES) {
+                    int take = Math.min(SNIFF_BYTES - headerLength, buffer.remaining());
+                    buffer.duplicate().get(header, headerLength, take);
+                    headerLength += take;
+                }
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+
+            ResumeDocument.Format format = ResumeTextExtractor.detectFormat(header, headerLength, null);
+            if (!ACCEPTED_FORMATS.contains(format)) {
+                throw new IllegalArgumentException("File content is not a PDF, DOC or DOCX document");
+            }
+
+            ResumeObject object = out.commit();
+            log.debug("Stored {} resume {} ({} bytes)", format, fileName, size);
+            StoredResume stored = StoredResume.builder()
+                    .fileName(fileName)
+                    .size(size)
+                    .contentHash(AtsResultCache.toHex(digest.digest()))
+                    .format(format)
+                    .build();
+            resumeFileIndex.register(stored, object.getLastModified());
+            return stored;
+        }
+    }
+}
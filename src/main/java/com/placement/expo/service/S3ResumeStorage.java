@@ -0,0 +1,318 @@
+package com.placement.expo.service;
+
+import com.placement.expo.config.S3StorageConfig;
+import com.placement.expo.model.ResumeObject;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.S3Object;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Keeps resumes in an S3 bucket so every node serves and scores the same files. Uploads
+ * that fit in one part are a single PUT; larger ones become multipart uploads whose parts
+ * are sent in parallel while the rest of the body is still arriving.
+ */
+@Component
+@ConditionalOnProperty(name = "app.storage.type", havingValue = "s3")
+@Slf4j
+public class S3ResumeStorage implements ResumeStorage {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+
+    private final S3Client s3;
+    private final String bucket;
+    private final String prefix;
+    private final int partSize;
+    private final int uploadParallelism;
+    private final ExecutorService partUploads;
+
+    public S3ResumeStorage(S3Client s3, S3StorageConfig config) {
+        if (!StringUtils.hasText(config.getBucket())) {
+            throw new IllegalStateException("app.storage.s3.bucket must be set when app.storage.type=s3");
+        }
+        this.s3 = s3;
+        this.bucket = config.getBucket();
+        this.prefix = config.getPrefix() != null ? config.getPrefix() : "";
+        this.partSize = (int) Math.max(MIN_PART_SIZE, config.getPartSize().toBytes());
+        this.uploadParallelism = Math.max(1, config.getUploadParallelism());
+        AtomicInteger counter = new AtomicInteger();
+        // Unbounded, but each upload holds at most uploadParallelism parts in flight
+        this.partUploads = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "s3-part-upload-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("Resume storage: s3://{}/{} ({}MB parts, {} in parallel)",
+                bucket, prefix, partSize / (1024 * 1024), uploadParallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        partUploads.shutdownNow();
+    }
+
+    @Override
+    public Upload create(String key) {
+        return new MultipartUpload(key, objectKey(key));
+    }
+
+    @Override
+    public void put(String key, byte[] content) throws IOException {
+        try {
+            s3.putObject(request -> request.bucket(bucket).key(objectKey(key)), RequestBody.fromBytes(content));
+        } catch (SdkException e) {
+            throw new IOException("Could not store " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public InputStream open(String key) throws IOException {
+        return get(key, GetObjectRequest.builder().bucket(bucket).key(objectKey(key)).build());
+    }
+
+    @Override
+    public InputStream open(String key, long start, long end) throws IOException {
+        return get(key, GetObjectRequest.builder().bucket(bucket).key(objectKey(key))
+                .range("bytes=" + start + "-" + (end - 1))
+                .build());
+    }
+
+    @Override
+    public Optional<ResumeObject> stat(String key) throws IOException {
+        try {
+            HeadObjectResponse head = s3.headObject(request -> request.bucket(bucket).key(objectKey(key)));
+            return Optional.of(ResumeObject.builder()
+                    .key(key)
+                    .size(head.contentLength())
+                    .lastModified(head.lastModified().toEpochMilli())
+                    .build());
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            throw new IOException("Could not stat " + key + ": " + e.getMessage(), e);
+        } catch (SdkException e) {
+            throw new IOException("Could not stat " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<ResumeObject> list() throws IOException {
+        List<ResumeObject> objects = new ArrayList<>();
+        try {
+            for (S3Object object : s3.listObjectsV2Paginator(request -> request.bucket(bucket)
+                    .prefix(prefix).delimiter("/")).contents()) {
+                String key = object.key().substring(prefix.length());
+                // Dot-prefixed keys are bookkeeping, as on local storage
+                if (!key.isEmpty() && !key.startsWith(".")) {
+                    objects.add(ResumeObject.builder()
+                            .key(key)
+                            .size(object.size())
+                            .lastModified(object.lastModified().toEpochMilli())
+                            .build());
+                }
+            }
+        } catch (SdkException e) {
+            throw new IOException("Could not list resumes: " + e.getMessage(), e);
+        }
+        return objects;
+    }
+
+    @Override
+    public boolean delete(String key) throws IOException {
+        // DeleteObject succeeds for missing keys, so check first to report whether it existed
+        if (stat(key).isEmpty()) {
+            return false;
+        }
+        try {
+            s3.deleteObject(request -> request.bucket(bucket).key(objectKey(key)));
+            return true;
+        } catch (SdkException e) {
+            throw new IOException("Could not delete " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    private InputStream get(String key, GetObjectRequest request) throws IOException {
+        try {
+            return s3.getObject(request);
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(key);
+        } catch (SdkException e) {
+            throw new IOException("Could not read " + key + ": " + e.getMessage(), e);
+        }
+    }
+
+    private String objectKey(String key) {
+        if (key.isEmpty() || key.contains("/") || key.contains("\\") || key.contains("..")) {
+            throw new IllegalArgumentException("Invalid resume key: " + key);
+        }
+        return prefix + key;
+    }
+
+    /**
+     * Buffers one part at a time. A full part is handed to the upload pool and a fresh buffer
+     * started, so at most {@code uploadParallelism} parts (plus the one being filled) are held
+     * in memory; the writer blocks when that many are in flight.
+     */
+    private final class MultipartUpload implements Upload {
+        private final String key;
+        private final String objectKey;
+        private final Semaphore inFlight = new Semaphore(uploadParallelism);
+        private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        private ByteBuffer buffer;
+        private String uploadId;
+        private boolean finished;
+
+        private MultipartUpload(String key, String objectKey) {
+            this.key = key;
+            this.objectKey = objectKey;
+        }
+
+        @Override
+        public int write(ByteBuffer src) throws IOException {
+            int written = 0;
+            while (src.hasRemaining()) {
+                if (buffer == null) {
+                    buffer = ByteBuffer.allocate(partSize);
+                }
+                int take = Math.min(src.remaining(), buffer.remaining());
+                ByteBuffer slice = src.duplicate();
+                slice.limit(slice.position() + take);
+                buffer.put(slice);
+                src.position(src.position() + take);
+                written += take;
+                if (!buffer.hasRemaining()) {
+                    sendPart();
+                }
+            }
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !finished;
+        }
+
+        @Override
+        public ResumeObject commit() throws IOException {
+            try {
+                if (uploadId == null) {
+                    ByteBuffer body = buffer != null ? buffer.flip() : ByteBuffer.allocate(0);
+                    s3.putObject(request -> request.bucket(bucket).key(objectKey), RequestBody.fromByteBuffer(body));
+                } else {
+                    if (buffer != null && buffer.position() > 0) {
+                        sendPart();
+                    }
+                    List<CompletedPart> completed = new ArrayList<>(parts.size());
+                    for (CompletableFuture<CompletedPart> part : parts) {
+                        completed.add(part.join());
+                    }
+                    completed.sort(Comparator.comparing(CompletedPart::partNumber));
+                    s3.completeMultipartUpload(request -> request.bucket(bucket).key(objectKey)
+                            .uploadId(uploadId)
+                            .multipartUpload(upload -> upload.parts(completed)));
+                }
+                finished = true;
+            } catch (CompletionException | SdkException e) {
+                abort();
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                throw new IOException("Could not store " + key + ": " + cause.getMessage(), cause);
+            }
+            buffer = null;
+            return stat(key).orElseThrow(() -> new NoSuchFileException(key));
+        }
+
+        @Override
+        public void abort() {
+            finished = true;
+            buffer = null;
+            parts.forEach(part -> part.cancel(true));
+            if (uploadId != null) {
+                try {
+                    s3.abortMultipartUpload(request -> request.bucket(bucket).key(objectKey).uploadId(uploadId));
+                } catch (SdkException e) {
+                    // The bucket's lifecycle rule for incomplete uploads cleans up whatever is left
+                    log.warn("Could not abort multipart upload of {}: {}", key, e.getMessage());
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            if (!finished) {
+                abort();
+            }
+        }
+
+        private void sendPart() throws IOException {
+            try {
+                if (uploadId == null) {
+                    uploadId = s3.createMultipartUpload(request -> request.bucket(bucket).key(objectKey)).uploadId();
+                }
+                for (CompletableFuture<CompletedPart> part : parts) {
+                    if (part.isCompletedExceptionally()) {
+                        part.join();
+                    }
+                }
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while uploading " + key);
+            } catch (CompletionException | SdkException e) {
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                throw new IOException("Could not store " + key + ": " + cause.getMessage(), cause);
+            }
+
+            ByteBuffer body = buffer.flip();
+            buffer = null;
+            int partNumber = parts.size() + 1;
+            String currentUploadId = uploadId;
+            parts.add(CompletableFuture.supplyAsync(() -> {
+                try {
+                    String eTag = s3.uploadPart(request -> request.bucket(bucket).key(objectKey)
+                            .uploadId(currentUploadId)
+                            .partNumber(partNumber)
+                            .contentLength((long) body.remaining()),
+                            RequestBody.fromByteBuffer(body)).eTag();
+                    return CompletedPart.builder().partNumber(partNumber).eTag(eTag).build();
+                } finally {
+                    inFlight.release();
+                }
+            }, partUploads));
+        }
+    }
+}
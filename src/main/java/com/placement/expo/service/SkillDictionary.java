@@ -0,0 +1,137 @@
+package com.placement.expo.service;
+
+import com.placement.expo.repository.SkillRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Normalized skill vocabulary used to recognise skills in resumes and job descriptions.
+ * It combines a built-in list of common technical skills with the most popular skills
+ * students have added to their profiles, and is compiled into a {@link KeywordMatcher}.
+ */
+@Component
+@Slf4j
+public class SkillDictionary {
+
+    private static final List<String> BASE_SKILLS = List.of(
+        "java", "python", "c", "c++", "c#", "javascript", "typescript", "kotlin", "go", "rust", "scala",
+        "sql", "php", "ruby", "swift", "dart", "matlab", "bash",
+        "spring", "spring boot", "hibernate", "react", "angular", "vue", "node.js", "express",
+        "django", "flask", "fastapi", ".net", "asp.net",
+        "html", "css", "rest", "graphql", "api", "microservices",
+        "docker", "kubernetes", "aws", "azure", "gcp", "terraform", "git", "linux",
+        "postgresql", "mysql", "mongodb", "redis", "elasticsearch", "oracle",
+        "kafka", "rabbitmq", "jenkins", "ci/cd", "agile", "scrum", "jira",
+        "machine learning", "deep learning", "data structures", "algorithms", "nlp", "computer vision",
+        "tensorflow", "pytorch", "scikit-learn", "pandas", "numpy", "power bi", "tableau", "excel",
+        "android", "ios", "flutter", "react native", "junit", "selenium", "maven", "gradle",
+        "hadoop", "spark", "figma", "system design", "object oriented programming"
+    );
+
+    /** Alternative spellings mapped to the canonical skill name */
+    private static final Map<String, String> ALIASES = Map.ofEntries(
+        Map.entry("golang", "go"),
+        Map.entry("reactjs", "react"),
+        Map.entry("react.js", "react"),
+        Map.entry("nodejs", "node.js"),
+        Map.entry("vue.js", "vue"),
+        Map.entry("vuejs", "vue"),
+        Map.entry("angularjs", "angular"),
+        Map.entry("expressjs", "express"),
+        Map.entry("express.js", "express"),
+        Map.entry("springboot", "spring boot"),
+        Map.entry("postgres", "postgresql"),
+        Map.entry("k8s", "kubernetes"),
+        Map.entry("amazon web services", "aws"),
+        Map.entry("google cloud", "gcp"),
+        Map.entry("microsoft azure", "azure"),
+        Map.entry("ml", "machine learning"),
+        Map.entry("dl", "deep learning"),
+        Map.entry("natural language processing", "nlp"),
+        Map.entry("dsa", "data structures"),
+        Map.entry("oop", "object oriented programming"),
+        Map.entry("oops", "object oriented programming"),
+        Map.entry("sklearn", "scikit-learn"),
+        Map.entry("restful", "rest"),
+        Map.entry("rest api", "rest"),
+        Map.entry("ms excel", "excel"),
+        Map.entry("powerbi", "power bi"),
+        Map.entry("cicd", "ci/cd"),
+        Map.entry("dotnet", ".net"),
+        Map.entry("js", "javascript"),
+        Map.entry("cpp", "c++"),
+        Map.entry("csharp", "c#")
+    );
+
+    private static final int MAX_SKILL_LENGTH = 40;
+
+    private final SkillRepository skillRepository;
+    private final int maxPopularSkills;
+
+    private volatile KeywordMatcher matcher;
+
+    public SkillDictionary(SkillRepository skillRepository,
+                           @Value("${app.ats.skills.max-popular-skills:1000}") int maxPopularSkills) {
+        this.skillRepository = skillRepository;
+        this.maxPopularSkills = maxPopularSkills;
+        // Usable before the database is reachable; popular skills are added on refresh
+        this.matcher = KeywordMatcher.compile(baseKeywords());
+    }
+
+    /**
+     * @return The current compiled matcher; a refresh swaps in a new instance, so hold on
+     *         to the returned one for the duration of a single matching task
+     */
+    public KeywordMatcher matcher() {
+        return matcher;
+    }
+
+    /**
+     * Recompiles the dictionary with the current most popular profile skills
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.ats.skills.refresh-interval-ms:3600000}",
+               initialDelayString = "${app.ats.skills.refresh-interval-ms:3600000}")
+    public void refresh() {
+        Map<String, String> keywords = baseKeywords();
+        int added = 0;
+        try {
+            for (Object[] row : skillRepository.getMostPopularSkills()) {
+                if (added >= maxPopularSkills) {
+                    break;
+                }
+                String skill = row[0] != null ? row[0].toString().trim().toLowerCase() : "";
+                if (skill.isEmpty() || skill.length() > MAX_SKILL_LENGTH) {
+                    continue;
+                }
+                if (keywords.putIfAbsent(skill, ALIASES.getOrDefault(skill, skill)) == null) {
+                    added++;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Could not load popular skills, keeping the built-in dictionary: {}", e.getMessage());
+            return;
+        }
+
+        KeywordMatcher compiled = KeywordMatcher.compile(keywords);
+        matcher = compiled;
+        log.info("Skill dictionary compiled with {} skills ({} from student profiles)", compiled.size(), added);
+    }
+
+    private static Map<String, String> baseKeywords() {
+        Map<String, String> keywords = new LinkedHashMap<>();
+        for (String skill : BASE_SKILLS) {
+            keywords.put(skill, skill);
+        }
+        keywords.putAll(ALIASES);
+        return keywords;
+    }
+}
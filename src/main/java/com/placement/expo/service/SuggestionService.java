@@ -0,0 +1,212 @@
+package com.placement.expo.service;
+
+import com.placement.expo.domain.Job;
+import com.placement.expo.entity.AcademicRecord;
+import com.placement.expo.entity.Company;
+import com.placement.expo.entity.Skill;
+import com.placement.expo.event.EntityChangeEvent;
+import com.placement.expo.model.Suggestion;
+import com.placement.expo.repository.AcademicRecordRepository;
+import com.placement.expo.repository.CompanyRepository;
+import com.placement.expo.repository.JobRepository;
+import com.placement.expo.repository.SkillRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typeahead for the registration and profile forms. Skills, companies and institutions
+ * each live in a {@link SuggestionTrie} weighted by how often they are used, loaded on
+ * startup, kept current from entity change events and reloaded periodically to correct
+ * weights and pick up other nodes' writes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SuggestionService {
+
+    /** Completions kept per trie node, and so the most one lookup returns */
+    public static final int MAX_SUGGESTIONS = 10;
+
+    private final SkillRepository skillRepository;
+    private final AcademicRecordRepository academicRecordRepository;
+    private final CompanyRepository companyRepository;
+    private final JobRepository jobRepository;
+    private final SkillDictionary skillDictionary;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Kind, SuggestionTrie> tries = emptyTries();
+    /** Weight changes made while a kind is reloading, replayed on the reloaded trie */
+    private final Map<Kind, List<Change>> changedDuringRebuild = new EnumMap<>(Kind.class);
+
+    public enum Kind {
+        SKILLS, COMPANIES, INSTITUTIONS;
+
+        /**
+         * @throws IllegalArgumentException for unknown kinds
+         */
+        public static Kind parse(String value) {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * @param kind What to suggest
+     * @param prefix What the user has typed so far
+     * @param limit The maximum number of suggestions, capped at {@link #MAX_SUGGESTIONS}
+     * @return The most used names starting with the prefix, or with a word starting with it
+     */
+    public List<Suggestion> suggest(Kind kind, String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            List<Suggestion> suggestions = new ArrayList<>();
+            for (SuggestionTrie.Entry entry : tries.get(kind).suggest(prefix, Math.min(limit, MAX_SUGGESTIONS))) {
+                suggestions.add(Suggestion.builder()
+                        .text(entry.getLabel())
+                        .weight(entry.getWeight())
+                        .build());
+            }
+            return suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEntityChanged(EntityChangeEvent event) {
+        // Updates may rename; the new name is added and the old one lingers until the next reload
+        long delta = switch (event.getChangeType()) {
+            case CREATED -> 1;
+            case UPDATED -> 0;
+            case DELETED -> -1;
+        };
+        if (event.isFor(Skill.class)) {
+            apply(Kind.SKILLS, event.getEntity(Skill.class).getSkillName(), delta);
+        } else if (event.isFor(AcademicRecord.class)) {
+            apply(Kind.INSTITUTIONS, event.getEntity(AcademicRecord.class).getInstitutionName(), delta);
+        } else if (event.isFor(Job.class)) {
+            apply(Kind.COMPANIES, event.getEntity(Job.class).getCompany(), delta);
+        } else if (event.isFor(Company.class) && event.getChangeType() != EntityChangeEvent.ChangeType.DELETED) {
+            // Companies are weighted by their job postings, not by the company row itself
+            apply(Kind.COMPANIES, event.getEntity(Company.class).getCompanyName(), 0);
+        }
+    }
+
+    /**
+     * Reloads every kind from the database
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.suggest.rebuild-interval-ms:3600000}",
+               initialDelayString = "${app.suggest.rebuild-interval-ms:3600000}")
+    public synchronized void rebuild() {
+        for (Kind kind : Kind.values()) {
+            rebuild(kind);
+        }
+    }
+
+    private void rebuild(Kind kind) {
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild.put(kind, new ArrayList<>());
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        SuggestionTrie rebuilt;
+        try {
+            rebuilt = SuggestionTrie.build(load(kind), MAX_SUGGESTIONS);
+        } catch (Exception e) {
+            log.warn("Could not load {} suggestions, keeping the current ones: {}", kind, e.getMessage());
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild.remove(kind);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            // A change that committed before the load read it is counted twice until the next reload
+            for (Change change : changedDuringRebuild.remove(kind)) {
+                rebuilt.add(change.label(), change.delta());
+            }
+            tries.put(kind, rebuilt);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Loaded {} {} suggestions", rebuilt.size(), kind.name().toLowerCase(Locale.ROOT));
+    }
+
+    private Map<String, Long> load(Kind kind) {
+        Map<String, Long> weights = new HashMap<>();
+        switch (kind) {
+            case SKILLS -> {
+                // The dictionary's skills are suggested even before any student has added them
+                KeywordMatcher matcher = skillDictionary.matcher();
+                for (int i = 0; i < matcher.size(); i++) {
+                    weights.put(matcher.label(i), 0L);
+                }
+                addCounts(weights, skillRepository.getMostPopularSkills());
+            }
+            case COMPANIES -> {
+                for (String name : companyRepository.findActiveCompanyNames()) {
+                    weights.putIfAbsent(name, 0L);
+                }
+                addCounts(weights, jobRepository.getCompanyJobCounts());
+            }
+            case INSTITUTIONS -> addCounts(weights, academicRecordRepository.getInstitutionCounts());
+        }
+        return weights;
+    }
+
+    private static void addCounts(Map<String, Long> weights, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            if (row[0] != null && row[1] instanceof Number count) {
+                weights.merge(row[0].toString(), count.longValue(), Long::sum);
+            }
+        }
+    }
+
+    private void apply(Kind kind, String label, long delta) {
+        if (label == null || label.isBlank()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            tries.get(kind).add(label, delta);
+            List<Change> pending = changedDuringRebuild.get(kind);
+            if (pending != null) {
+                pending.add(new Change(label, delta));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Map<Kind, SuggestionTrie> emptyTries() {
+        Map<Kind, SuggestionTrie> tries = new EnumMap<>(Kind.class);
+        for (Kind kind : Kind.values()) {
+            tries.put(kind, new SuggestionTrie(MAX_SUGGESTIONS));
+        }
+        return tries;
+    }
+
+    private record Change(String label, long delta) {
+    }
+}
@@ -0,0 +1,275 @@
+package com.placement.expo.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prefix tree of weighted names for typeahead. Every node keeps its best completions,
+ * so a lookup is a walk down the typed prefix with no scan of the subtree. Names are
+ * also reachable from each later word, e.g. "Indian Institute of Technology" from "inst".
+ * <p>
+ * Not thread-safe; callers guard reads and writes with their own lock.
+ */
+public final class SuggestionTrie {
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+
+    /** Heaviest first, then shorter names, then alphabetical */
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong((Entry entry) -> -entry.weight)
+            .thenComparingInt(entry -> entry.key.length())
+            .thenComparing(entry -> entry.key);
+
+    private final int topK;
+    private final Node root = new Node();
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * @param topK Completions kept per node, i.e. the most a lookup can return
+     */
+    public SuggestionTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * Builds a trie in one pass, ranking every node once at the end
+     *
+     * @param weights Display names and their weights; names that normalise alike are merged
+     *                and shown with the most used spelling
+     */
+    public static SuggestionTrie build(Map<String, Long> weights, int topK) {
+        SuggestionTrie trie = new SuggestionTrie(topK);
+        List<Map.Entry<String, Long>> heaviestFirst = new ArrayList<>(weights.entrySet());
+        heaviestFirst.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+        for (Map.Entry<String, Long> weight : heaviestFirst) {
+            trie.merge(weight.getKey(), weight.getValue());
+        }
+        for (Entry entry : trie.entries.values()) {
+            for (String key : keys(entry.key)) {
+                trie.node(key, true).addTerminal(entry);
+            }
+        }
+        trie.rank(trie.root);
+        return trie;
+    }
+
+    /**
+     * Adds to a name's weight, adding the name if it is new. Weights never go below zero;
+     * a name stays suggestible until the trie is rebuilt without it.
+     */
+    public void add(String label, long delta) {
+        String key = normalize(label);
+        if (key.isEmpty()) {
+            return;
+        }
+        Entry entry = entries.get(key);
+        boolean added = entry == null;
+        entry = merge(label, delta);
+        for (String suffix : keys(key)) {
+            List<Node> path = path(suffix, added);
+            if (added) {
+                path.get(path.size() - 1).addTerminal(entry);
+            }
+            for (int i = path.size() - 1; i >= 0; i--) {
+                rankNode(path.get(i));
+            }
+        }
+    }
+
+    /**
+     * @param prefix What the user has typed so far
+     * @param limit The maximum number of suggestions, at most the trie's top-k
+     * @return The best names starting with the prefix, or with a word starting with it
+     */
+    public List<Entry> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        // A trailing space means the last word is complete
+        if (!key.isEmpty() && Character.isWhitespace(prefix.charAt(prefix.length() - 1))) {
+            key += ' ';
+        }
+        Node node = key.isEmpty() ? null : node(key, false);
+        if (node == null) {
+            return List.of();
+        }
+        return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+    }
+
+    /**
+     * @return The number of distinct names
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Lowercases the name and collapses runs of whitespace to one space
+     */
+    static String normalize(String label) {
+        if (label == null) {
+            return "";
+        }
+        StringBuilder key = new StringBuilder(label.length());
+        boolean space = false;
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (Character.isWhitespace(c)) {
+                space = key.length() > 0;
+            } else {
+                if (space) {
+                    key.append(' ');
+                    space = false;
+                }
+                key.append(Character.toLowerCase(c));
+            }
+        }
+        return key.toString();
+    }
+
+    private Entry merge(String label, long delta) {
+        String key = normalize(label);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            entry = new Entry(key, label.trim().replaceAll("\\s+", " "), Math.max(0, delta));
+            entries.put(key, entry);
+        } else {
+            entry.weight = Math.max(0, entry.weight + delta);
+        }
+        return entry;
+    }
+
+    /**
+     * @return The key itself and the part starting at each later word
+     */
+    private static List<String> keys(String key) {
+        List<String> keys = new ArrayList<>(2);
+        keys.add(key);
+        for (int i = key.indexOf(' '); i >= 0; i = key.indexOf(' ', i + 1)) {
+            keys.add(key.substring(i + 1));
+        }
+        return keys;
+    }
+
+    private Node node(String key, boolean create) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.child(key.charAt(i), create);
+        }
+        return node;
+    }
+
+    private List<Node> path(String key, boolean create) {
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.child(key.charAt(i), create);
+            path.add(node);
+        }
+        return path;
+    }
+
+    private void rank(Node node) {
+        for (Node child : node.children) {
+            rank(child);
+        }
+        rankNode(node);
+    }
+
+    /**
+     * Recomputes a node's best completions from its own names and its children's best
+     */
+    private void rankNode(Node node) {
+        List<Entry> candidates = new ArrayList<>(node.terminals.length + node.children.length * topK);
+        candidates.addAll(Arrays.asList(node.terminals));
+        for (Node child : node.children) {
+            candidates.addAll(Arrays.asList(child.top));
+        }
+        candidates.sort(RANKING);
+        List<Entry> top = new ArrayList<>(topK);
+        for (Entry candidate : candidates) {
+            if (top.size() == topK) {
+                break;
+            }
+            // A name reachable from two of its words can arrive through two children
+            if (!top.contains(candidate)) {
+                top.add(candidate);
+            }
+        }
+        node.top = top.toArray(NO_ENTRIES);
+    }
+
+    /**
+     * A suggestible name
+     */
+    public static final class Entry {
+        private final String key;
+        private final String label;
+        private long weight;
+
+        private Entry(String key, String label, long weight) {
+            this.key = key;
+            this.label = label;
+            this.weight = weight;
+        }
+
+        /**
+         * @return The name as first seen, for display
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * @return How often the name is used, e.g. the number of profiles listing a skill
+         */
+        public long getWeight() {
+            return weight;
+        }
+    }
+
+    private static final class Node {
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        /** Names whose key, or one of whose word suffixes, ends here */
+        private Entry[] terminals = NO_ENTRIES;
+        private Entry[] top = NO_ENTRIES;
+
+        private Node child(char c, boolean create) {
+            int index = Arrays.binarySearch(keys, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            if (!create) {
+                return null;
+            }
+            int insert = -index - 1;
+            Node child = new Node();
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insert);
+            System.arraycopy(children, 0, newChildren, 0, insert);
+            newKeys[insert] = c;
+            newChildren[insert] = child;
+            System.arraycopy(keys, insert, newKeys, insert + 1, keys.length - insert);
+            System.arraycopy(children, insert, newChildren, insert + 1, children.length - insert);
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        private void addTerminal(Entry entry) {
+            for (Entry terminal : terminals) {
+                if (terminal == entry) {
+                    return;
+                }
+            }
+            terminals = Arrays.copyOf(terminals, terminals.length + 1);
+            terminals[terminals.length - 1] = entry;
+        }
+    }
+}
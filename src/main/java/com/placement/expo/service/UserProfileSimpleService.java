@@ -1,42 +1,68 @@
 package com.placement.expo.service;
 
 import com.placement.expo.entity.UserProfileSimple;
+import com.placement.expo.event.EntityChangeEvent;
+import com.placement.expo.model.AtsScoreResult;
+import com.placement.expo.model.ProfileFilter;
+import com.placement.expo.model.ProfilePage;
 import com.placement.expo.repository.UserProfileSimpleRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * Profile reads and writes. Lookups are timed as expo.profile.lookup (cache included) and
+ * expo.profile.load (database only, on a cache miss), saves as expo.profile.save tagged by
+ * operation (create, update, save, ats) and outcome.
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class UserProfileSimpleService {
     
+    private static final int MAX_ATS_FEEDBACK_LENGTH = 2000;
+    
     private final UserProfileSimpleRepository repository;
+    private final ProfileCache profileCache;
+    private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public UserProfileSimple createOrUpdateProfile(String appwriteUserId, String email, 
             String firstName, String lastName, String phone, String department, 
             Integer currentYear, java.math.BigDecimal currentCgpa, String linkedinUrl, 
             String githubUrl, String portfolioUrl, String resumeUrl, Integer backlogs) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String operation = "create";
         try {
-            log.info("=== CREATING/UPDATING COMPLETE PROFILE ===");
-            log.info("Input: AppwriteUserId={}, Email={}, FirstName={}, LastName={}, Department={}, Year={}", 
-                appwriteUserId, email, firstName, lastName, department, currentYear);
+            if (log.isDebugEnabled()) {
+                log.debug("=== CREATING/UPDATING COMPLETE PROFILE ===");
+                log.debug("Input: AppwriteUserId={}, Email={}, FirstName={}, LastName={}, Department={}, Year={}", 
+                    appwriteUserId, email, firstName, lastName, department, currentYear);
+            }
             
             Optional<UserProfileSimple> existingProfile = repository.findByAppwriteUserId(appwriteUserId);
             
             UserProfileSimple profile;
             if (existingProfile.isPresent()) {
                 profile = existingProfile.get();
-                log.info("✅ Updating existing profile: ID={}", profile.getId());
+                operation = "update";
+                log.debug("✅ Updating existing profile: ID={}", profile.getId());
             } else {
                 profile = UserProfileSimple.builder()
                     .appwriteUserId(appwriteUserId)
                     .build();
-                log.info("➕ Creating new profile for user: {}", appwriteUserId);
+                log.debug("➕ Creating new profile for user: {}", appwriteUserId);
             }
             
             // Update all profile information
@@ -64,35 +90,44 @@ public class UserProfileSimpleService {
             profile.setProfileCompletionPercentage(completion);
             
             UserProfileSimple savedProfile = repository.save(profile);
-            log.info("💾 Complete profile saved successfully: ID={}, Name={} {}, Email={}, Department={}, Completion={}%", 
-                savedProfile.getId(), savedProfile.getFirstName(), savedProfile.getLastName(), 
-                savedProfile.getEmail(), savedProfile.getDepartment(), savedProfile.getProfileCompletionPercentage());
+            if (log.isDebugEnabled()) {
+                log.debug("💾 Complete profile saved successfully: ID={}, Name={} {}, Email={}, Department={}, Completion={}%", 
+                    savedProfile.getId(), savedProfile.getFirstName(), savedProfile.getLastName(), 
+                    savedProfile.getEmail(), savedProfile.getDepartment(), savedProfile.getProfileCompletionPercentage());
+            }
             
+            recordSave(sample, operation, "success");
             return savedProfile;
             
         } catch (Exception e) {
+            recordSave(sample, operation, "error");
             log.error("❌ Failed to create/update complete profile for user {}: {}", appwriteUserId, e.getMessage(), e);
             throw e;
         }
     }
 
     public UserProfileSimple createOrUpdateProfile(String appwriteUserId, String email, String firstName, String lastName) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String operation = "create";
         try {
-            log.info("=== CREATING/UPDATING PROFILE ===");
-            log.info("Input: AppwriteUserId={}, Email={}, FirstName={}, LastName={}", 
-                appwriteUserId, email, firstName, lastName);
+            if (log.isDebugEnabled()) {
+                log.debug("=== CREATING/UPDATING PROFILE ===");
+                log.debug("Input: AppwriteUserId={}, Email={}, FirstName={}, LastName={}", 
+                    appwriteUserId, email, firstName, lastName);
+            }
             
             Optional<UserProfileSimple> existingProfile = repository.findByAppwriteUserId(appwriteUserId);
             
             UserProfileSimple profile;
             if (existingProfile.isPresent()) {
                 profile = existingProfile.get();
-                log.info("✅ Updating existing profile: ID={}", profile.getId());
+                operation = "update";
+                log.debug("✅ Updating existing profile: ID={}", profile.getId());
             } else {
                 profile = UserProfileSimple.builder()
                     .appwriteUserId(appwriteUserId)
                     .build();
-                log.info("➕ Creating new profile for user: {}", appwriteUserId);
+                log.debug("➕ Creating new profile for user: {}", appwriteUserId);
             }
             
             // Update basic information
@@ -105,54 +140,142 @@ public class UserProfileSimpleService {
             profile.setProfileCompletionPercentage(completion);
             
             UserProfileSimple savedProfile = repository.save(profile);
-            log.info("💾 Profile saved successfully: ID={}, Name={} {}, Email={}, Completion={}%", 
-                savedProfile.getId(), savedProfile.getFirstName(), savedProfile.getLastName(), 
-                savedProfile.getEmail(), savedProfile.getProfileCompletionPercentage());
+            if (log.isDebugEnabled()) {
+                log.debug("💾 Profile saved successfully: ID={}, Name={} {}, Email={}, Completion={}%", 
+                    savedProfile.getId(), savedProfile.getFirstName(), savedProfile.getLastName(), 
+                    savedProfile.getEmail(), savedProfile.getProfileCompletionPercentage());
+            }
             
+            recordSave(sample, operation, "success");
             return savedProfile;
             
         } catch (Exception e) {
+            recordSave(sample, operation, "error");
             log.error("❌ Error creating/updating profile for user {}: {}", appwriteUserId, e.getMessage());
             throw e;
         }
     }
     
+    /**
+     * Looks up a profile, served from {@link ProfileCache} when possible
+     * 
+     * @param appwriteUserId The Appwrite user ID
+     * @return A copy of the profile that may be up to the cache TTL old; read-modify-write
+     *         paths should load through the repository instead
+     */
     public Optional<UserProfileSimple> getProfileByAppwriteUserId(String appwriteUserId) {
-        log.info("=== FETCHING PROFILE FROM DATABASE ===");
-        log.info("Searching for profile with Appwrite User ID: {}", appwriteUserId);
-        
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Optional<UserProfileSimple> profile = profileCache.get(appwriteUserId, this::loadProfile);
+        sample.stop(meterRegistry.timer("expo.profile.lookup", "outcome", profile.isPresent() ? "found" : "missing"));
+        log.debug("Profile lookup for {}: {}", appwriteUserId, profile.isPresent() ? "found" : "not found");
+        return profile;
+    }
+    
+    private Optional<UserProfileSimple> loadProfile(String appwriteUserId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         Optional<UserProfileSimple> profile = repository.findByAppwriteUserId(appwriteUserId);
+        sample.stop(meterRegistry.timer("expo.profile.load", "outcome", profile.isPresent() ? "found" : "missing"));
         
         if (profile.isPresent()) {
-            UserProfileSimple p = profile.get();
-            log.info("✅ Profile FOUND: ID={}, Name={} {}, Email={}, Completion={}%", 
-                p.getId(), p.getFirstName(), p.getLastName(), p.getEmail(), p.getProfileCompletionPercentage());
+            if (log.isDebugEnabled()) {
+                UserProfileSimple p = profile.get();
+                log.debug("✅ Profile loaded from database: ID={}, AppwriteID={}, Completion={}%", 
+                    p.getId(), appwriteUserId, p.getProfileCompletionPercentage());
+            }
         } else {
-            log.warn("❌ NO Profile found for Appwrite User ID: {}", appwriteUserId);
-            // Let's also check what profiles exist in the database
-            log.info("🔍 Checking all existing profiles in database...");
-            repository.findAll().forEach(existingProfile -> {
-                log.info("   Existing profile: ID={}, AppwriteID={}, Name={} {}, Email={}", 
-                    existingProfile.getId(), 
-                    existingProfile.getAppwriteUserId(),
-                    existingProfile.getFirstName(), 
-                    existingProfile.getLastName(),
-                    existingProfile.getEmail());
-            });
+            // Use GET /api/v1/profile-simple/profiles to see which profiles exist
+            log.debug("No profile found for Appwrite User ID: {}", appwriteUserId);
         }
         
         return profile;
     }
     
-    public java.util.List<UserProfileSimple> getAllProfiles() {
-        return repository.findAll();
+    /**
+     * Lists profiles one page at a time using keyset pagination
+     * 
+     * @param filter Criteria to match; null fields are ignored
+     * @param cursor The nextCursor of the previous page, or null for the first page
+     * @param limit Page size
+     * @return The page and the cursor for the next one
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public ProfilePage listProfiles(ProfileFilter filter, String cursor, int limit) {
+        Long afterId = cursor != null && !cursor.isEmpty() ? decodeCursor(cursor) : null;
+        // One extra row tells whether another page exists without a COUNT query
+        List<UserProfileSimple> profiles = repository.findPageAfter(filter, afterId, limit + 1);
+        String nextCursor = null;
+        if (profiles.size() > limit) {
+            profiles = profiles.subList(0, limit);
+            nextCursor = encodeCursor(profiles.get(limit - 1).getId());
+        }
+        return ProfilePage.builder()
+            .profiles(profiles)
+            .nextCursor(nextCursor)
+            .build();
+    }
+    
+    private static String encodeCursor(Long lastId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(lastId.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+    
+    private static Long decodeCursor(String cursor) {
+        try {
+            return Long.valueOf(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
     }
     
     public UserProfileSimple saveProfile(UserProfileSimple profile) {
-        return repository.save(profile);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            UserProfileSimple saved = repository.save(profile);
+            recordSave(sample, "save", "success");
+            return saved;
+        } catch (RuntimeException e) {
+            recordSave(sample, "save", "error");
+            throw e;
+        }
+    }
+    
+    /**
+     * Stores an ATS result with a targeted update of the score and feedback columns, so
+     * edits made concurrently on this or another node are never overwritten
+     * 
+     * @return true if a profile was found and updated, false otherwise
+     */
+    @Transactional
+    public boolean updateAtsScore(String appwriteUserId, AtsScoreResult result) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            String feedback = result.getSummary();
+            if (feedback != null && feedback.length() > MAX_ATS_FEEDBACK_LENGTH) {
+                feedback = feedback.substring(0, MAX_ATS_FEEDBACK_LENGTH);
+            }
+            if (repository.updateAtsScore(appwriteUserId, result.getOverallScore(), feedback, LocalDateTime.now()) == 0) {
+                recordSave(sample, "ats", "missing");
+                return false;
+            }
+            // Bulk updates bypass the entity listener; announcing the fresh row evicts the cached
+            // profile and updates the dashboard stream and eligibility index once this commits
+            repository.findByAppwriteUserId(appwriteUserId).ifPresent(profile ->
+                eventPublisher.publishEvent(new EntityChangeEvent(profile, EntityChangeEvent.ChangeType.UPDATED)));
+            recordSave(sample, "ats", "success");
+            return true;
+        } catch (RuntimeException e) {
+            recordSave(sample, "ats", "error");
+            throw e;
+        }
+    }
+    
+    private void recordSave(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(meterRegistry.timer("expo.profile.save", "operation", operation, "outcome", outcome));
     }
     
-    private int calculateCompletionPercentage(UserProfileSimple profile) {
+    /**
+     * Package-private so the benchmarks under src/jmh can measure it
+     */
+    static int calculateCompletionPercentage(UserProfileSimple profile) {
         int total = 10; // Total fields to check
         int filled = 0;
         
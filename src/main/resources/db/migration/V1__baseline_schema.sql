@@ -0,0 +1,299 @@
+-- Consolidated schema matching the JPA entities in com.placement.expo.entity and com.placement.expo.domain.
+-- Written for both H2 2.x and PostgreSQL 10+. Databases created earlier by ddl-auto=update are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and only run later migrations.
+
+-- Application users and their roles
+CREATE TABLE users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    appwrite_id VARCHAR(500),
+    bio VARCHAR(1000),
+    company VARCHAR(255),
+    created_at TIMESTAMP,
+    email VARCHAR(255) NOT NULL,
+    linkedin_url VARCHAR(255),
+    location VARCHAR(255),
+    name VARCHAR(255) NOT NULL,
+    phone VARCHAR(255),
+    position VARCHAR(255),
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE user_roles (
+    user_id BIGINT NOT NULL,
+    role VARCHAR(255),
+    CONSTRAINT fk_user_roles_user FOREIGN KEY (user_id) REFERENCES users (id)
+);
+
+-- Student profiles keyed by Appwrite user ID (registration, dashboard, ATS score)
+CREATE TABLE user_profiles_simple (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    appwrite_user_id VARCHAR(255) NOT NULL,
+    ats_feedback VARCHAR(2000),
+    ats_score INTEGER,
+    backlogs INTEGER,
+    created_at TIMESTAMP,
+    current_cgpa NUMERIC(19,2),
+    current_year INTEGER,
+    department VARCHAR(255),
+    email VARCHAR(255) NOT NULL,
+    first_name VARCHAR(255),
+    github_url VARCHAR(255),
+    is_profile_verified BOOLEAN,
+    last_name VARCHAR(255),
+    linkedin_url VARCHAR(255),
+    phone VARCHAR(255),
+    portfolio_url VARCHAR(255),
+    profile_completion_percentage INTEGER,
+    resume_url VARCHAR(255),
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_user_profiles_simple_appwrite_user_id UNIQUE (appwrite_user_id),
+    CONSTRAINT uk_user_profiles_simple_email UNIQUE (email)
+);
+
+-- Job postings
+CREATE TABLE jobs (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company VARCHAR(255),
+    created_at TIMESTAMP,
+    description VARCHAR(2000),
+    location VARCHAR(255),
+    requirements VARCHAR(1000),
+    salary DOUBLE PRECISION,
+    status VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    type VARCHAR(255),
+    updated_at TIMESTAMP
+);
+
+-- Extended student profiles and their academic records, skills, projects, experience and certifications
+CREATE TABLE user_profiles (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    address TEXT,
+    appwrite_user_id VARCHAR(255) NOT NULL,
+    backlogs INTEGER,
+    city VARCHAR(100),
+    course VARCHAR(100) NOT NULL,
+    created_at TIMESTAMP,
+    current_cgpa NUMERIC(4,2),
+    current_percentage NUMERIC(5,2),
+    current_semester INTEGER NOT NULL,
+    current_year INTEGER NOT NULL,
+    date_of_birth DATE,
+    department VARCHAR(100) NOT NULL,
+    emergency_contact_name VARCHAR(100),
+    emergency_contact_phone VARCHAR(20),
+    expected_graduation_date DATE,
+    first_name VARCHAR(100) NOT NULL,
+    gender VARCHAR(255),
+    github_url VARCHAR(500),
+    is_profile_verified BOOLEAN,
+    job_preferences TEXT,
+    last_name VARCHAR(100) NOT NULL,
+    linkedin_url VARCHAR(500),
+    location_preferences TEXT,
+    phone VARCHAR(20),
+    pincode VARCHAR(10),
+    portfolio_url VARCHAR(500),
+    profile_completion_percentage INTEGER,
+    profile_picture_url VARCHAR(500),
+    resume_url VARCHAR(500),
+    roll_number VARCHAR(50),
+    salary_expectations NUMERIC(12,2),
+    state VARCHAR(100),
+    student_id VARCHAR(50),
+    updated_at TIMESTAMP,
+    verification_date TIMESTAMP,
+    CONSTRAINT uk_user_profiles_appwrite_user_id UNIQUE (appwrite_user_id),
+    CONSTRAINT uk_user_profiles_student_id UNIQUE (student_id),
+    CONSTRAINT uk_user_profiles_roll_number UNIQUE (roll_number)
+);
+
+CREATE TABLE academic_records (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_profile_id BIGINT NOT NULL,
+    achievements TEXT,
+    board_university VARCHAR(200),
+    cgpa NUMERIC(4,2),
+    course_name VARCHAR(100),
+    created_at TIMESTAMP,
+    education_level VARCHAR(255) NOT NULL,
+    end_date DATE,
+    grade VARCHAR(10),
+    institution_name VARCHAR(200) NOT NULL,
+    is_current BOOLEAN,
+    marks_obtained NUMERIC(8,2),
+    percentage NUMERIC(5,2),
+    projects TEXT,
+    specialization VARCHAR(100),
+    start_date DATE,
+    total_marks NUMERIC(8,2),
+    updated_at TIMESTAMP,
+    CONSTRAINT fk_academic_records_user_profile FOREIGN KEY (user_profile_id) REFERENCES user_profiles (id)
+);
+
+CREATE TABLE skills (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_profile_id BIGINT NOT NULL,
+    certificate_url VARCHAR(500),
+    created_at TIMESTAMP,
+    is_verified BOOLEAN,
+    last_used_date DATE,
+    proficiency_level VARCHAR(255) NOT NULL,
+    skill_category VARCHAR(255) NOT NULL,
+    skill_name VARCHAR(100) NOT NULL,
+    verification_source VARCHAR(200),
+    years_of_experience NUMERIC(3,1),
+    CONSTRAINT fk_skills_user_profile FOREIGN KEY (user_profile_id) REFERENCES user_profiles (id)
+);
+
+CREATE TABLE projects (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_profile_id BIGINT NOT NULL,
+    achievements TEXT,
+    challenges_faced TEXT,
+    created_at TIMESTAMP,
+    demo_url VARCHAR(500),
+    description TEXT,
+    detailed_description TEXT,
+    display_order INTEGER,
+    documentation_url VARCHAR(500),
+    end_date DATE,
+    github_url VARCHAR(500),
+    is_featured BOOLEAN,
+    is_ongoing BOOLEAN,
+    learning_outcomes TEXT,
+    project_name VARCHAR(200) NOT NULL,
+    project_role VARCHAR(100),
+    project_type VARCHAR(255) NOT NULL,
+    project_url VARCHAR(500),
+    start_date DATE,
+    team_size INTEGER,
+    technologies_used TEXT,
+    updated_at TIMESTAMP,
+    CONSTRAINT fk_projects_user_profile FOREIGN KEY (user_profile_id) REFERENCES user_profiles (id)
+);
+
+CREATE TABLE experience (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_profile_id BIGINT NOT NULL,
+    achievements TEXT,
+    company_location VARCHAR(200),
+    company_name VARCHAR(200) NOT NULL,
+    company_website VARCHAR(500),
+    created_at TIMESTAMP,
+    currency VARCHAR(10),
+    department VARCHAR(100),
+    employment_type VARCHAR(255) NOT NULL,
+    end_date DATE,
+    experience_letter_url VARCHAR(500),
+    is_current BOOLEAN,
+    job_description TEXT,
+    key_responsibilities TEXT,
+    offer_letter_url VARCHAR(500),
+    position_title VARCHAR(200) NOT NULL,
+    start_date DATE NOT NULL,
+    stipend_salary NUMERIC(12,2),
+    supervisor_email VARCHAR(100),
+    supervisor_name VARCHAR(100),
+    supervisor_phone VARCHAR(20),
+    technologies_used TEXT,
+    updated_at TIMESTAMP,
+    CONSTRAINT fk_experience_user_profile FOREIGN KEY (user_profile_id) REFERENCES user_profiles (id)
+);
+
+CREATE TABLE certifications (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_profile_id BIGINT NOT NULL,
+    certificate_file_url VARCHAR(500),
+    certification_category VARCHAR(100),
+    certification_name VARCHAR(200) NOT NULL,
+    created_at TIMESTAMP,
+    credential_id VARCHAR(200),
+    credential_url VARCHAR(500),
+    description TEXT,
+    expiry_date DATE,
+    is_lifetime_valid BOOLEAN,
+    issue_date DATE NOT NULL,
+    issuing_organization VARCHAR(200) NOT NULL,
+    skills_gained TEXT,
+    CONSTRAINT fk_certifications_user_profile FOREIGN KEY (user_profile_id) REFERENCES user_profiles (id)
+);
+
+-- Recruiting companies and the applications made to them
+CREATE TABLE companies (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    allowed_backlogs INTEGER,
+    average_package NUMERIC(12,2),
+    campus_recruitment BOOLEAN,
+    company_description TEXT,
+    company_name VARCHAR(200) NOT NULL,
+    company_size VARCHAR(255),
+    created_at TIMESTAMP,
+    headquarters_location VARCHAR(200),
+    highest_package NUMERIC(12,2),
+    hr_email VARCHAR(100),
+    hr_phone VARCHAR(20),
+    industry VARCHAR(100),
+    is_active BOOLEAN,
+    is_verified BOOLEAN,
+    logo_url VARCHAR(500),
+    min_cgpa_requirement NUMERIC(4,2),
+    total_openings INTEGER,
+    updated_at TIMESTAMP,
+    website VARCHAR(500),
+    CONSTRAINT uk_companies_company_name UNIQUE (company_name)
+);
+
+CREATE TABLE job_applications (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    company_id BIGINT NOT NULL,
+    user_profile_id BIGINT NOT NULL,
+    application_date TIMESTAMP,
+    application_form_url VARCHAR(500),
+    application_source VARCHAR(255),
+    current_round VARCHAR(100),
+    follow_up_date DATE,
+    interview_date TIMESTAMP,
+    interview_feedback TEXT,
+    interview_score NUMERIC(5,2),
+    interviewer_notes TEXT,
+    job_description TEXT,
+    joining_date DATE,
+    notes TEXT,
+    offer_letter_url VARCHAR(500),
+    offered_package NUMERIC(12,2),
+    package_breakdown TEXT,
+    package_currency VARCHAR(10),
+    position_title VARCHAR(200) NOT NULL,
+    result_date DATE,
+    resume_submitted_url VARCHAR(500),
+    status VARCHAR(255),
+    updated_at TIMESTAMP,
+    CONSTRAINT fk_job_applications_user_profile FOREIGN KEY (user_profile_id) REFERENCES user_profiles (id),
+    CONSTRAINT fk_job_applications_company FOREIGN KEY (company_id) REFERENCES companies (id)
+);
+
+-- Per-student placement counters, kept up to date from job application changes
+CREATE TABLE placement_statistics (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_profile_id BIGINT NOT NULL,
+    applications_pending INTEGER,
+    applications_rejected INTEGER,
+    appwrite_user_id VARCHAR(255),
+    average_interview_score NUMERIC(5,2),
+    best_company_selected VARCHAR(200),
+    highest_package_offered NUMERIC(12,2),
+    interviews_attended INTEGER,
+    last_activity_date TIMESTAMP,
+    last_calculated TIMESTAMP,
+    offers_received INTEGER,
+    placement_status VARCHAR(255),
+    profile_score INTEGER,
+    profile_views INTEGER,
+    success_rate NUMERIC(5,2),
+    total_applications INTEGER,
+    CONSTRAINT uk_placement_statistics_user_profile_id UNIQUE (user_profile_id),
+    CONSTRAINT idx_placement_statistics_appwrite_user UNIQUE (appwrite_user_id),
+    CONSTRAINT fk_placement_statistics_user_profile FOREIGN KEY (user_profile_id) REFERENCES user_profiles (id)
+);
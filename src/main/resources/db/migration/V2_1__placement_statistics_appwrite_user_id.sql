@@ -0,0 +1,4 @@
+-- The dashboard reads placement statistics by Appwrite user ID. Databases baselined from
+-- ddl-auto=update predate that column and skip V1, so it is added here if missing.
+ALTER TABLE placement_statistics ADD COLUMN IF NOT EXISTS appwrite_user_id VARCHAR(255);
+CREATE UNIQUE INDEX IF NOT EXISTS idx_placement_statistics_appwrite_user ON placement_statistics (appwrite_user_id);
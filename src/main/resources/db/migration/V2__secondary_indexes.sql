@@ -0,0 +1,33 @@
+-- Secondary indexes. IF NOT EXISTS because databases baselined from ddl-auto=update already have
+-- the ones declared on the entities (@Table indexes).
+
+-- Profile listing and recruiter filters: keyset pages per department and per year
+CREATE INDEX IF NOT EXISTS idx_profiles_department_id ON user_profiles_simple (department, id);
+CREATE INDEX IF NOT EXISTS idx_profiles_year_id ON user_profiles_simple (current_year, id);
+
+-- Dashboard recent applications, placement statistics and per-company views
+CREATE INDEX IF NOT EXISTS idx_job_applications_profile_date ON job_applications (user_profile_id, application_date);
+CREATE INDEX IF NOT EXISTS idx_job_applications_profile_status ON job_applications (user_profile_id, status);
+CREATE INDEX IF NOT EXISTS idx_job_applications_company_status ON job_applications (company_id, status);
+CREATE INDEX IF NOT EXISTS idx_job_applications_date ON job_applications (application_date);
+
+CREATE INDEX IF NOT EXISTS idx_user_profiles_department ON user_profiles (department);
+CREATE INDEX IF NOT EXISTS idx_user_profiles_graduation_date ON user_profiles (expected_graduation_date);
+
+CREATE INDEX IF NOT EXISTS idx_academic_records_profile_level ON academic_records (user_profile_id, education_level);
+
+CREATE INDEX IF NOT EXISTS idx_skills_profile_name ON skills (user_profile_id, skill_name);
+CREATE INDEX IF NOT EXISTS idx_skills_category ON skills (skill_category);
+CREATE INDEX IF NOT EXISTS idx_skills_proficiency ON skills (proficiency_level);
+
+CREATE INDEX IF NOT EXISTS idx_projects_profile_type ON projects (user_profile_id, project_type);
+CREATE INDEX IF NOT EXISTS idx_projects_featured ON projects (is_featured);
+
+CREATE INDEX IF NOT EXISTS idx_experience_profile_type ON experience (user_profile_id, employment_type);
+CREATE INDEX IF NOT EXISTS idx_experience_company ON experience (company_name);
+
+CREATE INDEX IF NOT EXISTS idx_certifications_profile ON certifications (user_profile_id);
+CREATE INDEX IF NOT EXISTS idx_certifications_organization ON certifications (issuing_organization);
+
+CREATE INDEX IF NOT EXISTS idx_companies_industry ON companies (industry);
+CREATE INDEX IF NOT EXISTS idx_companies_active ON companies (is_active);
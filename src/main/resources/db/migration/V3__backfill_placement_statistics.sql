@@ -0,0 +1,45 @@
+-- One-time rebuild of placement_statistics from job_applications. Rows used to be created at zero
+-- on a student's first application change, so applications made before that were never counted.
+-- Later changes keep being applied as deltas on top of these totals.
+
+INSERT INTO placement_statistics (user_profile_id, appwrite_user_id, total_applications, applications_pending,
+        applications_rejected, interviews_attended, offers_received, profile_views, profile_score,
+        placement_status, success_rate, last_calculated)
+SELECT up.id, up.appwrite_user_id, 0, 0, 0, 0, 0, 0, 0, 'SEEKING', 0, CURRENT_TIMESTAMP
+FROM user_profiles up
+WHERE EXISTS (SELECT 1 FROM job_applications ja WHERE ja.user_profile_id = up.id)
+  AND NOT EXISTS (SELECT 1 FROM placement_statistics ps WHERE ps.user_profile_id = up.id);
+
+-- Same rules as PlacementStatisticsService: pending is APPLIED, SCREENING or INTERVIEW, an interview
+-- counts once its date is set, an offer is SELECTED, and the best offer is the highest offered package
+UPDATE placement_statistics ps SET
+    appwrite_user_id = COALESCE(ps.appwrite_user_id,
+        (SELECT up.appwrite_user_id FROM user_profiles up WHERE up.id = ps.user_profile_id)),
+    total_applications = (SELECT COUNT(*) FROM job_applications ja
+        WHERE ja.user_profile_id = ps.user_profile_id),
+    applications_pending = (SELECT COUNT(*) FROM job_applications ja
+        WHERE ja.user_profile_id = ps.user_profile_id AND ja.status IN ('APPLIED', 'SCREENING', 'INTERVIEW')),
+    applications_rejected = (SELECT COUNT(*) FROM job_applications ja
+        WHERE ja.user_profile_id = ps.user_profile_id AND ja.status = 'REJECTED'),
+    interviews_attended = (SELECT COUNT(*) FROM job_applications ja
+        WHERE ja.user_profile_id = ps.user_profile_id AND ja.interview_date IS NOT NULL),
+    offers_received = (SELECT COUNT(*) FROM job_applications ja
+        WHERE ja.user_profile_id = ps.user_profile_id AND ja.status = 'SELECTED'),
+    highest_package_offered = (SELECT MAX(ja.offered_package) FROM job_applications ja
+        WHERE ja.user_profile_id = ps.user_profile_id),
+    best_company_selected = (SELECT c.company_name FROM job_applications ja JOIN companies c ON c.id = ja.company_id
+        WHERE ja.user_profile_id = ps.user_profile_id AND ja.offered_package IS NOT NULL
+        ORDER BY ja.offered_package DESC, ja.id LIMIT 1),
+    last_activity_date = COALESCE(ps.last_activity_date,
+        (SELECT MAX(COALESCE(ja.updated_at, ja.application_date)) FROM job_applications ja
+         WHERE ja.user_profile_id = ps.user_profile_id)),
+    last_calculated = CURRENT_TIMESTAMP;
+
+-- Derived from the new counts as PlacementStatistics.addCounts does; statuses set by hand are kept
+UPDATE placement_statistics SET
+    success_rate = CASE WHEN total_applications > 0
+        THEN ROUND(CAST(offers_received AS NUMERIC(12, 4)) / total_applications, 2) * 100
+        ELSE 0 END,
+    placement_status = CASE WHEN placement_status IS NULL OR placement_status IN ('SEEKING', 'PLACED')
+        THEN CASE WHEN offers_received > 0 THEN 'PLACED' ELSE 'SEEKING' END
+        ELSE placement_status END;
@@ -41,21 +41,20 @@ async function handleResumeUpload(file, appwriteUserId) {
             atsScoreElement.textContent = '...';
         }
         
-        // Create form data for file upload
-        const formData = new FormData();
-        formData.append('file', file);
-        
-        console.log('Sending upload request to /api/v1/upload/resume');
+        console.log('Streaming upload request to /api/v1/upload/resume/stream');
         console.log('Headers:', { 'X-Appwrite-User-Id': appwriteUserId });
         
-        // Upload the file - this includes ATS analysis in the backend
-        const response = await fetch('/api/v1/upload/resume', {
-            method: 'POST',
+        // Send the raw file so the server writes it straight to storage without a multipart copy;
+        // the backend queues the ATS analysis and returns immediately
+        const response = await fetch('/api/v1/upload/resume/stream', {
+            method: 'PUT',
             headers: {
                 'X-Appwrite-User-Id': appwriteUserId,
+                'X-File-Name': encodeURIComponent(file.name),
+                'Content-Type': file.type,
                 'Accept': 'application/json'
             },
-            body: formData
+            body: file
         });
         
         console.log('Upload response status:', response.status);
@@ -71,12 +70,16 @@ async function handleResumeUpload(file, appwriteUserId) {
         console.log('Resume upload and analysis successful:', result);
         
         if (result.success) {
-            showMessage('Resume uploaded and analyzed successfully!', 'success');
+            showMessage('Resume uploaded! Analyzing your resume...', 'success');
             console.log('=== RESUME UPLOAD SUCCESS ===');
             console.log('File URL:', result.data?.fileUrl);
-            console.log('ATS Score:', result.data?.atsScore);
+            console.log('ATS Job:', result.data?.atsJobId);
+            
+            // The ATS analysis runs in the background; poll for the score without blocking
+            if (result.data?.atsStatusUrl) {
+                pollAtsJob(result.data.atsStatusUrl);
+            }
             
-            // Return the data including the ATS score
             return result.data;
         } else {
             throw new Error(result.message || 'Upload failed');
@@ -90,6 +93,47 @@ async function handleResumeUpload(file, appwriteUserId) {
     }
 }
 
+/**
+ * Poll an ATS analysis job until it finishes and show the score when available
+ */
+async function pollAtsJob(statusUrl, attempt = 0) {
+    const maxAttempts = 30;
+    try {
+        const response = await fetch(statusUrl, { headers: { 'Accept': 'application/json' } });
+        if (!response.ok) {
+            console.warn('ATS job status unavailable:', response.status);
+            return null;
+        }
+        
+        const result = await response.json();
+        const job = result.data;
+        
+        if (job.status === 'COMPLETED') {
+            console.log('ATS Score:', job.atsScore);
+            const atsScoreElement = document.getElementById('atsScoreValue');
+            if (atsScoreElement) {
+                atsScoreElement.textContent = job.atsScore;
+            }
+            showMessage('Resume analyzed successfully!', 'success');
+            return job;
+        }
+        if (job.status === 'FAILED') {
+            showMessage('Resume analysis failed, please try uploading again', 'error');
+            return job;
+        }
+    } catch (error) {
+        console.warn('ATS job polling error:', error);
+    }
+    
+    if (attempt + 1 >= maxAttempts) {
+        return null;
+    }
+    // Back off gradually: 1s, 1.5s, 2.25s ... capped at 5s
+    const delay = Math.min(1000 * Math.pow(1.5, attempt), 5000);
+    await new Promise(resolve => setTimeout(resolve, delay));
+    return pollAtsJob(statusUrl, attempt + 1);
+}
+
 /**
  * Show messages to user
  */
@@ -0,0 +1,144 @@
+package com.placement.expo.service;
+
+import com.placement.expo.entity.AcademicRecord;
+import com.placement.expo.entity.PlacementStatistics;
+import com.placement.expo.entity.Project;
+import com.placement.expo.entity.Skill;
+import com.placement.expo.entity.UserProfile;
+import com.placement.expo.model.ProfileView;
+import com.placement.expo.model.RecruiterCard;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The profile read models must take a fixed number of queries however many students they read
+ */
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ProfileViewService.class)
+class ProfileViewServiceTest {
+
+    private static final int STUDENTS = 100;
+    private static final int SKILLS = 3;
+    private static final int PROJECTS = 2;
+    private static final int ACADEMIC_RECORDS = 2;
+
+    @Autowired
+    private ProfileViewService profileViewService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seedStudents() {
+        for (int i = 0; i < STUDENTS; i++) {
+            UserProfile profile = entityManager.persist(UserProfile.builder()
+                    .appwriteUserId(appwriteUserId(i))
+                    .firstName("Student")
+                    .lastName(String.valueOf(i))
+                    .department("CSE")
+                    .course("B.Tech")
+                    .currentYear(3)
+                    .currentSemester(5)
+                    .build());
+            for (int s = 0; s < SKILLS; s++) {
+                entityManager.persist(Skill.builder()
+                        .userProfile(profile)
+                        .skillName("Skill " + s)
+                        .skillCategory(Skill.SkillCategory.TECHNICAL)
+                        .proficiencyLevel(Skill.ProficiencyLevel.INTERMEDIATE)
+                        .build());
+            }
+            for (int p = 0; p < PROJECTS; p++) {
+                entityManager.persist(Project.builder()
+                        .userProfile(profile)
+                        .projectName("Project " + p)
+                        .projectType(Project.ProjectType.ACADEMIC)
+                        .build());
+            }
+            entityManager.persist(AcademicRecord.builder()
+                    .userProfile(profile)
+                    .educationLevel(AcademicRecord.EducationLevel.TWELFTH)
+                    .institutionName("Senior Secondary School")
+                    .build());
+            entityManager.persist(AcademicRecord.builder()
+                    .userProfile(profile)
+                    .educationLevel(AcademicRecord.EducationLevel.GRADUATION)
+                    .institutionName("Institute of Technology")
+                    .build());
+            entityManager.persist(PlacementStatistics.builder()
+                    .userProfile(profile)
+                    .appwriteUserId(profile.getAppwriteUserId())
+                    .totalApplications(i % 5)
+                    .build());
+        }
+        entityManager.flush();
+        statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void fullProfilesTakeTheSameQueriesForOneAndAHundredStudents() {
+        long forOne = countStatements(() -> profileViewService.getFullProfiles(appwriteUserIds(1)), 1);
+        long forAll = countStatements(() -> {
+            List<ProfileView> views = profileViewService.getFullProfiles(appwriteUserIds(STUDENTS));
+            views.forEach(view -> {
+                assertThat(view.getStatistics()).isNotNull();
+                assertThat(view.getSkills()).hasSize(SKILLS);
+                assertThat(view.getProjects()).hasSize(PROJECTS);
+                assertThat(view.getAcademicRecords()).hasSize(ACADEMIC_RECORDS);
+            });
+            return views;
+        }, STUDENTS);
+
+        // Profiles with their statistics, then one query per collection
+        assertThat(forOne).isEqualTo(7);
+        assertThat(forAll).isEqualTo(forOne);
+    }
+
+    @Test
+    void recruiterCardsTakeTheSameQueriesForOneAndAHundredStudents() {
+        long forOne = countStatements(() -> profileViewService.getRecruiterCards(appwriteUserIds(1)), 1);
+        long forAll = countStatements(() -> {
+            List<RecruiterCard> cards = profileViewService.getRecruiterCards(appwriteUserIds(STUDENTS));
+            cards.forEach(card -> assertThat(card.getSkills()).hasSize(SKILLS));
+            return cards;
+        }, STUDENTS);
+
+        // Cards with their statistics, then the skill names
+        assertThat(forOne).isEqualTo(2);
+        assertThat(forAll).isEqualTo(forOne);
+    }
+
+    /**
+     * @return The statements prepared while reading, starting from an empty persistence context
+     */
+    private long countStatements(Supplier<List<?>> read, int expectedResults) {
+        entityManager.clear();
+        statistics.clear();
+        assertThat(read.get()).hasSize(expectedResults);
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static List<String> appwriteUserIds(int count) {
+        return IntStream.range(0, count).mapToObj(ProfileViewServiceTest::appwriteUserId).collect(Collectors.toList());
+    }
+
+    private static String appwriteUserId(int i) {
+        return "student-" + i;
+    }
+}